@@ -2,14 +2,17 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.3"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.example.reservation"
 version = "0.0.1-SNAPSHOT"
 
+// Java 21: 가상 스레드(Thread.ofVirtual, spring.threads.virtual.enabled)와 JFR jdk.VirtualThreadPinned 이벤트 사용
+// (컴파일과 실행 모두 21 이상 필요, 배포 런타임도 JDK 21 이상이어야 함)
 java {
 	toolchain {
-		languageVersion = JavaLanguageVersion.of(17)
+		languageVersion = JavaLanguageVersion.of(21)
 	}
 }
 
@@ -33,6 +36,7 @@ dependencies {
 	implementation("io.github.cdimascio:dotenv-java:3.0.0")
 	implementation("org.springframework:spring-aspects")
 	implementation("org.springframework.cloud:spring-cloud-starter-aws:2.2.6.RELEASE")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.mysql:mysql-connector-j")
 	annotationProcessor("org.projectlombok:lombok")
@@ -41,6 +45,9 @@ dependencies {
 	testImplementation("org.mockito:mockito-core")
 	testImplementation("org.mockito:mockito-junit-jupiter")
 	testImplementation("org.assertj:assertj-core:3.24.2")
+	testImplementation("org.springframework.boot:spring-boot-testcontainers")
+	testImplementation("org.testcontainers:junit-jupiter")
+	testImplementation("org.testcontainers:mysql")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 	
 	implementation("io.jsonwebtoken:jjwt-api:0.11.5")
@@ -51,3 +58,22 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 가상 스레드 모드: ./gradlew bootRun -PvirtualThreads
+// (요청 처리/@Async/@Scheduled를 가상 스레드에서 실행하고, 캐리어 스레드 고정(pinning)은 VirtualThreadPinningMonitor가 로그로 출력)
+tasks.named<org.springframework.boot.gradle.tasks.run.BootRun>("bootRun") {
+	if (providers.gradleProperty("virtualThreads").isPresent) {
+		systemProperty("spring.threads.virtual.enabled", "true")
+	}
+}
+
+// 마이크로벤치마크: ./gradlew jmh (결과는 build/reports/jmh/results.json, 커밋 간 비교용)
+jmh {
+	jmhVersion = "1.37"
+	resultFormat = "JSON"
+	resultsFile = layout.buildDirectory.file("reports/jmh/results.json")
+	fork = 1
+	warmupIterations = 3
+	iterations = 5
+	includes = listOfNotNull(providers.gradleProperty("jmhIncludes").orNull)
+}
@@ -0,0 +1,86 @@
+package com.reservation.config;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 생성/검증 및 인증 필터의 인증 객체 생성 비용 측정
+ * - 캐시 적중(cached)과 매번 서명 검증(uncached) 경로를 함께 측정합니다.
+ * - authenticateWithUserDetails는 UserDetails를 만들던 이전 인증 방식의 비교 기준입니다.
+ * - 할당량 비교: ./gradlew jmh -PjmhIncludes=JwtAuthentication (프로파일러 gc 사용 시 jmh { profilers = listOf("gc") })
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-0123456789abcdef".getBytes());
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 10_000, 600);
+        uncachedProvider = new JwtTokenProvider(SECRET, 3_600_000, 10_000, 0);
+        token = cachedProvider.generateToken(1L, "OWNER", true);
+        cachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedProvider.generateToken(1L, "OWNER", true);
+    }
+
+    @Benchmark
+    public Claims parseTokenCached() {
+        return cachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public Claims parseTokenUncached() {
+        return uncachedProvider.parseToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return cachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public boolean validateTokenUncached() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication authenticate() {
+        return new JwtAuthenticationToken(cachedProvider.resolveUser(token));
+    }
+
+    @Benchmark
+    public Authentication authenticateWithUserDetails() {
+        Claims claims = cachedProvider.parseToken(token);
+        UserDetails userDetails = User.builder()
+                .username(claims.getSubject())
+                .password("")
+                .roles(claims.get("role", String.class))
+                .build();
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+}
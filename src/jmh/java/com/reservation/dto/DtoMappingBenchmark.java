@@ -0,0 +1,74 @@
+package com.reservation.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.reservation.domain.Reservation;
+import com.reservation.domain.Review;
+import com.reservation.domain.ReviewImage;
+import com.reservation.domain.Store;
+import com.reservation.domain.User;
+import com.reservation.dto.review.CreateReview;
+import com.reservation.type.ReservationStatus;
+
+/**
+ * 엔티티 → 응답 DTO 변환 비용 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DtoMappingBenchmark {
+
+    private Reservation reservation;
+    private Review review;
+    private List<ReviewImage> images;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).build();
+        Store store = Store.builder().id(100L).build();
+        LocalDateTime now = LocalDateTime.of(2025, 5, 1, 18, 0);
+
+        reservation = Reservation.builder()
+                .id(10L)
+                .user(user)
+                .store(store)
+                .reservationTime(now)
+                .createdAt(now.minusDays(1))
+                .status(ReservationStatus.CONFIRMED)
+                .phoneNumber("010-1234-5678")
+                .build();
+
+        review = Review.builder()
+                .id(1000L)
+                .reservation(reservation)
+                .user(user)
+                .store(store)
+                .rating(5)
+                .content("맛있어요")
+                .build();
+
+        images = List.of(
+                ReviewImage.builder().id(1L).review(review).imageUrl("https://example.com/a.jpg").build(),
+                ReviewImage.builder().id(2L).review(review).imageUrl("https://example.com/b.jpg").build());
+    }
+
+    @Benchmark
+    public ReservationDto reservationDtoFromEntity() {
+        return ReservationDto.fromEntity(reservation);
+    }
+
+    @Benchmark
+    public CreateReview.Response reviewResponseFromEntity() {
+        return CreateReview.Response.fromEntity(review, images);
+    }
+}
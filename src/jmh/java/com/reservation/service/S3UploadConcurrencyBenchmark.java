@@ -0,0 +1,119 @@
+package com.reservation.service;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+/**
+ * S3 응답이 느릴 때 요청 처리 스레드 모델별 업로드 처리량 비교 (부하 테스트)
+ * - AmazonS3는 putObject에서 지정한 지연만큼 블로킹하는 프록시로 대체합니다.
+ * - 동시에 들어온 업로드 요청 CONCURRENT_REQUESTS건을 S3UploaderService.upload로 처리하는 데 걸린 시간으로 처리량(ops/s)을 계산합니다.
+ *   - platform: Tomcat 기본값과 같은 200개 플랫폼 스레드 풀
+ *   - virtual: 요청마다 가상 스레드 (spring.threads.virtual.enabled=true와 같은 모델)
+ *   - virtual-pinned: 가상 스레드이지만 업로드를 synchronized 안에서 호출 (캐리어 고정 시 처리량이 코어 수로 제한됨을 확인)
+ * - 실제 환경에서는 S3 클라이언트 커넥션 풀(cloud.aws.s3.max-connections)이 동시 업로드 수의 상한이 됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+public class S3UploadConcurrencyBenchmark {
+
+    private static final int CONCURRENT_REQUESTS = 1000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual", "virtual-pinned"})
+    private String threads;
+
+    @Param({"50", "200"})
+    private long s3LatencyMillis;
+
+    private S3UploaderService s3UploaderService;
+    private MultipartFile file;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() throws Exception {
+        AmazonS3 slowS3 = (AmazonS3) Proxy.newProxyInstance(
+                AmazonS3.class.getClassLoader(),
+                new Class<?>[] {AmazonS3.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "putObject" -> {
+                        Thread.sleep(s3LatencyMillis);
+                        yield new PutObjectResult();
+                    }
+                    case "getUrl" -> new URL("https://bench-bucket.s3.amazonaws.com/" + args[1]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        s3UploaderService = new S3UploaderService(slowS3);
+        Field bucket = S3UploaderService.class.getDeclaredField("bucket");
+        bucket.setAccessible(true);
+        bucket.set(s3UploaderService, "bench-bucket");
+
+        byte[] content = new byte[16 * 1024];
+        file = (MultipartFile) Proxy.newProxyInstance(
+                MultipartFile.class.getClassLoader(),
+                new Class<?>[] {MultipartFile.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getOriginalFilename" -> "review.jpg";
+                    case "getContentType" -> "image/jpeg";
+                    case "getSize" -> (long) content.length;
+                    case "getInputStream" -> new ByteArrayInputStream(content);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        executor = "platform".equals(threads)
+                ? Executors.newFixedThreadPool(PLATFORM_POOL_SIZE)
+                : Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CONCURRENT_REQUESTS)
+    public void concurrentUploads() throws Exception {
+        boolean pinned = "virtual-pinned".equals(threads);
+        List<Future<String>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(executor.submit(() -> {
+                if (pinned) {
+                    synchronized (new Object()) {
+                        return s3UploaderService.upload(file, "reviews");
+                    }
+                }
+                return s3UploaderService.upload(file, "reviews");
+            }));
+        }
+        for (Future<String> result : results) {
+            result.get();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.reservation.service;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.reservation.dto.StoreDto;
+
+/**
+ * 매장 목록 조회 경로의 행 매핑과 거리 계산 비용 측정
+ * - ResultSet은 고정 값을 돌려주는 프록시로 대체하여 DB 없이 매핑 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreListingBenchmark {
+
+    private static final Map<String, Object> ROW = Map.of(
+            "store_id", 42L,
+            "store_name", "벤치마크 식당",
+            "lat", 37.5665,
+            "lng", 126.9780,
+            "avg_rating", 4.5,
+            "distance", 1.25);
+
+    private RowMapper<StoreDto> rowMapper;
+    private ResultSet resultSet;
+
+    private double lat1 = 37.5665;
+    private double lng1 = 126.9780;
+    private double lat2 = 37.4979;
+    private double lng2 = 127.0276;
+
+    @Setup
+    public void setUp() {
+        rowMapper = StoreService.storeRowMapper();
+        resultSet = (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] {ResultSet.class},
+                (proxy, method, args) -> ROW.get((String) args[0]));
+    }
+
+    @Benchmark
+    public StoreDto storeRowMapper() throws SQLException {
+        return rowMapper.mapRow(resultSet, 0);
+    }
+
+    @Benchmark
+    public double haversineKm() {
+        return StoreGeoIndex.haversineKm(lat1, lng1, lat2, lng2);
+    }
+}
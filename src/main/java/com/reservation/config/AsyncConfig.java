@@ -0,0 +1,14 @@
+package com.reservation.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * 비동기 실행 설정 클래스
+ * - @Async 메소드는 Spring Boot가 등록하는 applicationTaskExecutor에서 실행됩니다.
+ * - spring.threads.virtual.enabled=true이면 applicationTaskExecutor도 가상 스레드를 사용합니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+}
@@ -0,0 +1,27 @@
+package com.reservation.config;
+
+import com.reservation.type.UserType;
+
+/**
+ * 요청 단위 인증 사용자 정보 (불변)
+ * - JwtAuthenticationFilter가 토큰을 검증한 뒤 요청마다 한 번 만들어 request 속성에 저장합니다.
+ * - 컨트롤러에서는 @LoginUser 파라미터로 주입받아 사용합니다.
+ *
+ * @param userId 사용자 ID (토큰 subject)
+ * @param role 사용자 권한 문자열 (예: "VISITER", "OWNER", "ADMIN")
+ */
+public record AuthenticatedUser(Long userId, String role) {
+
+    /** request 속성 이름 */
+    public static final String ATTRIBUTE = AuthenticatedUser.class.getName();
+
+    /**
+     * 사용자 권한이 주어진 유형인지 확인
+     *
+     * @param type 사용자 유형
+     * @return 일치 여부
+     */
+    public boolean hasRole(UserType type) {
+        return type.name().equals(role);
+    }
+}
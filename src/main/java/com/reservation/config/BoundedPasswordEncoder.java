@@ -0,0 +1,36 @@
+package com.reservation.config;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.reservation.service.PasswordHashingExecutor;
+
+/**
+ * 해시 생성/검증을 전용 작업 풀(PasswordHashingExecutor)에서 실행하는 PasswordEncoder
+ * - 서비스 코드는 기존처럼 PasswordEncoder를 사용하고, 동시에 실행되는 BCrypt 연산 수만 제한됩니다.
+ * - 작업 풀이 가득 차면 ServerBusyException(503)이 발생합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor passwordHashingExecutor) {
+        this.delegate = delegate;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingExecutor.call(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingExecutor.call(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
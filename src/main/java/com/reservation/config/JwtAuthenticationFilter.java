@@ -1,6 +1,5 @@
 package com.reservation.config;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,9 +7,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -49,30 +45,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. 요청에서 Authorization 헤더로부터 JWT 토큰 추출
         String token = getTokenFromRequest(request);
 
-        // 2. 토큰이 존재하고 유효하면 사용자 정보 추출
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            Claims claims = jwtTokenProvider.parseToken(token);
+        // 2. 토큰이 존재하고 유효하면 인증 사용자 조회 (검증 결과와 사용자 정보는 토큰 만료까지 캐시됨)
+        AuthenticatedUser user = token != null ? jwtTokenProvider.resolveUser(token) : null;
+        if (user != null) {
+            // request scope에 인증 사용자 저장 (컨트롤러에서 @LoginUser로 주입)
+            request.setAttribute(AuthenticatedUser.ATTRIBUTE, user);
 
-            // JWT claims에서 사용자 ID 및 역할(role) 추출
-            String userId = claims.getSubject();
-            String role = claims.get("role", String.class);
-
-            // request scope에 사용자 ID 저장 (컨트롤러에서 활용 가능)
-            request.setAttribute("userId", Long.parseLong(userId));
-
-            // Spring Security에서 사용할 UserDetails 생성
-            UserDetails userDetails = User.builder()
-                    .username(userId)
-                    .password("") // 비밀번호는 사용되지 않음
-                    .roles(role)
-                    .build();
-
-            // 인증 객체 생성 및 SecurityContext에 등록
-            JwtAuthenticationToken authentication = new JwtAuthenticationToken(
-                    userDetails, userDetails.getAuthorities());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 인증 객체 생성 및 SecurityContext에 등록 (UserDetails 없이 사용자 정보와 공유 권한 목록만 보관)
+            SecurityContextHolder.getContext().setAuthentication(new JwtAuthenticationToken(user));
         }
 
         // 다음 필터로 요청 전달
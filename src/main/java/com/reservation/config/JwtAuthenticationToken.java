@@ -1,32 +1,55 @@
 package com.reservation.config;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 /**
  * JWT 기반 인증을 위한 커스텀 AuthenticationToken
  * - Spring Security의 인증 객체로 사용됩니다.
- * - JWT 토큰이 유효할 경우, 사용자 정보를 포함한 인증 객체를 생성합니다.
+ * - JWT 토큰이 유효할 경우, 인증 사용자(AuthenticatedUser)를 principal로 갖는 인증 객체를 생성합니다.
+ * - UserDetails를 만들지 않고, 권한 목록은 역할별로 한 번만 만들어 모든 요청이 공유합니다.
  */
 public class JwtAuthenticationToken extends AbstractAuthenticationToken {
 
-    private final UserDetails principal;
+    /** 역할 → 권한 목록 (ROLE_ 접두사 포함, 불변) */
+    private static final Map<String, List<GrantedAuthority>> AUTHORITIES_BY_ROLE = new ConcurrentHashMap<>();
+
+    private final AuthenticatedUser principal;
+    private final List<GrantedAuthority> authorities;
 
     /**
      * 생성자
      *
-     * @param principal   인증된 사용자 정보 (UserDetails)
-     * @param authorities 사용자 권한 목록 (역할/권한 정보)
+     * @param principal 인증된 사용자 정보 (사용자 ID, 역할)
      */
-    public JwtAuthenticationToken(UserDetails principal, Collection<? extends GrantedAuthority> authorities) {
-        super(authorities);
+    public JwtAuthenticationToken(AuthenticatedUser principal) {
+        super(AuthorityUtils.NO_AUTHORITIES);
         this.principal = principal;
+        this.authorities = authoritiesOf(principal.role());
         setAuthenticated(true); // 토큰이 유효하므로 인증된 상태로 설정
     }
 
+    /**
+     * 역할에 해당하는 공유 권한 목록 반환 (역할이 없으면 빈 목록)
+     *
+     * @param role 사용자 역할 (예: "OWNER")
+     * @return 불변 권한 목록
+     */
+    static List<GrantedAuthority> authoritiesOf(String role) {
+        if (role == null) {
+            return List.of();
+        }
+        return AUTHORITIES_BY_ROLE.computeIfAbsent(role,
+                r -> List.of(new SimpleGrantedAuthority("ROLE_" + r)));
+    }
+
     /**
      * 자격 증명 정보 반환
      * - JWT 인증에서는 별도의 비밀번호가 필요 없기 때문에 null 반환
@@ -41,10 +64,26 @@ public class JwtAuthenticationToken extends AbstractAuthenticationToken {
     /**
      * 인증된 사용자 객체 반환
      *
-     * @return principal (UserDetails)
+     * @return principal (AuthenticatedUser)
      */
     @Override
     public Object getPrincipal() {
         return principal;
     }
+
+    /**
+     * 사용자 권한 목록 반환 (역할별 공유 인스턴스)
+     */
+    @Override
+    public Collection<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * 인증 주체 이름 (사용자 ID)
+     */
+    @Override
+    public String getName() {
+        return String.valueOf(principal.userId());
+    }
 }
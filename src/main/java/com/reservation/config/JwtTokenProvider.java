@@ -1,14 +1,23 @@
 package com.reservation.config;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,24 +25,69 @@ import io.jsonwebtoken.security.Keys;
 /**
  * JWT 토큰을 생성, 파싱, 검증하는 유틸리티 클래스
  * - 사용자 인증 및 인가 처리를 위한 JWT 처리 전담
+ * - 파서는 생성 시 한 번만 만들어 재사용합니다. (JwtParser는 스레드 안전)
+ * - 검증에 성공한 토큰의 Claims는 토큰 해시(SHA-256)를 키로 토큰 만료 시각까지 캐시하여,
+ *   같은 토큰의 서명 검증과 JSON 파싱은 서버당 캐시 유지 기간에 한 번만 수행됩니다.
  */
 @Component
 public class JwtTokenProvider {
 
     private final Key key;
     private final long expiration;
+    private final JwtParser parser;
+
+    /** 검증된 토큰 해시 → Claims (읽기 전용으로만 사용) */
+    private final Cache<String, VerifiedClaims> verifiedClaims;
 
     /**
-     * 생성자: 시크릿 키를 디코딩하고 서명용 Key 객체로 변환
+     * 생성자: 시크릿 키를 디코딩하고 서명용 Key 객체와 파서를 생성
      *
      * @param secretKey  base64로 인코딩된 시크릿 키
      * @param expiration JWT 유효 시간 (밀리초)
+     * @param cacheMaximumSize 검증 결과 캐시 최대 토큰 수
+     * @param cacheMaxTtlSeconds 검증 결과 캐시 최대 유지 시간 (토큰 만료가 더 이르면 만료 시각까지)
      */
     public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
-                            @Value("${jwt.experation}") long expiration) {
+                            @Value("${jwt.experation}") long expiration,
+                            @Value("${jwt.claims-cache.maximum-size:100000}") long cacheMaximumSize,
+                            @Value("${jwt.claims-cache.max-ttl-seconds:600}") long cacheMaxTtlSeconds) {
         byte[] decodedKey = Base64.getDecoder().decode(secretKey);
         this.key = Keys.hmacShaKeyFor(decodedKey);
         this.expiration = expiration;
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        long maxTtlNanos = TimeUnit.SECONDS.toNanos(cacheMaxTtlSeconds);
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<String, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, VerifiedClaims value, long currentTime) {
+                        if (value.expiresAtMillis() == Long.MAX_VALUE) {
+                            return maxTtlNanos;
+                        }
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return Math.max(0, Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, VerifiedClaims value, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, VerifiedClaims value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 검증된 Claims, 인증 사용자 정보와 토큰 만료 시각 (만료 정보가 없으면 Long.MAX_VALUE)
+     */
+    private record VerifiedClaims(Claims claims, AuthenticatedUser user, long expiresAtMillis) {
     }
 
     /**
@@ -56,16 +110,64 @@ public class JwtTokenProvider {
 
     /**
      * JWT 토큰에서 Claims(정보) 추출
+     * - 이전에 검증한 토큰이면 캐시된 Claims를 반환하고, 처음 보는 토큰만 서명을 검증합니다.
+     * - 반환된 Claims는 여러 요청이 공유하므로 수정하면 안 됩니다.
      *
      * @param token JWT 문자열
      * @return 파싱된 Claims 객체 (subject, role 등 포함)
+     * @throws JwtException 서명 위조, 만료 등으로 유효하지 않은 토큰
      */
     public Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(token).claims();
+    }
+
+    /**
+     * 유효한 토큰이면 Claims를, 그렇지 않으면 null을 반환 (인증 필터용 단일 파싱 경로)
+     *
+     * @param token JWT 문자열
+     * @return 검증된 Claims 또는 null
+     */
+    public Claims resolveClaims(String token) {
+        try {
+            return parseToken(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 유효한 토큰이면 인증 사용자 정보를, 그렇지 않으면 null을 반환 (인증 필터용)
+     * - 사용자 정보는 검증 시 한 번 만들어 캐시하므로 같은 토큰의 요청은 같은 인스턴스를 공유합니다.
+     *
+     * @param token JWT 문자열
+     * @return 인증 사용자 정보 또는 null
+     */
+    public AuthenticatedUser resolveUser(String token) {
+        try {
+            return verify(token).user();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 서명을 검증하여 캐시에 저장
+     */
+    private VerifiedClaims verify(String token) {
+        String tokenHash = hash(token);
+        VerifiedClaims cached = verifiedClaims.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        AuthenticatedUser user = new AuthenticatedUser(Long.parseLong(claims.getSubject()),
+                claims.get("role", String.class));
+        Date expiresAt = claims.getExpiration();
+        VerifiedClaims verified = new VerifiedClaims(claims, user,
+                expiresAt != null ? expiresAt.getTime() : Long.MAX_VALUE);
+        verifiedClaims.put(tokenHash, verified);
+        return verified;
     }
 
     /**
@@ -96,11 +198,18 @@ public class JwtTokenProvider {
      * @return 유효하면 true, 그렇지 않으면 false
      */
     public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
+    /**
+     * 토큰 원문 대신 캐시 키로 사용할 SHA-256 해시
+     */
+    private static String hash(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (JwtException e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
@@ -0,0 +1,15 @@
+package com.reservation.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메소드 파라미터에 현재 요청의 인증 사용자(AuthenticatedUser)를 주입
+ * - LoginUserArgumentResolver가 처리합니다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LoginUser {
+}
@@ -0,0 +1,37 @@
+package com.reservation.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @LoginUser AuthenticatedUser 파라미터를 처리하는 ArgumentResolver
+ * - 인증 필터가 request 속성에 저장한 값을 그대로 꺼내므로 헤더 파싱이나 Claims 조회가 없습니다.
+ */
+public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(LoginUser.class)
+                && AuthenticatedUser.class.equals(parameter.getParameterType());
+    }
+
+    /**
+     * 인증 사용자 반환
+     *
+     * @throws AuthenticationCredentialsNotFoundException 인증되지 않은 요청 (401 처리)
+     */
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object user = webRequest.getAttribute(AuthenticatedUser.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            throw new AuthenticationCredentialsNotFoundException("인증 정보가 없습니다.");
+        }
+        return user;
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
@@ -32,17 +33,24 @@ public class S3Config {
      *
      * @param accessKey AWS Access Key
      * @param secretKey AWS Secret Key
+     * @param maxConnections S3 HTTP 커넥션 풀 최대 크기 (동시 업로드 수 상한)
      * @return 인증된 AmazonS3 클라이언트 객체
      */
     @Bean
     public AmazonS3 amazonS3(@Value("${cloud.aws.credentials.access-key}") String accessKey,
-                             @Value("${cloud.aws.credentials.secret-key}") String secretKey) {
+                             @Value("${cloud.aws.credentials.secret-key}") String secretKey,
+                             @Value("${cloud.aws.s3.max-connections:50}") int maxConnections) {
 
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
 
+        // 가상 스레드 모드에서는 요청 스레드 수 대신 커넥션 풀이 S3 동시 호출 수를 제한하므로 크기를 설정으로 노출
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withMaxConnections(maxConnections);
+
         return AmazonS3ClientBuilder.standard()
                 .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
+                .withClientConfiguration(clientConfiguration)
                 .build();
     }
 }
@@ -1,4 +1,9 @@
 package com.reservation.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -6,11 +11,14 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import com.reservation.service.PasswordHashingExecutor;
+
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -48,10 +56,10 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/users/auth/login", "/users/signup").permitAll()
-                .requestMatchers("/stores/list").permitAll()
+                .requestMatchers("/users/auth/login", "/users/signup", "/users/check-availability").permitAll()
+                .requestMatchers("/stores/list", "/stores/*/availability").permitAll()
                 .requestMatchers("/stores/register", "/stores/delete", "/stores/update").hasRole("OWNER")
-                .requestMatchers("/reservation/admin/**").hasRole("ADMIN")
+                .requestMatchers("/reservation/admin/**", "/admin/**").hasRole("ADMIN")
                 .requestMatchers("/reservation/owner/**", "/reservation/confirm", "/reservation/check-in/**").hasRole("OWNER")
                 .requestMatchers("/reservation/**", "/reviews/**", "/upload/**").authenticated()
                 .anyRequest().authenticated()
@@ -64,10 +72,31 @@ public class SecurityConfig {
 
     /**
      * 패스워드 인코더 Bean 등록
-     * - BCrypt 해시 알고리즘 사용
+     * - 새 해시는 설정한 알고리즘({bcrypt} 또는 {pbkdf2} 접두사)과 BCrypt cost로 생성
+     * - 접두사가 없는 기존 해시는 BCrypt로 검증 (cost는 해시에 기록된 값 사용)
+     * - 저장된 해시의 알고리즘/cost가 설정과 다르면 upgradeEncoding()이 true를 반환하여 로그인 시 재해시됩니다.
+     * - 해시 연산은 크기가 제한된 전용 작업 풀에서 실행 (과부하 시 503)
+     *
+     * @param passwordHashingExecutor 비밀번호 해시 작업 풀
+     * @param algorithm 새 해시에 사용할 알고리즘 (bcrypt, pbkdf2)
+     * @param bcryptStrength BCrypt 목표 cost (4~31)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+                                           @Value("${password.encoder.algorithm:bcrypt}") String algorithm,
+                                           @Value("${password.encoder.bcrypt-strength:10}") int bcryptStrength) {
+        PasswordEncoder bcrypt = new TargetCostBCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put("bcrypt", bcrypt);
+        encoders.put("pbkdf2", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalArgumentException("지원하지 않는 password.encoder.algorithm: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(algorithm, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        return new BoundedPasswordEncoder(delegating, passwordHashingExecutor);
     }
 }
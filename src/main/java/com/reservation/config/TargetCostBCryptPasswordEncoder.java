@@ -0,0 +1,37 @@
+package com.reservation.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 목표 cost와 다른 해시를 재해시 대상으로 판단하는 BCrypt 인코더
+ * - 기본 BCryptPasswordEncoder는 cost가 낮은 해시만 재해시 대상으로 보지만,
+ *   이 인코더는 cost를 낮추는 경우(로그인 CPU 비용 절감)도 재해시 대상으로 판단합니다.
+ * - 검증(matches)은 해시에 기록된 cost를 그대로 사용하므로 cost가 달라도 기존 해시로 로그인할 수 있습니다.
+ */
+public class TargetCostBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    /** $2a$10$... 형식에서 cost 추출 */
+    private static final Pattern COST_PATTERN = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final int strength;
+
+    public TargetCostBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = COST_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+}
@@ -0,0 +1,89 @@
+package com.reservation.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 진단기 (가상 스레드 모드에서만 활성화)
+ * - synchronized 블록이나 네이티브 호출 안에서 블로킹되면 가상 스레드가 캐리어 스레드를 놓지 못해
+ *   다른 가상 스레드가 실행되지 못합니다. (JDK 21 기준)
+ * - JFR jdk.VirtualThreadPinned 이벤트를 애플리케이션 안에서 구독해, 임계값 이상 고정된 경우 스택과 함께 경고 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final int maxFrames;
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMillis,
+                                       @Value("${virtual-threads.pinning.max-frames:8}") int maxFrames) {
+        this.threshold = Duration.ofMillis(thresholdMillis);
+        this.maxFrames = maxFrames;
+    }
+
+    /**
+     * 애플리케이션 시작 후 고정 이벤트 구독 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 진단 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    /**
+     * 지금까지 감지한 고정 횟수
+     */
+    public long pinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        log.warn("가상 스레드가 캐리어에 {}ms 동안 고정됨 (thread={})\n{}",
+                event.getDuration().toMillis(),
+                event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                formatStack(event));
+    }
+
+    private String formatStack(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "\t(스택 없음)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(maxFrames)
+                .map(frame -> "\tat " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + (frame.getLineNumber() > 0 ? ":" + frame.getLineNumber() : ""))
+                .collect(Collectors.joining("\n"));
+    }
+}
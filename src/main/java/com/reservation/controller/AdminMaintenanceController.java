@@ -0,0 +1,55 @@
+package com.reservation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservation.service.SlotCapacityManager;
+import com.reservation.service.StoreService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 데이터 보정 작업 API
+ * - 전체 테이블을 갱신하는 보정 작업은 애플리케이션 시작 시 자동 실행하지 않고,
+ *   필요할 때(데이터 이전 직후, 정합성 오류 확인 시) 관리자가 한 번 실행합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/maintenance")
+public class AdminMaintenanceController {
+
+    private final SlotCapacityManager slotCapacityManager;
+    private final StoreService storeService;
+
+    /**
+     * 보정 작업 결과
+     *
+     * @param updatedRows 갱신된 행 수
+     */
+    public record Result(int updatedRows) {
+    }
+
+    /**
+     * 슬롯 점유 수 재계산 API (관리자 전용)
+     * - 현재 슬롯 이후의 store_slots 점유 수를 예약 테이블 기준으로 다시 기록
+     *
+     * @return 점유 수를 초기화한 슬롯 행 수
+     */
+    @PostMapping("/slot-reconcile")
+    public ResponseEntity<Result> reconcileSlots() {
+        return ResponseEntity.ok(new Result(slotCapacityManager.reconcile()));
+    }
+
+    /**
+     * 매장 평점 집계 재계산 API (관리자 전용)
+     * - stores의 평점 합계/개수/평균을 reviews 테이블 기준으로 다시 기록
+     *
+     * @return 갱신된 매장 행 수
+     */
+    @PostMapping("/store-ratings")
+    public ResponseEntity<Result> recalculateStoreRatings() {
+        return ResponseEntity.ok(new Result(storeService.recalculateRatings()));
+    }
+}
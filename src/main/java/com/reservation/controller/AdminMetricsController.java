@@ -0,0 +1,107 @@
+package com.reservation.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.reservation.service.LoginRateLimiter;
+import com.reservation.service.PasswordHashingExecutor;
+import com.reservation.service.ReviewImageVariantGenerator;
+import com.reservation.service.S3DeletionOutbox;
+import com.reservation.service.S3StreamingUploader;
+import com.reservation.service.SignupAvailabilityFilter;
+import com.reservation.service.StoreListCache;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/admin/metrics")
+public class AdminMetricsController {
+
+    private final StoreListCache storeListCache;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginRateLimiter loginRateLimiter;
+    private final SignupAvailabilityFilter signupAvailabilityFilter;
+    private final S3DeletionOutbox s3DeletionOutbox;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final ReviewImageVariantGenerator reviewImageVariantGenerator;
+
+    /**
+     * 매장 목록 캐시 통계 조회 API (관리자 전용)
+     * - 적중/미스 횟수, 적중률, 용량·TTL에 의한 제거 횟수, 변경에 의한 무효화 횟수, 현재 항목 수
+     *
+     * @return 매장 목록 캐시 통계
+     */
+    @GetMapping("/store-list-cache")
+    public ResponseEntity<StoreListCache.Stats> getStoreListCacheStats() {
+        return ResponseEntity.ok(storeListCache.stats());
+    }
+
+    /**
+     * 비밀번호 해시 작업 풀 상태 조회 API (관리자 전용)
+     * - 스레드 수, 실행/대기 중인 작업 수, 남은 대기열, 완료/거절 횟수
+     *
+     * @return 비밀번호 해시 작업 풀 상태
+     */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<PasswordHashingExecutor.Stats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.stats());
+    }
+
+    /**
+     * 로그인 횟수 제한 통계 조회 API (관리자 전용)
+     * - IP/계정 기준 거절 횟수, 현재 추적 중인 IP/계정 수
+     *
+     * @return 로그인 횟수 제한 통계
+     */
+    @GetMapping("/login-rate-limit")
+    public ResponseEntity<LoginRateLimiter.Stats> getLoginRateLimitStats() {
+        return ResponseEntity.ok(loginRateLimiter.stats());
+    }
+
+    /**
+     * 회원가입 중복 확인 필터 통계 조회 API (관리자 전용)
+     * - 구성 여부, DB 조회 생략/수행 횟수, 필터 크기
+     *
+     * @return 회원가입 중복 확인 필터 통계
+     */
+    @GetMapping("/signup-availability-filter")
+    public ResponseEntity<SignupAvailabilityFilter.Stats> getSignupAvailabilityFilterStats() {
+        return ResponseEntity.ok(signupAvailabilityFilter.stats());
+    }
+
+    /**
+     * S3 객체 삭제 outbox 통계 조회 API (관리자 전용)
+     * - 삭제 대기 항목 수, 삭제 완료 횟수, 실패한 시도 횟수
+     *
+     * @return S3 객체 삭제 outbox 통계
+     */
+    @GetMapping("/s3-deletion-outbox")
+    public ResponseEntity<S3DeletionOutbox.Stats> getS3DeletionOutboxStats() {
+        return ResponseEntity.ok(s3DeletionOutbox.stats());
+    }
+
+    /**
+     * S3 스트리밍 업로드 통계 조회 API (관리자 전용)
+     * - 파트 크기, 버퍼 풀 크기/사용량, 단일/멀티파트 완료 횟수, 중단/거절 횟수
+     *
+     * @return S3 스트리밍 업로드 통계
+     */
+    @GetMapping("/s3-streaming-upload")
+    public ResponseEntity<S3StreamingUploader.Stats> getS3StreamingUploadStats() {
+        return ResponseEntity.ok(s3StreamingUploader.stats());
+    }
+
+    /**
+     * 리뷰 이미지 리사이즈 작업 풀 상태 조회 API (관리자 전용)
+     * - 스레드 수, 처리/대기 중인 작업 수, 생성/원본 대체/실패/거절 횟수
+     *
+     * @return 리뷰 이미지 리사이즈 작업 풀 상태
+     */
+    @GetMapping("/review-image-variants")
+    public ResponseEntity<ReviewImageVariantGenerator.Stats> getReviewImageVariantStats() {
+        return ResponseEntity.ok(reviewImageVariantGenerator.stats());
+    }
+}
@@ -1,46 +1,64 @@
 package com.reservation.controller;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.reservation.config.JwtTokenProvider;
 import com.reservation.dto.auth.LoginRequest;
 import com.reservation.dto.auth.LoginResponse;
+import com.reservation.service.LoginRateLimiter;
 import com.reservation.service.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 @RestController
 @RequestMapping("/users/auth")
 public class AuthController {
 
     private final UserService userService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginRateLimiter loginRateLimiter;
 
-    public AuthController(UserService userService, JwtTokenProvider jwtTokenProvider) {
+    public AuthController(UserService userService, JwtTokenProvider jwtTokenProvider,
+                          LoginRateLimiter loginRateLimiter) {
         this.userService = userService;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.loginRateLimiter = loginRateLimiter;
     }
 
     /**
      * 사용자 로그인 요청 처리
      * - 이메일과 비밀번호를 검증하고, 유효한 경우 JWT 토큰을 발급합니다.
      * - 로그인 성공 시 사용자 정보와 함께 토큰을 반환합니다.
+     * - 횟수 제한과 사용자 조회는 요청 스레드에서 처리하고, 비밀번호 검증(BCrypt)은 해시 전용 작업 풀에 제출한 뒤
+     *   요청 스레드를 반환합니다. 검증이 끝나면 해시 작업 스레드에서 토큰을 발급해 응답합니다. (HMAC 서명만 수행)
+     * - 해시 작업 풀 대기열이 가득 차면 요청 스레드에서 바로 503으로 거절하고,
+     *   대기 시간 제한(password.hashing.wait-timeout-ms) 안에 검증을 시작하지 못해도 503으로 응답합니다.
+     * - IP별/계정별 시도 횟수를 넘으면 DB 조회와 비밀번호 검증 없이 429로 거절합니다.
      *
      * @param request 로그인 요청 객체 (이메일, 비밀번호)
-     * @return JWT 토큰, 사용자 ID, 사용자 유형을 포함한 응답
+     * @param httpRequest HTTP 요청 (클라이언트 IP)
+     * @return JWT 토큰, 사용자 ID, 사용자 유형을 포함한 응답 Future
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@RequestBody LoginRequest request) {
-        // 사용자 인증
-        var user = userService.validateUser(request.getEmail(), request.getPassword());
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(@RequestBody LoginRequest request,
+                                                                  HttpServletRequest httpRequest) {
+        loginRateLimiter.acquire(httpRequest.getRemoteAddr(), request.getEmail());
 
-        // JWT 토큰 생성
-        String token = jwtTokenProvider.generateToken(
-                user.getId(),
-                user.getUserType().toString(),
-                user.isPartner()
-        );
+        // 사용자 인증
+        return userService.validateUser(request.getEmail(), request.getPassword())
+                .thenApply(user -> {
+                    // JWT 토큰 생성
+                    String token = jwtTokenProvider.generateToken(
+                            user.getId(),
+                            user.getUserType().toString(),
+                            user.isPartner()
+                    );
 
-        // 응답 반환
-        return ResponseEntity.ok(LoginResponse.from(token, user.getId(), user.getUserType().toString()));
+                    // 응답 반환
+                    return ResponseEntity.ok(LoginResponse.from(token, user.getId(), user.getUserType().toString()));
+                });
     }
 }
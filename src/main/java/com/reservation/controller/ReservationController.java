@@ -1,8 +1,13 @@
 package com.reservation.controller;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,17 +18,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import com.reservation.domain.Reservation;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUser;
 import com.reservation.dto.ReservationDto;
+import com.reservation.dto.SliceResponse;
 import com.reservation.dto.reservation.ConfirmReservation;
 import com.reservation.dto.reservation.CreateReservation;
 import com.reservation.dto.reservation.DeleteReservation;
-import com.reservation.repository.ReservationRepository;
+import com.reservation.service.ReservationExportWriter;
 import com.reservation.service.ReservationService;
+import com.reservation.type.ExportFormat;
 import com.reservation.type.ReservationStatus;
+import com.reservation.type.UserType;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -33,58 +44,58 @@ import lombok.RequiredArgsConstructor;
 public class ReservationController {
 
 	private final ReservationService reservationService;
-	private final ReservationRepository reservationRepository;
+	private final ReservationExportWriter reservationExportWriter;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * 일반 사용자가 예약을 생성하는 API
 	 * - 예약 시간, 가게 ID, 전화번호 등을 포함
 	 *
 	 * @param request 예약 생성 요청
-	 * @param httpRequest 사용자 인증 정보 포함
+	 * @param loginUser 로그인 사용자
 	 * @return 생성된 예약 정보
 	 */
 	@PostMapping("/reserve")
 	public ResponseEntity<CreateReservation.Response> createReservation(
 	        @RequestBody @Valid CreateReservation.Request request,
-	        HttpServletRequest httpRequest) {
+	        @LoginUser AuthenticatedUser loginUser) {
 
-	    Long userId = (Long) httpRequest.getAttribute("userId");
+	    Long userId = loginUser.userId();
 	    CreateReservation.Response response = reservationService.createReservation(userId, request);
 	    return ResponseEntity.ok(response);
 	}
 
 	/**
-	 * 현재 로그인한 사용자의 예약 목록을 조회
+	 * 현재 로그인한 사용자의 예약 목록을 조회 (페이지 단위)
 	 * - 취소된 예약(CANCELED)은 제외됨
 	 *
-	 * @param request 인증 정보 포함
-	 * @return 예약 목록
+	 * @param page 페이지 번호 (기본 0, 최대 50)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @param loginUser 로그인 사용자
+	 * @return 예약 목록 페이지
 	 */
 	@GetMapping("/my-reservations")
-	public ResponseEntity<List<ReservationDto>> getMyReservations(HttpServletRequest request) {
-	    Long userId = (Long) request.getAttribute("userId");
-	    List<Reservation> reservations = reservationRepository.findByUserIdAndStatusNot(userId, ReservationStatus.CANCELED);
-
-	    List<ReservationDto> result = reservations.stream()
-	            .map(ReservationDto::fromEntity)
-	            .toList();
-
-	    return ResponseEntity.ok(result);
+	public ResponseEntity<SliceResponse<ReservationDto>> getMyReservations(
+	        @RequestParam(required = false) Integer page,
+	        @RequestParam(required = false) Integer size,
+	        @LoginUser AuthenticatedUser loginUser) {
+	    Long userId = loginUser.userId();
+	    return ResponseEntity.ok(reservationService.getMyReservations(userId, page, size));
 	}
 
 	/**
 	 * 예약을 완전히 삭제하는 API (Hard Delete)
 	 *
 	 * @param request 예약 ID 포함
-	 * @param httpRequest 인증 정보 포함
+	 * @param loginUser 로그인 사용자
 	 * @return 삭제된 예약 ID
 	 */
 	@DeleteMapping("/delete")
 	public ResponseEntity<DeleteReservation.Response> deleteReservation(
 	        @RequestBody DeleteReservation.Request request,
-	        HttpServletRequest httpRequest
+	        @LoginUser AuthenticatedUser loginUser
 	) {
-	    Long userId = (Long) httpRequest.getAttribute("userId");
+	    Long userId = loginUser.userId();
 	    DeleteReservation.Response response = reservationService.deleteReservation(userId, request.getReservationId());
 	    return ResponseEntity.ok(response);
 	}
@@ -94,50 +105,53 @@ public class ReservationController {
 	 * - 상태만 CANCELED로 변경
 	 *
 	 * @param request 예약 ID 포함
-	 * @param httpRequest 인증 정보 포함
+	 * @param loginUser 로그인 사용자
 	 * @return 취소된 예약 ID
 	 */
 	@PutMapping("/cancel")
 	public ResponseEntity<DeleteReservation.Response> cancelReservation(
 	        @RequestBody DeleteReservation.Request request,
-	        HttpServletRequest httpRequest
+	        @LoginUser AuthenticatedUser loginUser
 	) {
-	    Long userId = (Long) httpRequest.getAttribute("userId");
+	    Long userId = loginUser.userId();
 	    DeleteReservation.Response response = reservationService.cancelReservation(userId, request.getReservationId());
 	    return ResponseEntity.ok(response);
 	}
 
 	/**
-	 * 점주가 PENDING(승인 대기중) 상태의 예약 목록을 조회
+	 * 점주가 PENDING(승인 대기중) 상태의 예약 목록을 조회 (페이지 단위)
 	 *
-	 * @param request 인증 정보 포함 (점주)
-	 * @return 대기 중인 예약 목록
+	 * @param page 페이지 번호 (기본 0, 최대 50)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @param loginUser 로그인 사용자
+	 * @return 대기 중인 예약 목록 페이지
 	 */
 	@GetMapping("/owner/pending")
-	public ResponseEntity<List<ReservationDto>> getPendingReservationsForOwner(HttpServletRequest request) {
-	    Long ownerId = (Long) request.getAttribute("userId");
-	    List<ReservationDto> reservations = reservationService.getPendingReservationsForOwner(ownerId);
-	    return ResponseEntity.ok(reservations);
+	public ResponseEntity<SliceResponse<ReservationDto>> getPendingReservationsForOwner(
+	        @RequestParam(required = false) Integer page,
+	        @RequestParam(required = false) Integer size,
+	        @LoginUser AuthenticatedUser loginUser) {
+	    Long ownerId = loginUser.userId();
+	    return ResponseEntity.ok(reservationService.getPendingReservationsForOwner(ownerId, page, size));
 	}
 
 	/**
 	 * 점주가 예약을 승인 또는 거절하는 기능
 	 *
 	 * @param request 예약 ID 및 새 상태 포함
-	 * @param httpRequest 인증 정보 포함 (OWNER 권한 필요)
+	 * @param loginUser 로그인 사용자
 	 * @return 업데이트된 예약 상태
 	 */
 	@PutMapping("/confirm")
 	public ResponseEntity<ConfirmReservation.Response> confirmReservation(
 	        @Valid @RequestBody ConfirmReservation.Request request,
-	        HttpServletRequest httpRequest
+	        @LoginUser AuthenticatedUser loginUser
 	) {
-		String role = (String)httpRequest.getAttribute("role");
-		if(!role.equals("OWNER")) {
+		if (!loginUser.hasRole(UserType.OWNER)) {
 	        return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 		}
 
-	    Long ownerId = (Long) httpRequest.getAttribute("userId");
+	    Long ownerId = loginUser.userId();
 	    ConfirmReservation.Response response = reservationService.confirmReservation(ownerId, request);
 	    return ResponseEntity.ok(response);
 	}
@@ -147,64 +161,125 @@ public class ReservationController {
 	 * - 예약 시간 ±10분 이내일 때만 가능
 	 *
 	 * @param reservationId 체크인할 예약 ID
-	 * @param request 인증 정보 포함
+	 * @param loginUser 로그인 사용자
 	 * @return 성공 메시지
 	 */
 	@PutMapping("/check-in/{reservationId}")
-	public ResponseEntity<?> checkInReservation(@PathVariable Long reservationId, HttpServletRequest request) {
-	    Long userId = (Long) request.getAttribute("userId");
+	public ResponseEntity<?> checkInReservation(@PathVariable Long reservationId, @LoginUser AuthenticatedUser loginUser) {
+	    Long userId = loginUser.userId();
 	    reservationService.checkInReservation(userId, reservationId);
 	    return ResponseEntity.ok("체크인 완료");
 	}
 
 	/**
-	 * 관리자: 전체 예약 목록 조회
+	 * 관리자: 전체 예약 목록 조회 (페이지 단위)
 	 *
-	 * @param httpRequest 인증 정보 포함 (ADMIN 권한)
-	 * @return 모든 예약 목록
+	 * @param page 페이지 번호 (기본 0, 최대 50)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @param loginUser 로그인 사용자
+	 * @return 예약 목록 페이지
 	 */
 	@GetMapping("/admin/reservations")
-	public ResponseEntity<List<ReservationDto>> getAllReservationsForAdmin(HttpServletRequest httpRequest) {
-	    String role = (String) httpRequest.getAttribute("role");
-	    if (!"ADMIN".equals(role)) {
+	public ResponseEntity<SliceResponse<ReservationDto>> getAllReservationsForAdmin(
+	        @RequestParam(required = false) Integer page,
+	        @RequestParam(required = false) Integer size,
+	        @LoginUser AuthenticatedUser loginUser) {
+	    if (!loginUser.hasRole(UserType.ADMIN)) {
 	        return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
 	    }
 
-	    List<Reservation> reservations = reservationRepository.findAll();
+	    return ResponseEntity.ok(reservationService.getAllReservations(page, size));
+	}
 
-	    List<ReservationDto> result = reservations.stream()
-	            .map(ReservationDto::fromEntity)
-	            .toList();
+	/**
+	 * 관리자: 전체 예약 목록을 JSON 배열로 스트리밍 조회
+	 * - DB 커서에서 한 건씩 읽어 바로 응답에 기록하므로 예약 수와 관계없이 메모리 사용량이 일정함
+	 *
+	 * @param loginUser 로그인 사용자
+	 * @return 전체 예약 JSON 배열 스트림
+	 */
+	@GetMapping(value = "/admin/reservations/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamAllReservationsForAdmin(@LoginUser AuthenticatedUser loginUser) {
+	    if (!loginUser.hasRole(UserType.ADMIN)) {
+	        return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+	    }
 
-	    return ResponseEntity.ok(result);
+	    StreamingResponseBody body = outputStream -> {
+	        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+	            generator.writeStartArray();
+	            reservationService.exportReservations(null, null, null, reservation -> {
+	                try {
+	                    generator.writeObject(reservation);
+	                } catch (IOException e) {
+	                    throw new UncheckedIOException(e);
+	                }
+	            });
+	            generator.writeEndArray();
+	        }
+	    };
+	    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
 	}
 
 	/**
-	 * 점주가 특정 상태의 예약 목록을 조회
+	 * 관리자: 예약 목록을 NDJSON 또는 CSV 파일로 내보내기
+	 * - DB 커서에서 한 건씩 읽어 응답 스트림에 바로 기록하므로 예약 수와 관계없이 메모리 사용량이 일정함
+	 *
+	 * @param format 내보내기 형식: ndjson, csv (기본값: ndjson)
+	 * @param status 예약 상태 필터 (선택)
+	 * @param from 예약일 시작 (yyyy-MM-dd, 포함, 선택)
+	 * @param to 예약일 끝 (yyyy-MM-dd, 포함, 선택)
+	 * @return 예약 내보내기 파일 스트림
+	 */
+	@GetMapping("/admin/reservations/export")
+	public ResponseEntity<StreamingResponseBody> exportReservationsForAdmin(
+	        @RequestParam(required = false, defaultValue = "ndjson") String format,
+	        @RequestParam(required = false) ReservationStatus status,
+	        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+	        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+	    ExportFormat exportFormat = ExportFormat.from(format);
+	    StreamingResponseBody body = outputStream ->
+	            reservationExportWriter.write(exportFormat, status, from, to, outputStream);
+
+	    return ResponseEntity.ok()
+	            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+	            .header(HttpHeaders.CONTENT_DISPOSITION,
+	                    "attachment; filename=\"reservations." + exportFormat.getExtension() + "\"")
+	            .body(body);
+	}
+
+	/**
+	 * 점주가 특정 상태의 예약 목록을 조회 (페이지 단위)
 	 *
 	 * @param status 필터링할 예약 상태 (예: APPROVED)
-	 * @param request 인증 정보 포함 (점주)
-	 * @return 해당 상태의 예약 목록
+	 * @param page 페이지 번호 (기본 0, 최대 50)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @param loginUser 로그인 사용자
+	 * @return 해당 상태의 예약 목록 페이지
 	 */
 	@GetMapping("/owner/status")
-	public ResponseEntity<List<ReservationDto>> getReservationsByStatusForOwner(
+	public ResponseEntity<SliceResponse<ReservationDto>> getReservationsByStatusForOwner(
 	        @RequestParam("status") ReservationStatus status,
-	        HttpServletRequest request) {
+	        @RequestParam(required = false) Integer page,
+	        @RequestParam(required = false) Integer size,
+	        @LoginUser AuthenticatedUser loginUser) {
 
-	    Long ownerId = (Long) request.getAttribute("userId");
-	    List<ReservationDto> reservations = reservationService.getReservationsByStatusForOwner(ownerId, status);
-	    return ResponseEntity.ok(reservations);
+	    Long ownerId = loginUser.userId();
+	    return ResponseEntity.ok(reservationService.getReservationsByStatusForOwner(ownerId, status, page, size));
 	}
 
 	/**
-	 * 관리자: 전체 예약 중 특정 상태의 예약만 조회
+	 * 관리자: 전체 예약 중 특정 상태의 예약만 조회 (페이지 단위)
 	 *
 	 * @param status 예약 상태 (예: CANCELED)
-	 * @return 필터링된 예약 목록
+	 * @param page 페이지 번호 (기본 0, 최대 50)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @return 필터링된 예약 목록 페이지
 	 */
 	@GetMapping("/admin/status")
-	public ResponseEntity<List<ReservationDto>> getAllReservationsByStatus(@RequestParam("status") ReservationStatus status) {
-	    List<ReservationDto> reservations = reservationService.getAllReservationsByStatus(status);
-	    return ResponseEntity.ok(reservations);
+	public ResponseEntity<SliceResponse<ReservationDto>> getAllReservationsByStatus(
+	        @RequestParam("status") ReservationStatus status,
+	        @RequestParam(required = false) Integer page,
+	        @RequestParam(required = false) Integer size) {
+	    return ResponseEntity.ok(reservationService.getAllReservationsByStatus(status, page, size));
 	}
 }
@@ -14,10 +14,11 @@ import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUser;
 import com.reservation.dto.review.CreateReview;
 import com.reservation.service.ReviewService;
 
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -34,7 +35,7 @@ public class ReviewController {
 	 *
 	 * @param request 리뷰 작성 정보 (예약 ID, 평점, 내용 등)
 	 * @param images 첨부 이미지 목록 (선택)
-	 * @param httpRequest 사용자 인증 정보 포함 (userId)
+	 * @param loginUser 로그인 사용자
 	 * @return 생성된 리뷰 응답 DTO
 	 * @throws IOException 이미지 업로드 실패 시
 	 */
@@ -42,9 +43,9 @@ public class ReviewController {
 	public ResponseEntity<CreateReview.Response> createReview(
 			@RequestPart("request") CreateReview.Request request,
 			@RequestPart(value = "images", required = false) List<MultipartFile> images,
-			HttpServletRequest httpRequest) throws IOException {
+			@LoginUser AuthenticatedUser loginUser) throws IOException {
 
-		Long userId = (Long) httpRequest.getAttribute("userId");
+		Long userId = loginUser.userId();
 		CreateReview.Response response = reviewService.createReview(userId, request, images);
 		return ResponseEntity.ok(response);
 	}
@@ -55,12 +56,12 @@ public class ReviewController {
 	 * - 리뷰에 포함된 이미지도 함께 삭제됩니다 (S3 + DB)
 	 *
 	 * @param reviewId 삭제할 리뷰 ID
-	 * @param request 사용자 인증 정보 포함 (userId)
+	 * @param loginUser 로그인 사용자
 	 * @return 삭제 완료 메시지
 	 */
 	@DeleteMapping("/reviews/{reviewId}")
-	public ResponseEntity<?> deleteReview(@PathVariable Long reviewId, HttpServletRequest request) {
-	    Long userId = (Long) request.getAttribute("userId");
+	public ResponseEntity<?> deleteReview(@PathVariable Long reviewId, @LoginUser AuthenticatedUser loginUser) {
+	    Long userId = loginUser.userId();
 	    reviewService.deleteReview(reviewId, userId);
 	    return ResponseEntity.ok("리뷰가 삭제되었습니다.");
 	}
@@ -75,7 +76,7 @@ public class ReviewController {
 	 * @param rating 수정할 평점
 	 * @param content 수정할 내용
 	 * @param images 새 이미지 파일 리스트 (선택)
-	 * @param request 사용자 인증 정보 포함 (userId)
+	 * @param loginUser 로그인 사용자
 	 * @return 수정 완료 메시지
 	 * @throws IOException 이미지 업로드 실패 시
 	 */
@@ -85,9 +86,9 @@ public class ReviewController {
 	        @RequestParam int rating,
 	        @RequestParam String content,
 	        @RequestPart(required = false) List<MultipartFile> images,
-	        HttpServletRequest request) throws IOException {
+	        @LoginUser AuthenticatedUser loginUser) throws IOException {
 
-	    Long userId = (Long) request.getAttribute("userId");
+	    Long userId = loginUser.userId();
 	    reviewService.updateReview(reviewId, userId, rating, content, images);
 	    return ResponseEntity.ok("리뷰가 수정되었습니다.");
 	}
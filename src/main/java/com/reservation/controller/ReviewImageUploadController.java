@@ -1,5 +1,6 @@
 package com.reservation.controller;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,8 +14,11 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUser;
 import com.reservation.service.ImageUploadService;
 import com.reservation.service.ReviewService;
+import com.reservation.service.S3StreamingUploader;
 import com.reservation.service.S3UploaderService;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -27,6 +31,7 @@ public class ReviewImageUploadController {
 
     private final ImageUploadService imageUploadService;
     private final S3UploaderService s3Uploader;
+    private final S3StreamingUploader s3StreamingUploader;
 
     /**
      * 리뷰 이미지 업로드 (S3 저장 방식)
@@ -45,18 +50,42 @@ public class ReviewImageUploadController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 리뷰 이미지 스트리밍 업로드 (대용량 이미지용)
+     * - multipart/form-data 대신 요청 본문에 이미지 바이트를 그대로 담아 보냅니다. (Content-Type: image/*)
+     * - 본문을 서버에 모아 두지 않고 읽는 즉시 S3 멀티파트 업로드 파트로 전송합니다.
+     * - 반환된 URL을 리뷰 작성 요청(/reviews/create)의 imageUrls에 담으면 리뷰 이미지로 연결됩니다.
+     *   (본인이 업로드한 이미지만 연결 가능)
+     *
+     * @param filename 원본 파일명
+     * @param request 이미지 바이트가 담긴 요청
+     * @param loginUser 로그인 사용자
+     * @return 업로드된 이미지의 S3 URL
+     */
+    @PostMapping(value = "/review-image/stream", consumes = "image/*")
+    public ResponseEntity<Map<String, String>> streamReviewImage(@RequestParam("filename") String filename,
+                                                                 HttpServletRequest request,
+                                                                 @LoginUser AuthenticatedUser loginUser) throws IOException {
+        String imageUrl = s3StreamingUploader.upload(request.getInputStream(), "reviews", filename,
+                request.getContentType(), request.getContentLengthLong(), loginUser.userId());
+
+        Map<String, String> response = new HashMap<>();
+        response.put("imageUrl", imageUrl);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 리뷰 이미지 삭제 API
      * - 사용자가 본인의 리뷰 이미지만 삭제할 수 있습니다.
      * - 이미지 파일은 S3에서도 삭제되며, DB에서도 제거됩니다.
      *
      * @param id 리뷰 이미지 ID
-     * @param request 인증 정보 포함 (userId)
+     * @param loginUser 로그인 사용자
      * @return HTTP 200 OK 응답
      */
     @DeleteMapping("/review-image/{id}")
-    public ResponseEntity<?> deleteReviewImage(@PathVariable Long id, HttpServletRequest request) {
-        Long userId = (Long) request.getAttribute("userId");
+    public ResponseEntity<?> deleteReviewImage(@PathVariable Long id, @LoginUser AuthenticatedUser loginUser) {
+        Long userId = loginUser.userId();
         imageUploadService.deleteReviewImage(id, userId);
         return ResponseEntity.ok().build();
     }
@@ -68,14 +97,14 @@ public class ReviewImageUploadController {
      *
      * @param id 리뷰 이미지 ID
      * @param newFile 새 이미지 파일
-     * @param request 인증 정보 포함 (userId)
+     * @param loginUser 로그인 사용자
      * @return HTTP 200 OK 응답
      */
     @PutMapping("/review-image/{id}")
     public ResponseEntity<?> updateReviewImage(@PathVariable Long id,
                                                @RequestParam("file") MultipartFile newFile,
-                                               HttpServletRequest request) {
-        Long userId = (Long) request.getAttribute("userId");
+                                               @LoginUser AuthenticatedUser loginUser) {
+        Long userId = loginUser.userId();
         imageUploadService.updateReviewImage(id, newFile, userId);
         return ResponseEntity.ok().build();
     }
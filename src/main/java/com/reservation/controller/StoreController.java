@@ -1,10 +1,13 @@
 package com.reservation.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -12,18 +15,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.reservation.config.JwtTokenProvider;
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUser;
 import com.reservation.domain.Store;
 import com.reservation.domain.User;
 import com.reservation.dto.store.DeleteStore;
 import com.reservation.dto.store.RegisterStore;
+import com.reservation.dto.store.StoreAvailability;
+import com.reservation.dto.store.StoreList;
 import com.reservation.dto.store.UpdateStore;
 import com.reservation.dto.store.DeleteStore.Response;
 import com.reservation.dto.StoreDto;
 import com.reservation.dto.UserDto;
 import com.reservation.service.StoreService;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 @RestController
@@ -31,11 +36,9 @@ import jakarta.validation.Valid;
 public class StoreController {
 
     private final StoreService storeService;
-    private final JwtTokenProvider jwtTokenProvider;
 
-    public StoreController(StoreService storeService, JwtTokenProvider jwtTokenProvider) {
+    public StoreController(StoreService storeService) {
         this.storeService = storeService;
-        this.jwtTokenProvider = jwtTokenProvider;
     }
 
     /**
@@ -43,18 +46,15 @@ public class StoreController {
      * - 파트너 인증을 받은 OWNER만 등록 가능
      *
      * @param storeDto 매장 정보 DTO
-     * @param request HTTP 요청 (Authorization 헤더 포함)
+     * @param loginUser 로그인 사용자
      * @return 등록된 매장 정보
      */
     @PostMapping("/register")
     public ResponseEntity<RegisterStore.Response> registerStore(
             @RequestBody StoreDto storeDto,
-            HttpServletRequest request) {
+            @LoginUser AuthenticatedUser loginUser) {
 
-        // 토큰에서 사용자 정보 추출
-        String token = request.getHeader("Authorization").replace("Bearer ", "");
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
-        String role = jwtTokenProvider.getUserRoleFromToken(token);
+        Long userId = loginUser.userId();
 
         RegisterStore.Response registeredStore = storeService.registerStore(userId, storeDto);
         return ResponseEntity.ok(registeredStore);
@@ -65,15 +65,15 @@ public class StoreController {
      * - 비밀번호 확인 후 매장 삭제
      *
      * @param request 삭제 요청 DTO (storeId + 비밀번호 포함)
-     * @param httpRequest 인증 정보 포함 (userId)
+     * @param loginUser 로그인 사용자
      * @return 삭제된 매장 정보
      */
     @DeleteMapping("/delete")
     public ResponseEntity<DeleteStore.Response> deleteStore(
             @Valid @RequestBody DeleteStore.Request request,
-            HttpServletRequest httpRequest) {
+            @LoginUser AuthenticatedUser loginUser) {
 
-        Long userId = (Long) httpRequest.getAttribute("userId");
+        Long userId = loginUser.userId();
         DeleteStore.Response response = storeService.deleteStore(userId, request);
         return ResponseEntity.ok(response);
     }
@@ -84,15 +84,15 @@ public class StoreController {
      * - 관리자 계정은 수정 불가
      *
      * @param request 매장 수정 요청
-     * @param httpRequest 인증 정보 포함 (userId)
+     * @param loginUser 로그인 사용자
      * @return 수정된 매장 정보
      */
     @PutMapping("/update")
     public ResponseEntity<UpdateStore.Response> updateStore(
             @Valid @RequestBody UpdateStore.Request request,
-            HttpServletRequest httpRequest) {
+            @LoginUser AuthenticatedUser loginUser) {
 
-        Long userId = (Long) httpRequest.getAttribute("userId");
+        Long userId = loginUser.userId();
         Store updatedStore = storeService.updateStore(userId, request);
         return ResponseEntity.ok(UpdateStore.Response.fromEntity(updatedStore));
     }
@@ -101,19 +101,45 @@ public class StoreController {
      * 매장 리스트 조회 API
      * - 사용자 또는 비회원이 접근 가능
      * - 정렬 기준 (평점순, 거리순, 이름순) 선택 가능
+     * - 커서 기반 페이지네이션: 응답의 nextCursor를 다음 요청의 cursor로 전달
      *
      * @param sortBy 정렬 기준: rating, distance, name (기본값: name)
      * @param userLat 사용자 현재 위도 (거리 정렬 시 필요)
      * @param userLng 사용자 현재 경도
-     * @return 정렬된 매장 리스트
+     * @param radiusKm 검색 반경(km), 사용자 위치와 함께 전달 시 반경 내 매장만 조회 (선택)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 정렬된 매장 리스트 페이지
      */
     @GetMapping("/list")
-    public ResponseEntity<List<StoreDto>> getStoreList(
+    public ResponseEntity<StoreList.Response> getStoreList(
             @RequestParam(required = false, defaultValue = "name") String sortBy,
             @RequestParam(required = false) Double userLat,
-            @RequestParam(required = false) Double userLng) {
+            @RequestParam(required = false) Double userLng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
 
-        List<StoreDto> stores = storeService.getStores(sortBy, userLat, userLng);
+        StoreList.Response stores = storeService.getStores(sortBy, userLat, userLng, radiusKm, cursor, size);
         return ResponseEntity.ok(stores);
     }
+
+    /**
+     * 매장 예약 가능 현황 조회 API
+     * - 사용자 또는 비회원이 접근 가능
+     * - 일자별로 슬롯(기본 30분) 단위 남은 좌석 수를 반환
+     *
+     * @param id 매장 ID
+     * @param from 시작일 (yyyy-MM-dd, 기본값: 오늘)
+     * @param to 종료일 (yyyy-MM-dd, 기본값: 시작일 + 6일, 최대 31일)
+     * @return 일자별 슬롯 남은 좌석 수
+     */
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<StoreAvailability.Response> getAvailability(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        return ResponseEntity.ok(storeService.getAvailability(id, from, to));
+    }
 }
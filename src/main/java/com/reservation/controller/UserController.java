@@ -2,15 +2,20 @@ package com.reservation.controller;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUser;
 import com.reservation.domain.User;
 import com.reservation.dto.UserDto;
 import com.reservation.dto.store.UpdateStore;
+import com.reservation.dto.user.CheckAvailability;
 import com.reservation.dto.user.CreateUser;
 import com.reservation.dto.user.DeleteUser;
 import com.reservation.dto.user.UpdateUser;
@@ -18,7 +23,6 @@ import com.reservation.dto.user.UpdateUserPartnership;
 import com.reservation.dto.user.DeleteUser.Response;
 import com.reservation.service.UserService;
 
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -43,20 +47,39 @@ public class UserController {
         return ResponseEntity.ok(CreateUser.Response.from(UserDto.fromEntity(user)));
     }
 
+    /**
+     * 회원가입 중복 확인 API
+     * - 아이디, 이메일, 전화번호 중 전달된 값의 사용 가능 여부를 반환 (비회원 접근 가능)
+     * - 사용 중이 아닌 값은 대부분 DB 조회 없이 메모리의 Bloom filter로 응답합니다.
+     *
+     * @param userId 아이디 (선택)
+     * @param email 이메일 (선택)
+     * @param phoneNumber 전화번호 (선택)
+     * @return 필드별 사용 가능 여부
+     */
+    @GetMapping("/check-availability")
+    public ResponseEntity<CheckAvailability.Response> checkAvailability(
+            @RequestParam(required = false) String userId,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String phoneNumber) {
+
+        return ResponseEntity.ok(userService.checkAvailability(userId, email, phoneNumber));
+    }
+
     /**
      * 회원 탈퇴 API
      * - 비밀번호 검증 후, 사용자 DB에서 삭제 (Hard Delete)
      *
      * @param request 회원 삭제 요청 DTO (비밀번호 포함)
-     * @param httpRequest 인증 정보 포함 (userId)
+     * @param loginUser 로그인 사용자
      * @return 삭제된 사용자 정보 (간단 요약)
      */
     @DeleteMapping("/delete")
     public ResponseEntity<DeleteUser.Response> deleteUser(
             @Valid @RequestBody DeleteUser.Request request,
-            HttpServletRequest httpRequest) {
+            @LoginUser AuthenticatedUser loginUser) {
 
-        Long userId = (Long) httpRequest.getAttribute("userId");
+        Long userId = loginUser.userId();
         DeleteUser.Response response = userService.deleteUser(userId, request);
         return ResponseEntity.ok(response);
     }
@@ -68,15 +91,15 @@ public class UserController {
      * - 관리자 전환은 제한됨
      *
      * @param request 수정 요청 DTO (현재 비밀번호 포함)
-     * @param httpRequest 인증 정보 포함
+     * @param loginUser 로그인 사용자
      * @return 수정된 사용자 정보
      */
     @PutMapping("/update")
     public ResponseEntity<UpdateUser.Response> updateUser(
             @Valid @RequestBody UpdateUser.Request request,
-            HttpServletRequest httpRequest) {
+            @LoginUser AuthenticatedUser loginUser) {
 
-        Long userId = (Long) httpRequest.getAttribute("userId");
+        Long userId = loginUser.userId();
         User updatedUser = userService.updateUser(userId, request);
         return ResponseEntity.ok(UpdateUser.Response.from(updatedUser));
     }
@@ -87,15 +110,15 @@ public class UserController {
      * - 비밀번호 확인 후 파트너 여부를 true로 변경
      *
      * @param request 요청 DTO (비밀번호 포함)
-     * @param httpRequest 인증 정보 포함 (userId)
+     * @param loginUser 로그인 사용자
      * @return 변경된 사용자 정보 (파트너 여부 포함)
      */
     @PutMapping("/updatePartnership")
     public ResponseEntity<UpdateUserPartnership.Response> updateIsPartner(
             @Valid @RequestBody UpdateUserPartnership.Request request,
-            HttpServletRequest httpRequest) {
+            @LoginUser AuthenticatedUser loginUser) {
 
-        Long userId = (Long) httpRequest.getAttribute("userId");
+        Long userId = loginUser.userId();
         User updatedUser = userService.updateIsPartner(userId, request);
         return ResponseEntity.ok(UpdateUserPartnership.Response.from(UserDto.fromEntity(updatedUser)));
     }
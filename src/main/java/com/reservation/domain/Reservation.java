@@ -16,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -33,7 +34,9 @@ import lombok.Setter;
 @EnableJpaAuditing
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+		@Index(name = "idx_reservations_status_time", columnList = "status, reservation_time")
+})
 public class Reservation {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
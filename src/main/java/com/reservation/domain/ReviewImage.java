@@ -22,4 +22,16 @@ public class ReviewImage {
 
     @Column(name = "image_url", nullable = false)
     private String imageUrl;
+
+    // 리사이즈 이미지 URL (비동기로 생성되며, 생성 전에는 null / 원본이 더 작으면 원본 URL)
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
+    // 리사이즈 이미지 생성에 실패한 횟수 (한도에 도달하면 원본 URL로 대체)
+    @Builder.Default
+    @Column(name = "variant_attempts", nullable = false)
+    private int variantAttempts = 0;
 }
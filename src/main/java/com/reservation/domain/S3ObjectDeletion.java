@@ -0,0 +1,45 @@
+package com.reservation.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * S3 객체 삭제 대기열(outbox) 항목
+ * - 이미지 행 삭제와 같은 트랜잭션에서 기록되므로, 롤백되면 삭제 요청도 함께 사라집니다.
+ * - 백그라운드 작업(S3DeletionOutbox)이 커밋된 항목을 읽어 S3에서 삭제한 뒤 행을 지웁니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "s3_object_deletions",
+       indexes = @Index(name = "idx_s3_object_deletions_next_attempt", columnList = "next_attempt_at"))
+public class S3ObjectDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 삭제할 S3 객체 키 (예: reviews/uuid_filename.jpg) */
+    @Column(name = "object_key", nullable = false, length = 512)
+    private String objectKey;
+
+    /** 실패한 삭제 시도 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 다음 삭제 시도 가능 시각 (처리 중인 항목은 임대 만료 시각) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /** 마지막 실패 사유 */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
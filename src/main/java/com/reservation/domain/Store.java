@@ -17,7 +17,13 @@ import lombok.*;
 @Builder
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "stores")
+@Table(name = "stores", indexes = {
+        // 매장 목록 커서 페이지네이션용 (정렬 값, ID) 복합 인덱스
+        @Index(name = "idx_stores_name_id", columnList = "store_name, id"),
+        @Index(name = "idx_stores_rating_id", columnList = "avg_rating DESC, id"),
+        // 반경 검색 시 위도/경도 사각형 사전 필터용
+        @Index(name = "idx_stores_lat_lng", columnList = "lat, lng")
+})
 public class Store {
     
     @Id
@@ -44,6 +50,23 @@ public class Store {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;  
 
+    // 리뷰 평점 집계: 리뷰 작성/수정/삭제 시 StoreRepository.applyRatingDelta로만 갱신
+    @Builder.Default
+    @Column(name = "rating_count", nullable = false, updatable = false)
+    private long ratingCount = 0L;
+
+    @Builder.Default
+    @Column(name = "rating_sum", nullable = false, updatable = false)
+    private long ratingSum = 0L;
+
+    @Builder.Default
+    @Column(name = "avg_rating", nullable = false, updatable = false)
+    private double avgRating = 0.0;
+
+    // 시간대(슬롯)당 예약 가능 좌석 수, null이면 기본 정원 적용
+    @Column(name = "slot_capacity")
+    private Integer slotCapacity;
+
     // User의 id를 외래키 ownerId로 받아옴
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", nullable = false)  // 외래키 설정
@@ -0,0 +1,52 @@
+package com.reservation.domain;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 매장의 시간대(슬롯)별 예약 점유 수
+ * - (매장 ID, 슬롯 시작 시각)을 기본 키로 사용하여, 좌석 확보 시 보조 인덱스 없이
+ *   행 잠금 하나로 조건부 증가가 이루어지도록 합니다.
+ * - reserved_count는 StoreSlotRepository의 조건부 UPDATE로만 변경됩니다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "store_slots")
+public class StoreSlot {
+
+    @EmbeddedId
+    private Id id;
+
+    @Column(name = "reserved_count", nullable = false)
+    private int reservedCount;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    @Embeddable
+    public static class Id implements Serializable {
+
+        @Column(name = "store_id", nullable = false)
+        private Long storeId;
+
+        @Column(name = "slot_time", nullable = false)
+        private LocalDateTime slotTime;
+    }
+}
@@ -18,6 +18,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -32,13 +33,22 @@ import lombok.Setter;
 @EnableJpaAuditing
 @Entity
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+		@UniqueConstraint(name = User.UK_USER_NAME, columnNames = "user_name"),
+		@UniqueConstraint(name = User.UK_EMAIL, columnNames = "email"),
+		@UniqueConstraint(name = User.UK_PHONE_NUMBER, columnNames = "phone_number")
+})
 public class User {
+	/** 유니크 제약 조건 이름 (동시 가입 시 중복 필드 판별용) */
+	public static final String UK_USER_NAME = "uk_users_user_name";
+	public static final String UK_EMAIL = "uk_users_email";
+	public static final String UK_PHONE_NUMBER = "uk_users_phone_number";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
 	
-    @Column(name = "user_name", unique = true, nullable = false, length = 10) 
+    @Column(name = "user_name", nullable = false, length = 10) 
     private String userId;
 
     @Column(nullable = false, length = 10)
@@ -62,7 +72,7 @@ public class User {
     @Column(name = "user_type", nullable = false)
     private UserType userType; // 회원 유형 (ADMIN, OWNER, CUSTOMER)
 
-    @Column(unique = true, nullable = false, length = 50)  // 이메일 필드 추가
+    @Column(nullable = false, length = 50)  // 이메일 필드 추가
     private String email;
     
     @Column(name="phone_number", nullable = false, length = 20)
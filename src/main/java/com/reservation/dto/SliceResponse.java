@@ -0,0 +1,36 @@
+package com.reservation.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 전체 개수 없이 다음 페이지 존재 여부만 제공하는 페이지 응답 DTO
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SliceResponse<T> {
+
+	private List<T> content;
+	private int page;
+	private int size;
+	private boolean hasNext;
+
+	public static <T> SliceResponse<T> from(Slice<T> slice) {
+		return SliceResponse.<T>builder()
+				.content(slice.getContent())
+				.page(slice.getNumber())
+				.size(slice.getSize())
+				.hasNext(slice.hasNext())
+				.build();
+	}
+}
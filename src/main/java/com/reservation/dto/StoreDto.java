@@ -26,6 +26,7 @@ public class StoreDto {
 	private Long ownerId;
 	private Double avgRating;
 	private Double distance;
+	private Integer slotCapacity;
 	
 	public static StoreDto fromEntity(Store store) {
 		return StoreDto.builder()
@@ -38,6 +39,7 @@ public class StoreDto {
 				.updatedAt(store.getUpdatedAt())
 				// 외래키
 				.ownerId(store.getOwner().getId())
+				.slotCapacity(store.getSlotCapacity())
 				
 				.build();
 	}
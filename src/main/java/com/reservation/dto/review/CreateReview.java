@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import com.reservation.domain.Review;
+import com.reservation.domain.ReviewImage;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -17,7 +18,7 @@ public class CreateReview {
         private Long storeId;
         private int rating;
         private String content;
-        private List<String> imageUrls; // 리뷰 이미지 엔티티
+        private List<String> imageUrls; // 스트리밍 업로드로 미리 올린 이미지 URL (선택)
     }
 
     @Getter 
@@ -31,8 +32,9 @@ public class CreateReview {
         private String content;
         private LocalDateTime createdAt;
         private List<String> imageUrls;
+        private List<Image> images; // 이미지별 원본/리사이즈 URL (목록 화면은 thumbnailUrl 사용)
 
-        public static Response fromEntity(Review review, List<String> imageUrls) {
+        public static Response fromEntity(Review review, List<ReviewImage> images) {
             return Response.builder()
                     .id(review.getId())
                     .reservationId(review.getReservation().getId())
@@ -40,7 +42,30 @@ public class CreateReview {
                     .rating(review.getRating())
                     .content(review.getContent())
                     .createdAt(review.getCreatedAt())
-                    .imageUrls(imageUrls)
+                    .imageUrls(images.stream().map(ReviewImage::getImageUrl).toList())
+                    .images(images.stream().map(Image::fromEntity).toList())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    public static class Image {
+        private Long id;
+        private String imageUrl;
+        private String thumbnailUrl;
+        private String mediumUrl;
+
+        /**
+         * 리사이즈 이미지가 아직 생성되지 않았으면 원본 URL로 대체
+         */
+        public static Image fromEntity(ReviewImage image) {
+            return Image.builder()
+                    .id(image.getId())
+                    .imageUrl(image.getImageUrl())
+                    .thumbnailUrl(image.getThumbnailUrl() != null ? image.getThumbnailUrl() : image.getImageUrl())
+                    .mediumUrl(image.getMediumUrl() != null ? image.getMediumUrl() : image.getImageUrl())
                     .build();
         }
     }
@@ -0,0 +1,46 @@
+package com.reservation.dto.store;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StoreAvailability {
+
+    /** 매장 예약 가능 현황 응답 DTO */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+
+        private Long storeId;
+
+        /** 슬롯 길이(분) */
+        private int slotMinutes;
+
+        /** 슬롯당 정원 */
+        private int capacity;
+
+        private List<Day> days;
+    }
+
+    /** 하루치 슬롯별 남은 좌석 수 */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Day {
+
+        private LocalDate date;
+
+        /** 슬롯별 남은 좌석 수 (인덱스 i = 0시 + i * slotMinutes) */
+        private int[] remaining;
+    }
+}
@@ -0,0 +1,30 @@
+package com.reservation.dto.store;
+
+import java.util.List;
+
+import com.reservation.dto.StoreDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class StoreList {
+
+    /** 매장 목록 페이지 응답 DTO (커서 기반 페이지네이션) */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Response {
+
+        private List<StoreDto> stores;
+
+        /** 다음 페이지 조회 시 cursor 파라미터로 전달할 값 (마지막 페이지면 null) */
+        private String nextCursor;
+
+        private boolean hasNext;
+    }
+}
@@ -3,6 +3,7 @@ package com.reservation.dto.store;
 import com.reservation.domain.Store;
 import com.reservation.type.UserType;
 
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -32,6 +33,9 @@ public class UpdateStore {
 
         private String detail;
 
+        @Min(value = 1, message = "슬롯당 좌석 수는 1 이상이어야 합니다.")
+        private Integer slotCapacity;
+
         @NotBlank(message = "비밀번호는 필수 입력 항목입니다.")
         private String password;
 
@@ -0,0 +1,30 @@
+package com.reservation.dto.user;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+public class CheckAvailability {
+
+	/** 회원가입 중복 확인 응답 DTO (요청하지 않은 필드는 생략) */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public static class Response {
+		/** 아이디 사용 가능 여부 */
+		private Boolean userIdAvailable;
+
+		/** 이메일 사용 가능 여부 */
+		private Boolean emailAvailable;
+
+		/** 전화번호 사용 가능 여부 */
+		private Boolean phoneNumberAvailable;
+	}
+}
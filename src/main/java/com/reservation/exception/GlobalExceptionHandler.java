@@ -3,6 +3,8 @@ package com.reservation.exception;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -43,4 +45,41 @@ public class GlobalExceptionHandler {
 
 		return ResponseEntity.badRequest().body(errorResponse);
 	}
+
+	// 리뷰 예외 처리 (이미지 업로드 관련 클라이언트 오류는 4xx, 그 외는 기존과 같이 500)
+	@ExceptionHandler(ReviewException.class)
+	public ResponseEntity<ErrorResponse> handleReviewException(ReviewException ex) {
+		ErrorResponse errorResponse = ErrorResponse.builder().errorCode(ex.getErrorCode().name())
+				.message(ex.getErrorCode().getDescription()).build();
+
+		HttpStatus status = switch (ex.getErrorCode()) {
+			case IMAGE_TOO_LARGE -> HttpStatus.PAYLOAD_TOO_LARGE;
+			case IMAGE_UPLOAD_TOO_SLOW -> HttpStatus.REQUEST_TIMEOUT;
+			case INVALID_IMAGE_URL -> HttpStatus.BAD_REQUEST;
+			default -> HttpStatus.INTERNAL_SERVER_ERROR;
+		};
+		return ResponseEntity.status(status).body(errorResponse);
+	}
+
+	// 서버 과부하 예외 처리 (잠시 후 재시도 안내)
+	@ExceptionHandler(ServerBusyException.class)
+	public ResponseEntity<ErrorResponse> handleServerBusyException(ServerBusyException ex) {
+		ErrorResponse errorResponse = ErrorResponse.builder().errorCode(ex.getErrorCode().name())
+				.message(ex.getErrorCode().getDescription()).build();
+
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, "1")
+				.body(errorResponse);
+	}
+
+	// 요청 횟수 제한 초과 예외 처리 (재시도 가능 시각 안내)
+	@ExceptionHandler(RateLimitExceededException.class)
+	public ResponseEntity<ErrorResponse> handleRateLimitExceededException(RateLimitExceededException ex) {
+		ErrorResponse errorResponse = ErrorResponse.builder().errorCode(ex.getErrorCode().name())
+				.message(ex.getErrorCode().getDescription()).build();
+
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+				.body(errorResponse);
+	}
 }
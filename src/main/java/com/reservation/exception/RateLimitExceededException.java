@@ -0,0 +1,20 @@
+package com.reservation.exception;
+
+import com.reservation.type.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 요청 횟수 제한을 넘었을 때 발생하는 예외
+ * - GlobalExceptionHandler에서 429(Too Many Requests)와 Retry-After 헤더로 응답합니다.
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode.getDescription());
+        this.errorCode = errorCode;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.reservation.exception;
+
+import com.reservation.type.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 작업 대기열이 가득 차 요청을 처리할 수 없을 때 발생하는 예외
+ * - GlobalExceptionHandler에서 503(Service Unavailable)과 Retry-After 헤더로 응답합니다.
+ */
+@Getter
+public class ServerBusyException extends RuntimeException {
+    private final ErrorCode errorCode;
+
+    public ServerBusyException(ErrorCode errorCode) {
+        super(errorCode.getDescription());
+        this.errorCode = errorCode;
+    }
+}
@@ -1,35 +1,28 @@
 package com.reservation.repository;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.reservation.domain.Reservation;
+import com.reservation.dto.ReservationDto;
 import com.reservation.type.ReservationStatus;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
 
-    /**
-     * 특정 사용자의 모든 예약 목록을 조회
-     *
-     * @param userId 사용자 ID
-     * @return 해당 사용자의 전체 예약 목록
-     */
-    List<Reservation> findByUserId(Long userId);
-
-    /**
-     * 특정 사용자의 예약 중 CANCELED 상태가 아닌 예약만 조회
-     * - 주로 예약 중복 체크 또는 사용자 예약 목록 출력 시 사용
-     *
-     * @param userId 사용자 ID
-     * @param status 제외할 상태 (보통 CANCELED)
-     * @return 필터링된 예약 목록
-     */
-    List<Reservation> findByUserIdAndStatusNot(Long userId, ReservationStatus status);
-
     /**
      * 특정 사용자/가게/예약 시간 조건에 따라 중복 예약 여부 확인
      * - CANCELED가 아닌 상태에서 중복 확인
@@ -48,19 +41,127 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     );
 
     /**
-     * 점주가 소유한 매장의 예약 중 특정 상태의 예약 목록을 조회
+     * 사용자의 예약 중 특정 상태가 아닌 예약을 DTO로 페이지 조회
+     * - 엔티티/연관 프록시를 만들지 않고 ReservationDto 컬럼만 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param status 제외할 상태
+     * @param pageable 페이지 정보
+     * @return 예약 DTO 슬라이스 (전체 개수 조회 없음)
+     */
+    @Query("""
+            SELECT new com.reservation.dto.ReservationDto(
+                   r.id, r.user.id, r.store.id, r.reservationTime, r.createdAt, r.status, r.phoneNumber)
+              FROM Reservation r
+             WHERE r.user.id = :userId
+               AND r.status <> :status
+            """)
+    Slice<ReservationDto> findDtoByUserIdAndStatusNot(@Param("userId") Long userId,
+                                                      @Param("status") ReservationStatus status,
+                                                      Pageable pageable);
+
+    /**
+     * 점주 매장의 예약 중 특정 상태의 예약을 DTO로 페이지 조회
      *
      * @param ownerId 점주 ID
-     * @param status 예약 상태 (예: PENDING, CONFIRMED 등)
-     * @return 해당 조건의 예약 목록
+     * @param status 예약 상태
+     * @param pageable 페이지 정보
+     * @return 예약 DTO 슬라이스 (전체 개수 조회 없음)
      */
-    List<Reservation> findByStoreOwnerIdAndStatus(Long ownerId, ReservationStatus status);
+    @Query("""
+            SELECT new com.reservation.dto.ReservationDto(
+                   r.id, r.user.id, r.store.id, r.reservationTime, r.createdAt, r.status, r.phoneNumber)
+              FROM Reservation r
+              JOIN r.store s
+             WHERE s.owner.id = :ownerId
+               AND r.status = :status
+            """)
+    Slice<ReservationDto> findDtoByStoreOwnerIdAndStatus(@Param("ownerId") Long ownerId,
+                                                         @Param("status") ReservationStatus status,
+                                                         Pageable pageable);
 
     /**
-     * 예약 상태별 전체 예약 목록을 조회 (관리자용)
+     * 특정 상태의 전체 예약을 DTO로 페이지 조회 (관리자용)
      *
      * @param status 예약 상태
-     * @return 전체 예약 중 해당 상태인 예약 목록
+     * @param pageable 페이지 정보
+     * @return 예약 DTO 슬라이스 (전체 개수 조회 없음)
+     */
+    @Query("""
+            SELECT new com.reservation.dto.ReservationDto(
+                   r.id, r.user.id, r.store.id, r.reservationTime, r.createdAt, r.status, r.phoneNumber)
+              FROM Reservation r
+             WHERE r.status = :status
+            """)
+    Slice<ReservationDto> findDtoByStatus(@Param("status") ReservationStatus status, Pageable pageable);
+
+    /**
+     * 전체 예약을 DTO로 페이지 조회 (관리자용)
+     *
+     * @param pageable 페이지 정보
+     * @return 예약 DTO 슬라이스 (전체 개수 조회 없음)
+     */
+    @Query("""
+            SELECT new com.reservation.dto.ReservationDto(
+                   r.id, r.user.id, r.store.id, r.reservationTime, r.createdAt, r.status, r.phoneNumber)
+              FROM Reservation r
+            """)
+    Slice<ReservationDto> findAllDto(Pageable pageable);
+
+    /**
+     * 조건에 맞는 예약을 ID 순서대로 DTO 스트림으로 조회 (관리자 내보내기용)
+     * - MySQL 드라이버는 fetch size가 Integer.MIN_VALUE일 때 결과를 한 행씩 읽어오므로
+     *   테이블 크기와 관계없이 메모리 사용량이 일정합니다.
+     * - 읽기 전용 트랜잭션 안에서 소비한 뒤 반드시 close 해야 합니다.
+     * - 각 조건은 null이면 적용하지 않습니다.
+     *
+     * @param status 예약 상태
+     * @param from 예약 시간 시작 (포함)
+     * @param to 예약 시간 끝 (미포함)
+     * @return 예약 DTO 스트림
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "-2147483648"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("""
+            SELECT new com.reservation.dto.ReservationDto(
+                   r.id, r.user.id, r.store.id, r.reservationTime, r.createdAt, r.status, r.phoneNumber)
+              FROM Reservation r
+             WHERE (:status IS NULL OR r.status = :status)
+               AND (:from IS NULL OR r.reservationTime >= :from)
+               AND (:to IS NULL OR r.reservationTime < :to)
+             ORDER BY r.id
+            """)
+    Stream<ReservationDto> streamDto(@Param("status") ReservationStatus status,
+                                     @Param("from") LocalDateTime from,
+                                     @Param("to") LocalDateTime to);
+
+    /**
+     * 예약 시간이 지난 특정 상태의 예약을 최대 limit건까지 다른 상태로 일괄 변경 (만료 처리용)
+     * - (status, reservation_time) 인덱스 범위를 예약 시간순으로 읽으므로 한 번에 잠그는 행 수가 limit으로 제한됩니다.
+     * - 엔티티를 읽지 않는 단일 UPDATE 문이며, 호출마다 별도 트랜잭션으로 커밋됩니다.
+     *
+     * @param fromStatus 변경 대상 상태
+     * @param toStatus 변경할 상태
+     * @param cutoff 이 시각 이전 예약만 변경 (미포함)
+     * @param limit 최대 변경 건수
+     * @return 변경된 행 수
      */
-    List<Reservation> findByStatus(ReservationStatus status);
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE reservations
+               SET status = :toStatus,
+                   updated_at = NOW()
+             WHERE status = :fromStatus
+               AND reservation_time < :cutoff
+             ORDER BY reservation_time
+             LIMIT :limit
+            """, nativeQuery = true)
+    int expireBatch(@Param("fromStatus") String fromStatus,
+                    @Param("toStatus") String toStatus,
+                    @Param("cutoff") LocalDateTime cutoff,
+                    @Param("limit") int limit);
 }
@@ -1,8 +1,13 @@
 package com.reservation.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.reservation.domain.ReviewImage;
@@ -19,4 +24,74 @@ public interface ReviewImageRepository extends JpaRepository<ReviewImage, Long>
      * @return 해당 리뷰에 연결된 이미지 리스트
      */
     List<ReviewImage> findByReviewId(Long reviewId);
+
+    /**
+     * 특정 리뷰에 연결된 이미지 URL만 조회하는 메소드
+     * - 리뷰 삭제/이미지 교체 시 S3에서 지울 객체 키를 구하기 위해 사용 (엔티티를 로딩하지 않음)
+     *
+     * @param reviewId 대상 리뷰 ID
+     * @return 이미지 URL 목록
+     */
+    @Query("SELECT ri.imageUrl FROM ReviewImage ri WHERE ri.review.id = :reviewId")
+    List<String> findImageUrlsByReviewId(@Param("reviewId") Long reviewId);
+
+    /**
+     * 이미 리뷰에 연결된 이미지 URL인지 확인하는 메소드
+     * - 스트리밍 업로드로 올린 이미지를 여러 리뷰에 중복으로 연결하지 않도록 사용합니다.
+     *
+     * @param imageUrls 확인할 이미지 URL 목록
+     * @return 하나라도 연결되어 있으면 true
+     */
+    boolean existsByImageUrlIn(Collection<String> imageUrls);
+
+    /**
+     * 특정 리뷰에 연결된 이미지 행을 한 번의 DELETE 문으로 삭제하는 메소드
+     * - 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션에서 해당 이미지 엔티티를 로딩해 두고 사용하지 않아야 합니다.
+     *
+     * @param reviewId 대상 리뷰 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ReviewImage ri WHERE ri.review.id = :reviewId")
+    int deleteAllByReviewIdInBulk(@Param("reviewId") Long reviewId);
+
+    /**
+     * 리사이즈 이미지 URL을 저장하는 메소드
+     * - 생성하는 동안 이미지가 교체/삭제되었으면 원본 URL이 달라지므로 갱신하지 않습니다.
+     *
+     * @param id 리뷰 이미지 ID
+     * @param imageUrl 변형을 만든 원본 이미지 URL
+     * @param thumbnailUrl 썸네일 URL
+     * @param mediumUrl 중간 크기 이미지 URL
+     * @return 갱신된 행 수 (0이면 이미지가 교체/삭제됨)
+     */
+    @Modifying
+    @Query("UPDATE ReviewImage ri SET ri.thumbnailUrl = :thumbnailUrl, ri.mediumUrl = :mediumUrl "
+            + "WHERE ri.id = :id AND ri.imageUrl = :imageUrl")
+    int updateVariantUrls(@Param("id") Long id, @Param("imageUrl") String imageUrl,
+                          @Param("thumbnailUrl") String thumbnailUrl, @Param("mediumUrl") String mediumUrl);
+
+    /**
+     * 리사이즈 이미지 생성 실패 횟수를 1 증가시키는 메소드
+     * - 원본 이미지가 그사이 교체되었으면 갱신하지 않습니다.
+     *
+     * @param id 리뷰 이미지 ID
+     * @param imageUrl 생성을 시도한 원본 이미지 URL
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE ReviewImage ri SET ri.variantAttempts = ri.variantAttempts + 1 "
+            + "WHERE ri.id = :id AND ri.imageUrl = :imageUrl")
+    int incrementVariantAttempts(@Param("id") Long id, @Param("imageUrl") String imageUrl);
+
+    /**
+     * 리사이즈 이미지가 아직 없는 이미지 ID를 실패 횟수가 적은 순, 오래된 순으로 조회하는 메소드
+     * - 대기열이 가득 차 건너뛰었거나 생성에 실패한 이미지를 다시 처리할 때 사용합니다.
+     * - 실패를 반복하는 이미지가 새 이미지의 처리를 막지 않도록 실패 횟수로 먼저 정렬합니다.
+     *
+     * @param pageable 조회 개수
+     * @return 리뷰 이미지 ID 목록
+     */
+    @Query("SELECT ri.id FROM ReviewImage ri WHERE ri.thumbnailUrl IS NULL ORDER BY ri.variantAttempts, ri.id")
+    List<Long> findIdsWithoutVariants(Pageable pageable);
 }
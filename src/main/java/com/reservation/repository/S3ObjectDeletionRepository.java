@@ -0,0 +1,34 @@
+package com.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.reservation.domain.S3ObjectDeletion;
+
+@Repository
+public interface S3ObjectDeletionRepository extends JpaRepository<S3ObjectDeletion, Long> {
+
+    /**
+     * 삭제 시도 시각이 된 항목을 잠그고 조회하는 메소드
+     * - 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 서버가 동시에 처리해도 같은 항목을 나눠 갖지 않습니다.
+     * - 호출한 트랜잭션 안에서 next_attempt_at을 임대 만료 시각으로 미뤄 두고 커밋해야 합니다.
+     *
+     * @param now 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 처리할 삭제 항목 (오래된 순)
+     */
+    @Query(value = """
+            SELECT *
+              FROM s3_object_deletions
+             WHERE next_attempt_at <= :now
+             ORDER BY next_attempt_at
+             LIMIT :limit
+             FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<S3ObjectDeletion> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -2,8 +2,54 @@ package com.reservation.repository;
 
 import com.reservation.domain.Store;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface StoreRepository extends JpaRepository<Store, Long> {
-}
\ No newline at end of file
+
+    /**
+     * 매장의 리뷰 평점 집계(개수, 합계, 평균)를 증분 갱신
+     * - 리뷰 작성(+1, +rating), 수정(0, 새 평점 - 기존 평점), 삭제(-1, -rating) 시 호출
+     * - 단일 UPDATE 문으로 처리되어 동시 리뷰 작성 시에도 집계가 유실되지 않습니다.
+     * - 평균은 갱신 전 값을 기준으로 계산하도록 SET 절의 첫 번째에 둡니다.
+     *
+     * @param storeId 매장 ID
+     * @param countDelta 리뷰 개수 변화량
+     * @param sumDelta 평점 합계 변화량
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("""
+            UPDATE Store s
+               SET s.avgRating = CASE WHEN s.ratingCount + :countDelta > 0
+                                      THEN (s.ratingSum + :sumDelta) * 1.0 / (s.ratingCount + :countDelta)
+                                      ELSE 0.0 END,
+                   s.ratingCount = s.ratingCount + :countDelta,
+                   s.ratingSum = s.ratingSum + :sumDelta
+             WHERE s.id = :storeId
+            """)
+    int applyRatingDelta(@Param("storeId") Long storeId,
+                         @Param("countDelta") long countDelta,
+                         @Param("sumDelta") long sumDelta);
+
+    /**
+     * 전체 매장의 평점 집계를 reviews 테이블 기준으로 재계산
+     * - 집계 컬럼 도입 이전 데이터 보정 및 정합성 복구용 (관리자 보정 작업에서 실행)
+     *
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE stores s
+              LEFT JOIN (SELECT store_id, COUNT(*) AS cnt, SUM(rating) AS total
+                           FROM reviews
+                          GROUP BY store_id) r ON r.store_id = s.id
+               SET s.rating_count = COALESCE(r.cnt, 0),
+                   s.rating_sum = COALESCE(r.total, 0),
+                   s.avg_rating = COALESCE(r.total / r.cnt, 0)
+            """, nativeQuery = true)
+    int recalculateRatings();
+}
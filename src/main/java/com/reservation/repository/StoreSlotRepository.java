@@ -0,0 +1,129 @@
+package com.reservation.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.reservation.domain.StoreSlot;
+
+@Repository
+public interface StoreSlotRepository extends JpaRepository<StoreSlot, StoreSlot.Id> {
+
+    /**
+     * 매장의 기간 내 슬롯 점유 행 조회 (예약 가능 현황 달력 적재용)
+     *
+     * @param storeId 매장 ID
+     * @param from 시작 시각 (포함)
+     * @param to 종료 시각 (미포함)
+     * @return 기간 내 슬롯 목록
+     */
+    @Query("""
+            SELECT s FROM StoreSlot s
+             WHERE s.id.storeId = :storeId
+               AND s.id.slotTime >= :from
+               AND s.id.slotTime < :to
+            """)
+    List<StoreSlot> findByStoreIdAndSlotTimeRange(@Param("storeId") Long storeId,
+                                                  @Param("from") LocalDateTime from,
+                                                  @Param("to") LocalDateTime to);
+
+    /**
+     * 슬롯에 남은 좌석이 있을 때만 점유 수를 1 증가
+     * - 확인과 증가가 단일 UPDATE 문으로 처리되어 동시 요청에도 정원을 넘지 않습니다.
+     *
+     * @param storeId 매장 ID
+     * @param slotTime 슬롯 시작 시각
+     * @param capacity 슬롯 정원
+     * @return 갱신된 행 수 (0이면 정원 초과 또는 슬롯 행 없음)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE store_slots
+               SET reserved_count = reserved_count + 1
+             WHERE store_id = :storeId
+               AND slot_time = :slotTime
+               AND reserved_count < :capacity
+            """, nativeQuery = true)
+    int tryReserve(@Param("storeId") Long storeId,
+                   @Param("slotTime") LocalDateTime slotTime,
+                   @Param("capacity") int capacity);
+
+    /**
+     * 슬롯 행이 없으면 점유 수 0으로 생성
+     * - INSERT IGNORE는 중복 시 공유 잠금을 잡아 이후 UPDATE와 교착 상태가 생길 수 있으므로,
+     *   중복 시 배타 잠금을 잡는 ON DUPLICATE KEY UPDATE(값 변경 없음)를 사용합니다.
+     *
+     * @param storeId 매장 ID
+     * @param slotTime 슬롯 시작 시각
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO store_slots (store_id, slot_time, reserved_count)
+            VALUES (:storeId, :slotTime, 0)
+            ON DUPLICATE KEY UPDATE reserved_count = reserved_count
+            """, nativeQuery = true)
+    int ensureSlot(@Param("storeId") Long storeId,
+                   @Param("slotTime") LocalDateTime slotTime);
+
+    /**
+     * 예약 취소/거절/삭제 시 슬롯 점유 수를 1 감소
+     *
+     * @param storeId 매장 ID
+     * @param slotTime 슬롯 시작 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE store_slots
+               SET reserved_count = reserved_count - 1
+             WHERE store_id = :storeId
+               AND slot_time = :slotTime
+               AND reserved_count > 0
+            """, nativeQuery = true)
+    int release(@Param("storeId") Long storeId,
+                @Param("slotTime") LocalDateTime slotTime);
+
+    /**
+     * 지정 시각 이후 슬롯의 점유 수를 0으로 초기화 (재계산 전처리)
+     *
+     * @param from 기준 슬롯 시작 시각
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query(value = "UPDATE store_slots SET reserved_count = 0 WHERE slot_time >= :from", nativeQuery = true)
+    int resetFrom(@Param("from") LocalDateTime from);
+
+    /**
+     * 지정 시각 이후 예약을 슬롯 단위로 집계하여 점유 수를 다시 기록
+     * - 슬롯 길이(분)는 60의 약수여야 합니다.
+     *
+     * @param from 기준 슬롯 시작 시각
+     * @param slotMinutes 슬롯 길이(분)
+     * @param statuses 좌석을 점유하는 예약 상태 목록
+     * @return 영향받은 행 수
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO store_slots (store_id, slot_time, reserved_count)
+            SELECT agg.store_id, agg.slot_time, agg.cnt
+              FROM (SELECT r.store_id,
+                           DATE_SUB(DATE_FORMAT(r.reservation_time, '%Y-%m-%d %H:%i:00'),
+                                    INTERVAL MINUTE(r.reservation_time) % :slotMinutes MINUTE) AS slot_time,
+                           COUNT(*) AS cnt
+                      FROM reservations r
+                     WHERE r.reservation_time >= :from
+                       AND r.status IN (:statuses)
+                     GROUP BY r.store_id, slot_time) agg
+            ON DUPLICATE KEY UPDATE reserved_count = agg.cnt
+            """, nativeQuery = true)
+    int recalculateFrom(@Param("from") LocalDateTime from,
+                        @Param("slotMinutes") int slotMinutes,
+                        @Param("statuses") Collection<String> statuses);
+}
@@ -1,8 +1,13 @@
 package com.reservation.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.reservation.domain.User;
 
@@ -52,4 +57,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 중복 여부 (true: 이미 존재함)
      */
     boolean existsByPhoneNumber(String phoneNumber);
+
+    /**
+     * 아이디, 이메일, 전화번호 중 하나라도 일치하는 사용자의 세 필드만 조회하는 메소드
+     * - 회원가입 시 중복 검사를 한 번의 조회로 처리하기 위해 사용 (각 필드의 유니크 인덱스 사용)
+     * - 세 필드가 모두 유니크하므로 결과는 최대 3건입니다.
+     *
+     * @param userId 사용자 ID
+     * @param email 이메일
+     * @param phoneNumber 전화번호
+     * @return 일치하는 사용자들의 아이디/이메일/전화번호
+     */
+    List<UniqueFields> findByUserIdOrEmailOrPhoneNumber(String userId, String email, String phoneNumber);
+
+    /**
+     * 중복 검사용 프로젝션 (유니크 필드만 조회)
+     */
+    interface UniqueFields {
+        String getUserId();
+
+        String getEmail();
+
+        String getPhoneNumber();
+    }
+
+    /**
+     * 저장된 비밀번호 해시가 예상한 값과 같을 때만 새 해시로 교체하는 메소드
+     * - 로그인 후 백그라운드 재해시에 사용하며, 그 사이 비밀번호가 변경되었으면 덮어쓰지 않습니다.
+     *
+     * @param id 사용자 PK
+     * @param oldHash 재해시 대상이 된 기존 해시
+     * @param newHash 새 해시
+     * @return 변경된 행 수 (0이면 그 사이 비밀번호가 변경됨)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id,
+                                  @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash);
 }
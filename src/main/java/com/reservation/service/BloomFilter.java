@@ -0,0 +1,94 @@
+package com.reservation.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 집합용 Bloom filter (스레드 안전)
+ * - mightContain이 false면 해당 값은 확실히 추가된 적이 없고, true면 "있을 수도 있음"입니다.
+ * - 값을 제거할 수 없으므로, 삭제/변경된 값은 재구성 전까지 false positive로 남습니다.
+ * - 비트 배열 크기는 2의 거듭제곱으로 올림하고, 해시 두 개로 k개의 위치를 만듭니다. (double hashing)
+ */
+final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitMask;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate 예상 항목 수만큼 추가했을 때의 목표 false positive 비율
+     */
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        long bitCount = Math.max(Long.SIZE, Long.highestOneBit(Math.max(1, optimalBits - 1)) << 1);
+        this.words = new AtomicLongArray(Math.toIntExact(bitCount / Long.SIZE));
+        this.bitMask = bitCount - 1;
+        this.hashCount = (int) Math.max(1, Math.round((double) optimalBits / n * Math.log(2)));
+    }
+
+    /**
+     * 값 추가
+     */
+    void put(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((words.get(word) & mask) == 0) {
+                words.getAndAccumulate(word, mask, (current, m) -> current | m);
+            }
+        }
+    }
+
+    /**
+     * 값이 추가되었을 수 있는지 확인
+     *
+     * @return false면 추가된 적 없음, true면 추가되었을 수 있음
+     */
+    boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = (h1 + i * h2) & bitMask;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    long bitCount() {
+        return bitMask + 1;
+    }
+
+    int hashCount() {
+        return hashCount;
+    }
+
+    /**
+     * FNV-1a(64bit)로 문자를 누적한 뒤 비트를 섞어 하위 비트까지 고르게 분포시킴
+     */
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    /**
+     * MurmurHash3 fmix64
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB93FE1A85A53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -2,16 +2,19 @@ package com.reservation.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.reservation.domain.ReviewImage;
 import com.reservation.exception.ReviewException;
 import com.reservation.repository.ReviewImageRepository;
 import com.reservation.type.ErrorCode;
+import com.reservation.type.ReviewImageVariant;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,6 +27,10 @@ public class ImageUploadService {
 
     private final ReviewImageRepository reviewImageRepository;
     private final S3UploaderService s3UploaderService;
+    private final S3DeletionOutbox s3DeletionOutbox;
+    private final ReviewImageUploader reviewImageUploader;
+    private final TransactionTemplate transactionTemplate;
+    private final ReviewImageVariantGenerator reviewImageVariantGenerator;
 
     /**
      * MultipartFile 이미지를 로컬 서버에 업로드하는 메소드
@@ -56,7 +63,8 @@ public class ImageUploadService {
 
     /**
      * 리뷰 이미지 하나를 삭제하는 메소드
-     * - S3와 DB 양쪽에서 삭제 수행
+     * - S3와 DB 양쪽에서 삭제 수행 (리사이즈 이미지 포함)
+     *   (S3 객체는 같은 트랜잭션에서 삭제 outbox에 기록하고, 커밋 후 백그라운드에서 삭제)
      * - 사용자 본인의 리뷰 이미지에 대해서만 삭제 가능
      *
      * @param reviewImageId 삭제할 이미지 ID
@@ -65,17 +73,25 @@ public class ImageUploadService {
      */
     @Transactional
     public void deleteReviewImage(Long reviewImageId, Long userId) {
+        ReviewImage image = findOwnedImage(reviewImageId, userId);
+
+        s3DeletionOutbox.enqueue(ReviewImageVariant.allObjectKeys(extractFileNameFromUrl(image.getImageUrl())));
+        reviewImageRepository.delete(image);
+    }
+
+    /**
+     * 리뷰 이미지를 조회하고 요청 사용자의 이미지인지 확인
+     *
+     * @throws ReviewException 권한 없음 또는 이미지가 존재하지 않을 경우
+     */
+    private ReviewImage findOwnedImage(Long reviewImageId, Long userId) {
         ReviewImage image = reviewImageRepository.findById(reviewImageId)
                 .orElseThrow(() -> new ReviewException(ErrorCode.REVIEW_IMAGE_NOT_FOUND));
 
         if (!image.getReview().getUser().getId().equals(userId)) {
             throw new ReviewException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
         }
-
-        String fileName = extractFileNameFromUrl(image.getImageUrl());
-        s3UploaderService.delete(fileName);
-
-        reviewImageRepository.delete(image);
+        return image;
     }
 
     /**
@@ -91,29 +107,37 @@ public class ImageUploadService {
 
     /**
      * 리뷰 이미지를 새 이미지로 교체하는 메소드
-     * - 기존 이미지를 S3에서 삭제하고 새 이미지를 업로드합니다.
-     * - 해당 이미지의 DB 정보는 URL만 업데이트됩니다.
+     * - 새 이미지를 트랜잭션 밖에서 업로드한 뒤, 트랜잭션에서 URL을 바꾸고 기존 이미지 삭제를 outbox에 기록합니다.
+     * - DB 반영이 실패하면 새로 업로드한 이미지를 삭제합니다.
+     * - 해당 이미지의 DB 정보는 URL만 업데이트되며, 리사이즈 이미지는 커밋 이후 새 이미지로 다시 생성합니다.
      *
      * @param reviewImageId 수정할 이미지 ID
      * @param newFile 새로 업로드할 파일
      * @param userId 요청 사용자 ID
      * @throws ReviewException 권한 없음 또는 이미지 미존재
      */
-    @Transactional
     public void updateReviewImage(Long reviewImageId, MultipartFile newFile, Long userId) {
-        ReviewImage image = reviewImageRepository.findById(reviewImageId)
-                .orElseThrow(() -> new ReviewException(ErrorCode.REVIEW_IMAGE_NOT_FOUND));
+        // 권한이 없는 요청은 업로드 전에 거절
+        transactionTemplate.execute(status -> findOwnedImage(reviewImageId, userId));
 
-        if (!image.getReview().getUser().getId().equals(userId)) {
-            throw new ReviewException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
-        }
-
-        // 기존 이미지 삭제
-        String oldFileName = extractFileNameFromUrl(image.getImageUrl());
-        s3UploaderService.delete(oldFileName);
-
-        // 새 이미지 업로드 및 DB 업데이트
+        // 새 이미지 업로드 (트랜잭션 밖)
         String newImageUrl = s3UploaderService.upload(newFile, "reviews");
-        image.setImageUrl(newImageUrl);
+
+        // DB 업데이트 및 기존 이미지 삭제 예약
+        try {
+            transactionTemplate.execute(status -> {
+                ReviewImage image = findOwnedImage(reviewImageId, userId);
+                s3DeletionOutbox.enqueue(ReviewImageVariant.allObjectKeys(extractFileNameFromUrl(image.getImageUrl())));
+                image.setImageUrl(newImageUrl);
+                image.setThumbnailUrl(null);
+                image.setMediumUrl(null);
+                image.setVariantAttempts(0);
+                reviewImageVariantGenerator.generateAfterCommit(List.of(image.getId()));
+                return image;
+            });
+        } catch (RuntimeException e) {
+            reviewImageUploader.deleteAll(List.of(newImageUrl), "reviews");
+            throw e;
+        }
     }
 }
@@ -0,0 +1,169 @@
+package com.reservation.service;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.exception.RateLimitExceededException;
+import com.reservation.type.ErrorCode;
+
+/**
+ * 로그인 시도 횟수 제한 컴포넌트 (토큰 버킷)
+ * - 클라이언트 IP별, 계정(이메일)별로 각각 토큰 버킷을 두고, 로그인 시도마다 토큰 하나씩 사용합니다.
+ * - 버킷은 크기가 제한되고 일정 시간 사용되지 않으면 만료되는 메모리 맵(Caffeine)에 보관됩니다.
+ * - DB 조회와 BCrypt 검증 전에 호출하여, 무차별 대입 요청이 CPU를 쓰기 전에 거절합니다.
+ * - 서버별로 따로 계산되므로 전체 허용량은 서버 수만큼 늘어납니다.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final Limit ipLimit;
+    private final Limit emailLimit;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong rejectedByIp = new AtomicLong();
+    private final AtomicLong rejectedByEmail = new AtomicLong();
+
+    @Autowired
+    public LoginRateLimiter(@Value("${login.rate-limit.ip.capacity:20}") int ipCapacity,
+                            @Value("${login.rate-limit.ip.refill-per-minute:20}") double ipRefillPerMinute,
+                            @Value("${login.rate-limit.email.capacity:5}") int emailCapacity,
+                            @Value("${login.rate-limit.email.refill-per-minute:5}") double emailRefillPerMinute,
+                            @Value("${login.rate-limit.maximum-keys:100000}") long maximumKeys,
+                            @Value("${login.rate-limit.idle-seconds:600}") long idleSeconds) {
+        this(new Limit(ipCapacity, ipRefillPerMinute), new Limit(emailCapacity, emailRefillPerMinute),
+                maximumKeys, idleSeconds, System::nanoTime);
+    }
+
+    LoginRateLimiter(Limit ipLimit, Limit emailLimit, long maximumKeys, long idleSeconds, LongSupplier nanoClock) {
+        this.ipLimit = ipLimit;
+        this.emailLimit = emailLimit;
+        this.nanoClock = nanoClock;
+        this.ipBuckets = newBuckets(maximumKeys, idleSeconds);
+        this.emailBuckets = newBuckets(maximumKeys, idleSeconds);
+    }
+
+    private static Cache<String, TokenBucket> newBuckets(long maximumKeys, long idleSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(Duration.ofSeconds(idleSeconds))
+                .build();
+    }
+
+    /**
+     * 버킷 설정
+     *
+     * @param capacity 최대 토큰 수 (연속 허용 횟수)
+     * @param refillPerMinute 분당 충전 토큰 수
+     */
+    record Limit(int capacity, double refillPerMinute) {
+
+        double refillPerNano() {
+            return refillPerMinute / TimeUnit.MINUTES.toNanos(1);
+        }
+    }
+
+    /**
+     * 로그인 횟수 제한 통계
+     *
+     * @param rejectedByIp IP 기준으로 거절된 시도 수
+     * @param rejectedByEmail 계정 기준으로 거절된 시도 수
+     * @param trackedIps 현재 추적 중인 IP 수
+     * @param trackedEmails 현재 추적 중인 계정 수
+     */
+    public record Stats(long rejectedByIp, long rejectedByEmail, long trackedIps, long trackedEmails) {
+    }
+
+    /**
+     * 로그인 시도 한 번에 대한 허용 여부 확인 (IP → 계정 순서로 토큰 사용)
+     *
+     * @param clientIp 클라이언트 IP
+     * @param email 로그인 이메일 (null이면 계정 기준 제한 생략)
+     * @throws RateLimitExceededException 허용 횟수를 넘은 경우
+     */
+    public void acquire(String clientIp, String email) {
+        long now = nanoClock.getAsLong();
+
+        if (clientIp != null) {
+            long waitNanos = ipBuckets.get(clientIp, key -> new TokenBucket(ipLimit, now)).tryConsume(now);
+            if (waitNanos > 0) {
+                rejectedByIp.incrementAndGet();
+                throw new RateLimitExceededException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, toRetryAfterSeconds(waitNanos));
+            }
+        }
+
+        if (email != null) {
+            String key = email.trim().toLowerCase(Locale.ROOT);
+            long waitNanos = emailBuckets.get(key, k -> new TokenBucket(emailLimit, now)).tryConsume(now);
+            if (waitNanos > 0) {
+                rejectedByEmail.incrementAndGet();
+                throw new RateLimitExceededException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, toRetryAfterSeconds(waitNanos));
+            }
+        }
+    }
+
+    /**
+     * 로그인 횟수 제한 통계 조회
+     */
+    public Stats stats() {
+        return new Stats(rejectedByIp.get(), rejectedByEmail.get(),
+                ipBuckets.estimatedSize(), emailBuckets.estimatedSize());
+    }
+
+    /**
+     * 대기 시간을 초 단위로 올림 (정확히 60초면 60, 60.1초면 61)
+     * - 토큰 충전이 불가능한 경우(Long.MAX_VALUE)에도 넘치지 않도록 Math.ceilDiv 사용
+     */
+    static long toRetryAfterSeconds(long waitNanos) {
+        return Math.ceilDiv(waitNanos, TimeUnit.SECONDS.toNanos(1));
+    }
+
+    /**
+     * 토큰 버킷 하나 (키 하나당 하나, 동시 접근은 버킷 단위로 동기화)
+     */
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private TokenBucket(Limit limit, long now) {
+            this.capacity = limit.capacity();
+            this.refillPerNano = limit.refillPerNano();
+            this.tokens = limit.capacity();
+            this.lastRefillNanos = now;
+        }
+
+        /**
+         * 토큰 하나 사용 시도
+         * - 블로킹 없는 짧은 계산만 하므로 가상 스레드에서도 synchronized로 인한 고정 시간은 무시할 수준입니다.
+         *
+         * @return 0이면 허용, 양수면 다음 토큰까지 남은 시간(ns)
+         */
+        synchronized long tryConsume(long now) {
+            if (now > lastRefillNanos) {
+                tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+                lastRefillNanos = now;
+            }
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            if (refillPerNano <= 0) {
+                return Long.MAX_VALUE;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerNano);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reservation.service;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 고정 크기 byte[] 버퍼 풀
+ * - 버퍼는 처음 필요할 때 만들고, 반납된 버퍼를 다시 사용합니다.
+ * - 동시에 빌려줄 수 있는 버퍼 수가 capacity로 제한되므로 힙 사용량은 최대 bufferSize * capacity입니다.
+ */
+final class PartBufferPool {
+
+    private final int bufferSize;
+    private final int capacity;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<byte[]> free = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    PartBufferPool(int bufferSize, int capacity) {
+        if (bufferSize <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("bufferSize와 capacity는 0보다 커야 합니다.");
+        }
+        this.bufferSize = bufferSize;
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity, true);
+    }
+
+    /**
+     * 버퍼를 빌림 (남은 버퍼가 없으면 최대 timeout만큼 대기)
+     *
+     * @return 빌린 버퍼, 제한 시간 안에 얻지 못하면 null
+     * @throws InterruptedException 대기 중 인터럽트된 경우
+     */
+    byte[] acquire(long timeout, TimeUnit unit) throws InterruptedException {
+        if (!permits.tryAcquire(timeout, unit)) {
+            return null;
+        }
+        byte[] buffer = free.poll();
+        if (buffer == null) {
+            buffer = new byte[bufferSize];
+            allocated.incrementAndGet();
+        }
+        return buffer;
+    }
+
+    /**
+     * 빌린 버퍼를 반납
+     */
+    void release(byte[] buffer) {
+        free.offer(buffer);
+        permits.release();
+    }
+
+    int bufferSize() {
+        return bufferSize;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 지금까지 만든 버퍼 수 (최대 capacity)
+     */
+    int allocated() {
+        return allocated.get();
+    }
+
+    /**
+     * 현재 빌려준 버퍼 수
+     */
+    int inUse() {
+        return capacity - permits.availablePermits();
+    }
+}
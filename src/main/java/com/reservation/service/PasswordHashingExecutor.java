@@ -0,0 +1,203 @@
+package com.reservation.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.reservation.exception.ServerBusyException;
+import com.reservation.type.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 비밀번호 해시 생성/검증(BCrypt) 전용 작업 스레드 풀
+ * - BCrypt는 요청당 수십 ms의 CPU를 쓰므로, 로그인이 몰려도 다른 API가 쓰는 요청 스레드를 점유하지 않도록 분리합니다.
+ * - 스레드 수와 대기열 길이가 고정되어 있어, 대기열이 가득 차면 기다리지 않고 ServerBusyException(503)으로 즉시 거절합니다.
+ * - 작업 스레드 안에서 다시 호출하면 대기열을 거치지 않고 바로 실행합니다. (교착 방지)
+ * - DB 조회 같은 I/O 작업은 넣지 않습니다. 해시 생성/검증만 제출해야 작업 스레드와 대기열이 CPU 작업에만 쓰입니다.
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    /** 현재 스레드가 해시 작업 스레드인지 표시 */
+    private static final ThreadLocal<Boolean> WORKER = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong abandonedCount = new AtomicLong();
+
+    public PasswordHashingExecutor(@Value("${password.hashing.threads:0}") int threads,
+                                   @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${password.hashing.wait-timeout-ms:5000}") long waitTimeoutMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(() -> {
+                        WORKER.set(Boolean.TRUE);
+                        task.run();
+                    }, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.waitTimeoutMillis = waitTimeoutMillis;
+    }
+
+    /**
+     * 해시 작업 풀 상태
+     *
+     * @param poolSize 작업 스레드 수
+     * @param active 실행 중인 작업 수
+     * @param queued 대기 중인 작업 수
+     * @param remainingCapacity 남은 대기열 자리
+     * @param completed 완료된 작업 수
+     * @param rejected 과부하로 거절된 작업 수
+     * @param abandoned 대기 시간 초과로 실행 전에 취소된 작업 수
+     */
+    public record Stats(int poolSize, int active, int queued, int remainingCapacity, long completed, long rejected,
+                        long abandoned) {
+    }
+
+    /**
+     * 작업을 해시 작업 풀에 비동기로 제출 (호출한 스레드는 기다리지 않음)
+     * - 대기 시간 제한 안에 시작하지 못하면 대기열에서 빼고 ServerBusyException으로 Future를 실패시킵니다.
+     *   이미 실행 중인 작업은 취소하지 않습니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과 Future
+     * @throws ServerBusyException 대기열이 가득 찬 경우
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        if (WORKER.get()) {
+            return CompletableFuture.completedFuture(task.get());
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable job = job(task, future);
+        execute(job);
+        CompletableFuture.delayedExecutor(waitTimeoutMillis, TimeUnit.MILLISECONDS).execute(() -> {
+            if (executor.remove(job)) {
+                abandonedCount.incrementAndGet();
+                future.completeExceptionally(new ServerBusyException(ErrorCode.SERVER_BUSY));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 작업을 해시 작업 풀에서 실행하고 결과를 기다림 (요청 스레드에서 호출하는 동기 버전)
+     * - 대기 시간이 제한을 넘으면 작업을 취소하고 ServerBusyException을 던집니다.
+     *   아직 시작하지 않은 작업은 대기열에서 빼므로 해시를 실행하지 않습니다. (포기한 요청이 CPU를 쓰지 않음)
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     * @throws ServerBusyException 대기열이 가득 찼거나 대기 시간이 초과된 경우
+     */
+    public <T> T call(Supplier<T> task) {
+        if (WORKER.get()) {
+            return task.get();
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable job = job(task, future);
+        execute(job);
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            abandon(future, job);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abandon(future, job);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 급하지 않은 해시 작업(예: 로그인 후 재해시)을 해시 작업 풀 뒤쪽에 제출
+     * - 작업 스레드 안에서 호출해도 바로 실행하지 않고 대기열에 넣습니다. (로그인 응답을 지연시키지 않음)
+     * - 대기열이 절반 이상 차 있으면 사용자 요청을 위해 자리를 남겨 두고 제출하지 않습니다.
+     * - 결과를 DB에 저장하는 등의 후속 작업은 반환된 Future에 다른 Executor로 이어 붙여야 합니다.
+     *
+     * @param task 실행할 해시 작업
+     * @return 작업 결과 Future (제출하지 않았으면 ServerBusyException으로 실패한 Future → 다음 기회에 다시 시도)
+     */
+    public <T> CompletableFuture<T> submitBackground(Supplier<T> task) {
+        int remaining = executor.getQueue().remainingCapacity();
+        if (remaining <= executor.getQueue().size()) {
+            return CompletableFuture.failedFuture(new ServerBusyException(ErrorCode.SERVER_BUSY));
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(job(task, future));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(new ServerBusyException(ErrorCode.SERVER_BUSY));
+        }
+        return future;
+    }
+
+    /**
+     * 해시 작업 풀 상태 조회
+     */
+    public Stats stats() {
+        return new Stats(executor.getPoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                executor.getQueue().remainingCapacity(), executor.getCompletedTaskCount(), rejectedCount.get(),
+                abandonedCount.get());
+    }
+
+    private void execute(Runnable job) {
+        try {
+            executor.execute(job);
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    /**
+     * 기다리던 쪽이 포기한 작업을 취소하고, 아직 대기열에 있으면 빼서 자리를 비움
+     */
+    private void abandon(CompletableFuture<?> future, Runnable job) {
+        future.cancel(true);
+        executor.remove(job);
+        abandonedCount.incrementAndGet();
+    }
+
+    /**
+     * 작업 결과를 future에 전달하는 실행 단위
+     * - 시작 시점에 이미 취소된(호출한 쪽이 포기한) 작업은 실행하지 않습니다.
+     */
+    private static <T> Runnable job(Supplier<T> task, CompletableFuture<T> future) {
+        return () -> {
+            if (future.isDone()) {
+                return;
+            }
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,90 @@
+package com.reservation.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.reservation.repository.ReservationRepository;
+import com.reservation.type.ReservationStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 예약 시간이 지난 예약을 주기적으로 종료 상태로 옮기는 컴포넌트
+ * - PENDING → EXPIRED (점주가 승인/거절하지 않은 채 예약 시간이 지난 경우)
+ * - APPROVED, CONFIRMED → NO_SHOW (체크인 없이 예약 시간이 지난 경우)
+ * - 체크인은 예약 시간 10분 후까지 가능하므로 그 이후 예약만 처리합니다.
+ * - 엔티티를 읽지 않고 배치 크기만큼씩 단일 UPDATE 문으로 변경하며, 배치마다 커밋하여 잠금을 짧게 유지합니다.
+ * - 지난 시간대 좌석은 더 이상 예약에 쓰이지 않으므로 슬롯 점유 수는 변경하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ReservationExpirySweeper {
+
+    private final ReservationRepository reservationRepository;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long graceMinutes;
+
+    public ReservationExpirySweeper(ReservationRepository reservationRepository,
+                                    @Value("${reservation.expiry.batch-size:1000}") int batchSize,
+                                    @Value("${reservation.expiry.max-batches:100}") int maxBatches,
+                                    @Value("${reservation.expiry.grace-minutes:10}") long graceMinutes) {
+        this.reservationRepository = reservationRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.graceMinutes = graceMinutes;
+    }
+
+    /**
+     * 주기적으로 지난 예약 만료 처리 (이전 실행이 끝난 뒤 기본 1분 간격)
+     */
+    @Scheduled(fixedDelayString = "${reservation.expiry.fixed-delay-ms:60000}",
+               initialDelayString = "${reservation.expiry.initial-delay-ms:60000}")
+    public void sweep() {
+        sweep(LocalDateTime.now());
+    }
+
+    /**
+     * 기준 시각으로 지난 예약 만료 처리
+     *
+     * @param now 기준 시각
+     * @return 이번 실행에서 변경된 예약 수
+     */
+    int sweep(LocalDateTime now) {
+        long startedAt = System.nanoTime();
+        LocalDateTime cutoff = now.minusMinutes(graceMinutes);
+
+        int expired = expire(ReservationStatus.PENDING, ReservationStatus.EXPIRED, cutoff);
+        int noShowApproved = expire(ReservationStatus.APPROVED, ReservationStatus.NO_SHOW, cutoff);
+        int noShowConfirmed = expire(ReservationStatus.CONFIRMED, ReservationStatus.NO_SHOW, cutoff);
+
+        int total = expired + noShowApproved + noShowConfirmed;
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        if (total > 0) {
+            log.info("예약 만료 처리: expired={}, noShow={}, total={}, elapsedMs={}",
+                    expired, noShowApproved + noShowConfirmed, total, elapsedMs);
+        } else {
+            log.debug("예약 만료 처리: 대상 없음, elapsedMs={}", elapsedMs);
+        }
+        return total;
+    }
+
+    /**
+     * 한 상태의 지난 예약을 배치 단위로 반복 변경 (배치가 가득 차지 않으면 종료)
+     * - 한 번의 실행이 너무 길어지지 않도록 최대 배치 수를 넘으면 다음 실행으로 넘깁니다.
+     */
+    private int expire(ReservationStatus from, ReservationStatus to, LocalDateTime cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int updated = reservationRepository.expireBatch(from.name(), to.name(), cutoff, batchSize);
+            total += updated;
+            if (updated < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,124 @@
+package com.reservation.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.dto.ReservationDto;
+import com.reservation.type.ExportFormat;
+import com.reservation.type.ReservationStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 예약 내보내기를 응답 스트림에 직접 기록하는 컴포넌트
+ * - ReservationService가 DB 커서에서 한 건씩 넘겨주는 예약을 바로 기록하므로,
+ *   전체 목록이나 전체 응답 문자열을 메모리에 만들지 않습니다.
+ * - NDJSON: 한 줄에 예약 하나의 JSON 객체
+ * - CSV: 헤더 1줄 + 예약 한 건당 1줄 (RFC 4180 규칙으로 이스케이프)
+ */
+@Component
+@RequiredArgsConstructor
+public class ReservationExportWriter {
+
+    private static final String CSV_HEADER = "id,userId,storeId,reservationTime,createdAt,status,phoneNumber";
+
+    private final ReservationService reservationService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 예약을 지정한 형식으로 출력 스트림에 기록
+     *
+     * @param format 내보내기 형식
+     * @param status 예약 상태 (null이면 전체)
+     * @param from 예약일 시작 (포함, 선택)
+     * @param to 예약일 끝 (포함, 선택)
+     * @param out 응답 출력 스트림 (닫지 않음)
+     * @throws IOException 출력 스트림 기록 실패 시 (클라이언트 연결 종료 등)
+     */
+    public void write(ExportFormat format, ReservationStatus status, LocalDate from, LocalDate to,
+                      OutputStream out) throws IOException {
+        try {
+            switch (format) {
+                case NDJSON -> writeNdjson(status, from, to, out);
+                case CSV -> writeCsv(status, from, to, out);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeNdjson(ReservationStatus status, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            reservationService.exportReservations(status, from, to, reservation -> {
+                try {
+                    generator.writeObject(reservation);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(ReservationStatus status, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        reservationService.exportReservations(status, from, to, reservation -> {
+            try {
+                writeCsvRow(writer, reservation);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, ReservationDto reservation) throws IOException {
+        writer.write(String.valueOf(reservation.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(reservation.getUserId()));
+        writer.write(',');
+        writer.write(String.valueOf(reservation.getStoreId()));
+        writer.write(',');
+        writer.write(csvValue(reservation.getReservationTime()));
+        writer.write(',');
+        writer.write(csvValue(reservation.getCreatedAt()));
+        writer.write(',');
+        writer.write(csvValue(reservation.getStatus()));
+        writer.write(',');
+        writer.write(csvValue(reservation.getPhoneNumber()));
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 필드 값 변환 (쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀)
+     */
+    static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
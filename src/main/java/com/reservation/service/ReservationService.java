@@ -1,16 +1,22 @@
 package com.reservation.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.reservation.domain.Reservation;
 import com.reservation.domain.Store;
 import com.reservation.domain.User;
 import com.reservation.dto.ReservationDto;
+import com.reservation.dto.SliceResponse;
 import com.reservation.dto.reservation.ConfirmReservation;
 import com.reservation.dto.reservation.CreateReservation;
 import com.reservation.dto.reservation.DeleteReservation;
@@ -28,21 +34,29 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReservationService {
 
+	private static final int DEFAULT_PAGE_SIZE = 20;
+	private static final int MAX_PAGE_SIZE = 100;
+	// OFFSET은 건너뛸 행을 모두 읽으므로 페이지 번호를 제한 (최대 MAX_PAGE_NUMBER * MAX_PAGE_SIZE행)
+	private static final int MAX_PAGE_NUMBER = 50;
+
 	private final StoreRepository storeRepository;
 	private final UserRepository userRepository;
 	private final ReservationRepository reservationRepository;
+	private final SlotCapacityManager slotCapacityManager;
 
 	/**
 	 * 예약 생성 메소드
 	 * - 동일한 사용자/가게/시간의 예약이 존재하지 않을 경우 예약을 생성합니다.
 	 * - 기본 상태는 PENDING(대기)입니다.
+	 * - 예약 시각이 속한 슬롯에 남은 좌석이 있어야 하며, 좌석 확보는 조건부 UPDATE로 원자적으로 처리됩니다.
+	 * - 슬롯 행이 없을 때 갭 잠금으로 인한 교착 상태를 피하기 위해 READ COMMITTED로 실행합니다.
 	 *
 	 * @param userId 예약 요청 사용자 ID
 	 * @param request 예약 요청 객체 (가게 ID, 시간, 전화번호 등)
 	 * @return 생성된 예약 정보 응답
-	 * @throws UserException 중복 예약, 사용자 또는 가게 미존재
+	 * @throws UserException 중복 예약, 사용자 또는 가게 미존재, 슬롯 정원 초과
 	 */
-	@Transactional
+	@Transactional(isolation = Isolation.READ_COMMITTED)
 	public CreateReservation.Response createReservation(Long userId, CreateReservation.Request request) {
 		boolean isDuplicate = reservationRepository.existsByUserIdAndStoreIdAndReservationTimeAndStatusNot(
 	            userId, request.getStoreId(), request.getReservationTime(), ReservationStatus.CANCELED
@@ -67,30 +81,18 @@ public class ReservationService {
 				.createdAt(LocalDateTime.now())
 				.build();
 
-		return CreateReservation.Response.fromEntity(reservationRepository.save(reservation));
-	}
+		// 슬롯 행 잠금 유지 시간을 줄이기 위해 저장 직전에 좌석 확보
+		if (!slotCapacityManager.tryAcquire(store, request.getReservationTime())) {
+			throw new UserException(ErrorCode.SLOT_FULL);
+		}
 
-	/**
-	 * 사용자 ID로 예약 목록 조회
-	 * - 취소된 예약(CANCELED)은 제외합니다.
-	 *
-	 * @param userId 사용자 ID
-	 * @return 예약 목록
-	 */
-	@Transactional(readOnly = true)
-	public List<ReservationDto> getReservationsByUserId(Long userId) {
-	    List<Reservation> reservations = reservationRepository.findByUserId(userId).stream()
-	            .filter(reservation -> reservation.getStatus() != ReservationStatus.CANCELED)
-	            .toList();
-
-	    return reservations.stream()
-	            .map(ReservationDto::fromEntity)
-	            .collect(Collectors.toList());
+		return CreateReservation.Response.fromEntity(reservationRepository.save(reservation));
 	}
 
 	/**
 	 * 예약을 완전히 삭제하는 메소드 (Hard Delete)
 	 * - 사용자 본인만 삭제 가능
+	 * - 좌석을 점유 중인 예약이면 슬롯 좌석을 반환합니다.
 	 *
 	 * @param userId 요청 사용자 ID
 	 * @param reservationId 삭제할 예약 ID
@@ -106,6 +108,9 @@ public class ReservationService {
 	        throw new UserException(ErrorCode.INVALID_ROLE);
 	    }
 
+	    if (SlotCapacityManager.holdsSeat(reservation.getStatus())) {
+	        slotCapacityManager.release(reservation.getStore(), reservation.getReservationTime());
+	    }
 	    reservationRepository.delete(reservation);
 
 	    return DeleteReservation.Response.from(reservationId);
@@ -115,6 +120,7 @@ public class ReservationService {
 	 * 예약을 취소하는 메소드 (Soft Delete)
 	 * - 상태만 CANCELED로 변경합니다.
 	 * - 사용자 본인만 취소 가능
+	 * - 좌석을 점유 중인 예약이면 슬롯 좌석을 반환합니다.
 	 *
 	 * @param userId 요청 사용자 ID
 	 * @param reservationId 취소할 예약 ID
@@ -129,6 +135,9 @@ public class ReservationService {
 	        throw new UserException(ErrorCode.INVALID_ROLE);
 	    }
 
+	    if (SlotCapacityManager.holdsSeat(reservation.getStatus())) {
+	        slotCapacityManager.release(reservation.getStore(), reservation.getReservationTime());
+	    }
 	    reservation.setStatus(ReservationStatus.CANCELED);
 	    return DeleteReservation.Response.from(reservationId);
 	}
@@ -137,6 +146,7 @@ public class ReservationService {
 	 * 점주가 예약 상태를 변경하는 메소드
 	 * - PENDING 상태인 예약만 변경 가능
 	 * - 점주 본인의 매장 예약만 변경 가능
+	 * - 거절(REJECTED) 또는 취소(CANCELED)로 변경하면 슬롯 좌석을 반환합니다.
 	 *
 	 * @param ownerId 점주 ID
 	 * @param request 예약 상태 변경 요청
@@ -157,6 +167,9 @@ public class ReservationService {
 	        throw new ReservationException(ErrorCode.INVALID_RESERVATION_STATUS);
 	    }
 
+	    if (!SlotCapacityManager.holdsSeat(request.getStatus())) {
+	        slotCapacityManager.release(store, reservation.getReservationTime());
+	    }
 	    reservation.setStatus(request.getStatus());
 
 	    return ConfirmReservation.Response.builder()
@@ -168,7 +181,7 @@ public class ReservationService {
 	/**
 	 * 사용자의 체크인(도착) 처리를 수행하는 메소드
 	 * - 예약 시간 기준 ±10분 이내 도착 시 체크인 가능
-	 * - 상태가 REJECTED, CANCELED, CHECKED_IN인 경우 체크인 불가
+	 * - 상태가 REJECTED, CANCELED, EXPIRED, NO_SHOW, CHECKED_IN인 경우 체크인 불가
 	 *
 	 * @param userId 사용자 ID
 	 * @param reservationId 체크인할 예약 ID
@@ -187,7 +200,8 @@ public class ReservationService {
 	        throw new ReservationException(ErrorCode.ALREADY_CHECKED_IN);
 	    }
 
-	    if (reservation.getStatus() == ReservationStatus.REJECTED || reservation.getStatus() == ReservationStatus.CANCELED) {
+	    if (reservation.getStatus() == ReservationStatus.REJECTED || reservation.getStatus() == ReservationStatus.CANCELED
+	            || reservation.getStatus() == ReservationStatus.EXPIRED || reservation.getStatus() == ReservationStatus.NO_SHOW) {
 	        throw new ReservationException(ErrorCode.INVALID_RESERVATION_STATUS);
 	    }
 
@@ -206,36 +220,107 @@ public class ReservationService {
 	}
 
 	/**
-	 * 점주가 가진 매장 중 PENDING 상태의 예약 목록 조회
+	 * 사용자의 예약 목록을 페이지 단위로 조회 (취소된 예약 제외)
+	 * - 엔티티를 만들지 않고 DTO 컬럼만 조회합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param page 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @return 예약 목록 페이지
+	 */
+	@Transactional(readOnly = true)
+	public SliceResponse<ReservationDto> getMyReservations(Long userId, Integer page, Integer size) {
+	    Pageable pageable = pageOf(page, size, Sort.by(Sort.Direction.DESC, "reservationTime", "id"));
+	    return SliceResponse.from(
+	            reservationRepository.findDtoByUserIdAndStatusNot(userId, ReservationStatus.CANCELED, pageable));
+	}
+
+	/**
+	 * 점주가 가진 매장 중 PENDING 상태의 예약 목록 조회 (페이지 단위)
 	 *
 	 * @param ownerId 점주 ID
-	 * @return PENDING 상태의 예약 목록
+	 * @param page 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @return PENDING 상태의 예약 목록 페이지
 	 */
-	public List<ReservationDto> getPendingReservationsForOwner(Long ownerId) {
-	    List<Reservation> reservations = reservationRepository.findByStoreOwnerIdAndStatus(ownerId, ReservationStatus.PENDING);
-	    return reservations.stream().map(ReservationDto::fromEntity).toList();
+	@Transactional(readOnly = true)
+	public SliceResponse<ReservationDto> getPendingReservationsForOwner(Long ownerId, Integer page, Integer size) {
+	    return getReservationsByStatusForOwner(ownerId, ReservationStatus.PENDING, page, size);
 	}
 
 	/**
-	 * 점주가 예약 상태별로 예약 목록을 조회
+	 * 점주가 예약 상태별로 예약 목록을 조회 (페이지 단위, 예약 시간순)
 	 *
 	 * @param ownerId 점주 ID
 	 * @param status 조회할 예약 상태
-	 * @return 해당 상태의 예약 목록
+	 * @param page 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @return 해당 상태의 예약 목록 페이지
 	 */
-	public List<ReservationDto> getReservationsByStatusForOwner(Long ownerId, ReservationStatus status) {
-	    List<Reservation> reservations = reservationRepository.findByStoreOwnerIdAndStatus(ownerId, status);
-	    return reservations.stream().map(ReservationDto::fromEntity).toList();
+	@Transactional(readOnly = true)
+	public SliceResponse<ReservationDto> getReservationsByStatusForOwner(Long ownerId, ReservationStatus status,
+	                                                                    Integer page, Integer size) {
+	    Pageable pageable = pageOf(page, size, Sort.by("reservationTime", "id"));
+	    return SliceResponse.from(reservationRepository.findDtoByStoreOwnerIdAndStatus(ownerId, status, pageable));
 	}
 
 	/**
-	 * 모든 예약 중 특정 상태만 필터링하여 조회
+	 * 모든 예약 중 특정 상태만 필터링하여 조회 (페이지 단위)
 	 *
 	 * @param status 조회할 예약 상태
-	 * @return 해당 상태의 예약 목록
+	 * @param page 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @return 해당 상태의 예약 목록 페이지
 	 */
-	public List<ReservationDto> getAllReservationsByStatus(ReservationStatus status) {
-	    List<Reservation> reservations = reservationRepository.findByStatus(status);
-	    return reservations.stream().map(ReservationDto::fromEntity).toList();
+	@Transactional(readOnly = true)
+	public SliceResponse<ReservationDto> getAllReservationsByStatus(ReservationStatus status, Integer page, Integer size) {
+	    return SliceResponse.from(reservationRepository.findDtoByStatus(status, pageOf(page, size, Sort.by("id"))));
+	}
+
+	/**
+	 * 전체 예약 목록 조회 (관리자용, 페이지 단위)
+	 *
+	 * @param page 페이지 번호 (0부터 시작)
+	 * @param size 페이지 크기 (기본 20, 최대 100)
+	 * @return 예약 목록 페이지
+	 */
+	@Transactional(readOnly = true)
+	public SliceResponse<ReservationDto> getAllReservations(Integer page, Integer size) {
+	    return SliceResponse.from(reservationRepository.findAllDto(pageOf(page, size, Sort.by("id"))));
+	}
+
+	/**
+	 * 조건에 맞는 예약을 ID 순서대로 한 건씩 전달하는 메소드 (관리자 내보내기용)
+	 * - DB 커서로 한 행씩 읽어 바로 전달하므로 전체 목록을 메모리에 올리지 않습니다.
+	 * - 스트림은 이 트랜잭션 안에서만 유효하므로 consumer에서 즉시 기록해야 합니다.
+	 *
+	 * @param status 예약 상태 (null이면 전체)
+	 * @param from 예약일 시작 (포함, null이면 제한 없음)
+	 * @param to 예약일 끝 (포함, null이면 제한 없음)
+	 * @param consumer 예약 한 건씩 처리할 콜백
+	 */
+	@Transactional(readOnly = true)
+	public void exportReservations(ReservationStatus status, LocalDate from, LocalDate to,
+	                               Consumer<ReservationDto> consumer) {
+	    LocalDateTime start = from != null ? from.atStartOfDay() : null;
+	    LocalDateTime end = to != null ? to.plusDays(1).atStartOfDay() : null;
+	    try (Stream<ReservationDto> reservations = reservationRepository.streamDto(status, start, end)) {
+	        reservations.forEach(consumer);
+	    }
+	}
+
+	/**
+	 * 페이지 번호/크기를 허용 범위로 제한하여 Pageable을 생성하는 메소드
+	 * - 페이지 번호가 MAX_PAGE_NUMBER를 넘으면 거부합니다. (전체 목록은 관리자 내보내기 API 사용)
+	 *
+	 * @throws UserException 페이지 번호가 허용 범위를 넘은 경우 (400)
+	 */
+	private Pageable pageOf(Integer page, Integer size, Sort sort) {
+	    int pageNumber = page == null ? 0 : Math.max(0, page);
+	    if (pageNumber > MAX_PAGE_NUMBER) {
+	        throw new UserException(ErrorCode.PAGE_OUT_OF_RANGE);
+	    }
+	    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(MAX_PAGE_SIZE, size));
+	    return PageRequest.of(pageNumber, pageSize, sort);
 	}
 }
@@ -0,0 +1,161 @@
+package com.reservation.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.reservation.exception.ServerBusyException;
+import com.reservation.type.ErrorCode;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 이미지 여러 장을 S3에 동시에 업로드하는 컴포넌트
+ * - 스레드 수와 대기열이 고정된 전용 풀에서 업로드하므로, 이미지가 많아도 S3 동시 호출 수가 제한됩니다.
+ * - 전부 성공하거나 전부 실패합니다. 하나라도 실패하면 이미 올라간(또는 나중에 올라가는) 객체를 삭제합니다.
+ * - spring.threads.virtual.enabled=true이면 풀의 작업 스레드도 가상 스레드를 사용합니다.
+ */
+@Slf4j
+@Component
+public class ReviewImageUploader {
+
+    private final S3UploaderService s3UploaderService;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+
+    public ReviewImageUploader(S3UploaderService s3UploaderService,
+                               @Value("${review.image-upload.threads:16}") int threads,
+                               @Value("${review.image-upload.queue-capacity:256}") int queueCapacity,
+                               @Value("${review.image-upload.timeout-ms:30000}") long timeoutMillis,
+                               @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.s3UploaderService = s3UploaderService;
+        this.timeoutMillis = timeoutMillis;
+
+        ThreadFactory threadFactory;
+        if (virtualThreads) {
+            threadFactory = Thread.ofVirtual().name("review-image-upload-", 1).factory();
+        } else {
+            AtomicInteger sequence = new AtomicInteger();
+            threadFactory = task -> {
+                Thread thread = new Thread(task, "review-image-upload-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 이미지들을 동시에 업로드하고 모두 끝날 때까지 대기
+     * - 하나라도 실패하면 성공한 객체를 삭제하고 첫 실패 원인을 그대로 던집니다.
+     *
+     * @param files 업로드할 이미지 목록 (null이면 빈 목록)
+     * @param dirName S3 내 저장 디렉토리 이름 (예: "reviews")
+     * @return 입력 순서와 같은 순서의 업로드된 URL 목록
+     * @throws ServerBusyException 업로드 대기열이 가득 찼거나 제한 시간 안에 끝나지 않은 경우
+     */
+    public List<String> uploadAll(List<MultipartFile> files, String dirName) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<CompletableFuture<String>> uploads = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                uploads.add(CompletableFuture.supplyAsync(() -> s3UploaderService.upload(file, dirName), executor));
+            }
+        } catch (RejectedExecutionException e) {
+            discard(uploads, dirName);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        }
+
+        try {
+            CompletableFuture.allOf(uploads.toArray(CompletableFuture[]::new))
+                    .get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            discard(uploads, dirName);
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            discard(uploads, dirName);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discard(uploads, dirName);
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        }
+
+        return uploads.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * 업로드된 이미지들을 S3에서 삭제 (실패는 로그만 남기고 계속 진행)
+     * - DB 반영이 실패해 업로드를 되돌릴 때 사용합니다.
+     * - 다중 객체 삭제 요청으로 한 번에 삭제합니다.
+     *
+     * @param imageUrls 삭제할 이미지 URL 목록
+     * @param dirName S3 내 저장 디렉토리 이름
+     */
+    public void deleteAll(List<String> imageUrls, String dirName) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        List<String> keys = imageUrls.stream().map(imageUrl -> objectKey(imageUrl, dirName)).toList();
+        try {
+            Set<String> failed = s3UploaderService.deleteAll(keys);
+            if (!failed.isEmpty()) {
+                log.warn("S3 이미지 삭제 실패: {}", failed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("S3 이미지 삭제 실패: {}", keys, e);
+        }
+    }
+
+    /**
+     * 실패한 일괄 업로드의 나머지 업로드를 정리
+     * - 이미 끝난 업로드는 바로, 아직 진행 중인 업로드는 끝나는 즉시 삭제합니다.
+     */
+    private void discard(List<CompletableFuture<String>> uploads, String dirName) {
+        for (CompletableFuture<String> upload : uploads) {
+            upload.whenComplete((imageUrl, error) -> {
+                if (imageUrl != null) {
+                    deleteQuietly(imageUrl, dirName);
+                }
+            });
+        }
+    }
+
+    private void deleteQuietly(String imageUrl, String dirName) {
+        try {
+            s3UploaderService.delete(objectKey(imageUrl, dirName));
+        } catch (RuntimeException e) {
+            log.warn("S3 이미지 삭제 실패: {}", imageUrl, e);
+        }
+    }
+
+    private static String objectKey(String imageUrl, String dirName) {
+        return imageUrl.substring(imageUrl.indexOf(dirName + "/"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,354 @@
+package com.reservation.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.domain.ReviewImage;
+import com.reservation.repository.ReviewImageRepository;
+import com.reservation.type.ReviewImageVariant;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리뷰 이미지의 리사이즈 이미지(썸네일, 중간 크기)를 비동기로 생성하는 컴포넌트
+ * - 이미지 행이 커밋된 뒤 작업을 등록하고, 스레드 수와 대기열이 고정된 전용 풀에서 처리합니다.
+ *   (디코딩/리사이즈는 CPU 작업이므로 스레드 수를 작게 유지합니다.)
+ * - 원본을 S3에서 읽어 변형별 가로 폭으로 줄인 JPEG를 업로드하고, URL을 review_images에 저장합니다.
+ *   원본이 변형 폭보다 작으면 원본 URL을 그대로 사용합니다.
+ * - 디코딩할 수 없거나(손상/잘린 파일 포함) 픽셀 수가 한도를 넘는 이미지는 다시 시도하지 않도록
+ *   변형 URL에 원본 URL을 저장합니다.
+ * - 대기열이 가득 차 건너뛰었거나 S3 오류로 실패한 이미지는 주기적인 보충 작업이 다시 처리합니다.
+ *   실패 횟수를 review_images에 기록하고, 한도(max-attempts)에 도달한 이미지(원본 객체 없음 등)는
+ *   원본 URL로 대체하여 보충 작업이 같은 이미지에 계속 막히지 않게 합니다.
+ */
+@Slf4j
+@Component
+public class ReviewImageVariantGenerator {
+
+    private static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+    private final ReviewImageRepository reviewImageRepository;
+    private final S3UploaderService s3UploaderService;
+    private final S3DeletionOutbox s3DeletionOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final long maxPixels;
+    private final int backfillBatchSize;
+    private final int maxAttempts;
+
+    /** 대기 중이거나 처리 중인 이미지 ID (같은 이미지를 중복 처리하지 않음) */
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong generatedCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ReviewImageVariantGenerator(ReviewImageRepository reviewImageRepository,
+                                       S3UploaderService s3UploaderService,
+                                       S3DeletionOutbox s3DeletionOutbox,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${review.image-variants.threads:2}") int threads,
+                                       @Value("${review.image-variants.queue-capacity:200}") int queueCapacity,
+                                       @Value("${review.image-variants.max-pixels:40000000}") long maxPixels,
+                                       @Value("${review.image-variants.backfill-batch-size:100}") int backfillBatchSize,
+                                       @Value("${review.image-variants.max-attempts:5}") int maxAttempts) {
+        this.reviewImageRepository = reviewImageRepository;
+        this.s3UploaderService = s3UploaderService;
+        this.s3DeletionOutbox = s3DeletionOutbox;
+        this.transactionTemplate = transactionTemplate;
+        this.maxPixels = maxPixels;
+        this.backfillBatchSize = backfillBatchSize;
+        this.maxAttempts = maxAttempts;
+
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "review-image-variant-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 작업 풀 상태와 처리 통계
+     *
+     * @param threads 작업 스레드 수
+     * @param active 처리 중인 작업 수
+     * @param queued 대기 중인 작업 수
+     * @param generated 리사이즈 이미지를 생성한 이미지 수
+     * @param fallbacks 디코딩할 수 없거나 실패 횟수 한도에 도달해 원본 URL로 대체한 이미지 수
+     * @param failed S3/DB 오류로 실패한 횟수 (한도까지 보충 작업에서 다시 시도)
+     * @param rejected 대기열이 가득 차 건너뛴 횟수 (보충 작업에서 다시 시도)
+     */
+    public record Stats(int threads, int active, int queued, long generated, long fallbacks, long failed, long rejected) {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 리사이즈 이미지 생성을 등록 (트랜잭션 밖이면 바로 등록)
+     *
+     * @param reviewImageIds 리뷰 이미지 ID 목록
+     */
+    public void generateAfterCommit(List<Long> reviewImageIds) {
+        if (reviewImageIds.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> reviewImageIds.forEach(this::submit));
+    }
+
+    /**
+     * 리사이즈 이미지가 없는 이미지를 주기적으로 다시 등록
+     */
+    @Scheduled(fixedDelayString = "${review.image-variants.backfill-interval-ms:600000}",
+               initialDelayString = "${review.image-variants.backfill-interval-ms:600000}")
+    public void backfill() {
+        if (executor.getQueue().remainingCapacity() == 0) {
+            return;
+        }
+        for (Long id : reviewImageRepository.findIdsWithoutVariants(PageRequest.of(0, backfillBatchSize))) {
+            if (!submit(id)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 작업 풀 상태와 처리 통계 조회
+     */
+    public Stats stats() {
+        return new Stats(executor.getCorePoolSize(), executor.getActiveCount(), executor.getQueue().size(),
+                generatedCount.get(), fallbackCount.get(), failedCount.get(), rejectedCount.get());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 작업 풀에 등록
+     *
+     * @return 대기열이 가득 차 등록하지 못했으면 false
+     */
+    boolean submit(Long reviewImageId) {
+        if (!inFlight.add(reviewImageId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(reviewImageId);
+                } finally {
+                    inFlight.remove(reviewImageId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(reviewImageId);
+            rejectedCount.incrementAndGet();
+            return false;
+        }
+    }
+
+    /**
+     * 이미지 하나의 리사이즈 이미지를 생성하고 URL을 저장 (작업 스레드에서 호출)
+     */
+    void generate(Long reviewImageId) {
+        ReviewImage image = reviewImageRepository.findById(reviewImageId).orElse(null);
+        if (image == null || image.getThumbnailUrl() != null) {
+            return;
+        }
+        String imageUrl = image.getImageUrl();
+        String originalKey = objectKey(imageUrl);
+
+        Map<ReviewImageVariant, String> variantUrls = new EnumMap<>(ReviewImageVariant.class);
+        List<String> uploadedKeys = new ArrayList<>();
+        if (image.getVariantAttempts() >= maxAttempts) {
+            log.warn("리뷰 이미지 리사이즈가 {}회 실패하여 원본을 사용합니다 (id={})", image.getVariantAttempts(), reviewImageId);
+            fallbackCount.incrementAndGet();
+            saveVariantUrls(reviewImageId, imageUrl, imageUrl, imageUrl, uploadedKeys);
+            return;
+        }
+
+        try {
+            // 원본을 먼저 모두 받아 두어 S3 읽기 오류(재시도)와 디코딩 오류(원본 사용)를 구분
+            byte[] content;
+            try (InputStream in = s3UploaderService.openStream(originalKey)) {
+                content = in.readAllBytes();
+            }
+
+            BufferedImage original;
+            try {
+                original = decode(new ByteArrayInputStream(content), maxPixels);
+            } catch (IOException | RuntimeException e) {
+                log.info("리뷰 이미지를 디코딩할 수 없어 원본을 사용합니다 (id={}): {}", reviewImageId, e.toString());
+                original = null;
+            }
+
+            for (ReviewImageVariant variant : ReviewImageVariant.values()) {
+                if (original == null || original.getWidth() <= variant.getWidth()) {
+                    variantUrls.put(variant, imageUrl);
+                    continue;
+                }
+                String variantKey = variant.objectKey(originalKey);
+                byte[] resized = encodeJpeg(resize(original, variant.getWidth()));
+                variantUrls.put(variant, s3UploaderService.upload(resized, variantKey, VARIANT_CONTENT_TYPE));
+                uploadedKeys.add(variantKey);
+            }
+            (original == null ? fallbackCount : generatedCount).incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.warn("리뷰 이미지 리사이즈 실패 (id={}, 시도 {}회)", reviewImageId, image.getVariantAttempts() + 1, e);
+            recordFailure(reviewImageId, imageUrl);
+            return;
+        }
+
+        saveVariantUrls(reviewImageId, imageUrl,
+                variantUrls.get(ReviewImageVariant.THUMB), variantUrls.get(ReviewImageVariant.MEDIUM), uploadedKeys);
+    }
+
+    private void saveVariantUrls(Long reviewImageId, String imageUrl, String thumbnailUrl, String mediumUrl,
+                                 List<String> uploadedKeys) {
+        transactionTemplate.execute(status -> {
+            int updated = reviewImageRepository.updateVariantUrls(reviewImageId, imageUrl, thumbnailUrl, mediumUrl);
+            // 생성하는 동안 이미지가 교체/삭제되었으면 방금 올린 변형 이미지를 삭제 예약
+            if (updated == 0 && !uploadedKeys.isEmpty()) {
+                s3DeletionOutbox.enqueue(uploadedKeys);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 실패 횟수를 기록
+     * - 실패 전에 올린 변형 이미지는 키가 원본 키로 정해지므로 재시도 시 덮어쓰고, 원본 삭제 시 함께 삭제됩니다.
+     * - DB 오류로 기록하지 못해도 다음 보충 작업에서 다시 시도합니다.
+     */
+    private void recordFailure(Long reviewImageId, String imageUrl) {
+        try {
+            transactionTemplate.execute(status ->
+                    reviewImageRepository.incrementVariantAttempts(reviewImageId, imageUrl));
+        } catch (RuntimeException e) {
+            log.warn("리뷰 이미지 리사이즈 실패 횟수 기록 실패 (id={})", reviewImageId, e);
+        }
+    }
+
+    /**
+     * 이미지를 디코딩
+     * - 크기 정보만 먼저 읽어, 픽셀 수가 한도를 넘으면 디코딩하지 않습니다. (압축 폭탄 방지)
+     *
+     * @return 디코딩한 이미지, 지원하지 않는 형식이거나 한도를 넘으면 null
+     */
+    static BufferedImage decode(InputStream in, long maxPixels) throws IOException {
+        try (ImageInputStream stream = ImageIO.createImageInputStream(in)) {
+            if (stream == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(stream);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(stream, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 비율을 유지한 채 가로 폭을 targetWidth로 축소
+     * - 한 번에 크게 줄이면 계단 현상이 생기므로 절반씩 줄이다가 마지막에 목표 크기로 맞춥니다.
+     * - 투명 영역은 흰색으로 채웁니다. (JPEG로 저장)
+     */
+    static BufferedImage resize(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = next;
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (!ImageIO.write(image, "jpg", out)) {
+            throw new IOException("JPEG writer를 찾을 수 없습니다.");
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 이미지 URL에서 S3 경로만 추출 (예: https://bucket.s3/reviews/img.jpg → reviews/img.jpg)
+     */
+    private static String objectKey(String imageUrl) {
+        return imageUrl.substring(imageUrl.indexOf("reviews/"));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
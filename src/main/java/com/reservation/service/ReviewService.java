@@ -7,6 +7,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.reservation.domain.Reservation;
@@ -18,7 +19,9 @@ import com.reservation.exception.ReviewException;
 import com.reservation.repository.ReservationRepository;
 import com.reservation.repository.ReviewImageRepository;
 import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRepository;
 import com.reservation.type.ErrorCode;
+import com.reservation.type.ReviewImageVariant;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,33 +29,69 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ReviewService {
 
+	private static final String REVIEW_IMAGE_DIR = "reviews";
+
 	private final ReservationRepository reservationRepository;
 	private final ReviewRepository reviewRepository;
 	private final ReviewImageRepository reviewImageRepository;
-	private final S3UploaderService s3UploaderService;
+	private final StoreRepository storeRepository;
+	private final StoreListCache storeListCache;
+	private final ReviewImageUploader reviewImageUploader;
+	private final TransactionTemplate transactionTemplate;
+	private final S3DeletionOutbox s3DeletionOutbox;
+	private final ReviewImageVariantGenerator reviewImageVariantGenerator;
+	private final S3StreamingUploader s3StreamingUploader;
 
 	/**
 	 * 리뷰를 생성하는 메소드
 	 * - 사용자의 예약 이력을 확인한 뒤, 리뷰와 이미지 정보를 함께 저장합니다.
-	 * - S3에 이미지 업로드 후, DB에 해당 이미지 경로를 저장합니다.
+	 * - 이미지는 트랜잭션 밖에서 S3에 동시에 업로드하고, 모두 끝난 뒤에 트랜잭션을 시작해 DB에 저장합니다.
+	 *   (업로드 중에 DB 커넥션을 점유하지 않음)
+	 * - DB 저장이 실패하면 업로드한 이미지를 S3에서 삭제합니다.
+	 * - request.imageUrls에는 스트리밍 업로드(/upload/review-image/stream)로 미리 올린 이미지 URL을 담을 수 있으며,
+	 *   본인이 올렸고 다른 리뷰에 연결되지 않은 이미지만 첨부 이미지 뒤에 연결합니다. (저장 실패 시 삭제하지 않음)
+	 * - 매장의 평점 집계(개수, 합계, 평균)를 같은 트랜잭션에서 갱신합니다.
+	 * - 썸네일/중간 크기 이미지는 커밋 이후 비동기로 생성되므로, 응답의 변형 URL은 아직 원본 URL일 수 있습니다.
 	 *
 	 * @param userId 리뷰를 작성하는 사용자 ID
-	 * @param request 리뷰 요청 정보 (예약 ID, 평점, 내용)
+	 * @param request 리뷰 요청 정보 (예약 ID, 평점, 내용, 스트리밍 업로드 이미지 URL)
 	 * @param images 첨부된 이미지 리스트 (MultipartFile)
 	 * @return 생성된 리뷰 응답 객체 (리뷰 정보 + 이미지 URL 목록)
 	 * @throws IOException 이미지 업로드 실패 시
 	 * @throws ReservationException 예약 정보가 없거나, 본인의 예약이 아닌 경우
+	 * @throws ReviewException 본인이 업로드하지 않았거나 이미 다른 리뷰에 연결된 이미지 URL인 경우
 	 */
-	@Transactional
 	public CreateReview.Response createReview(Long userId, CreateReview.Request request, List<MultipartFile> images)
 			throws IOException {
 
-		Reservation reservation = reservationRepository.findById(request.getReservationId())
-				.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_NOT_FOUND));
+		List<String> streamedUrls = request.getImageUrls() != null ? List.copyOf(request.getImageUrls()) : List.of();
 
-		if (!reservation.getUser().getId().equals(userId)) {
-			throw new ReservationException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
+		// 권한이 없는 요청은 업로드 전에 거절
+		transactionTemplate.execute(status -> {
+			findOwnedReservation(request.getReservationId(), userId);
+			if (!streamedUrls.isEmpty() && reviewImageRepository.existsByImageUrlIn(streamedUrls)) {
+				throw new ReviewException(ErrorCode.INVALID_IMAGE_URL);
+			}
+			return null;
+		});
+		streamedUrls.forEach(url -> s3StreamingUploader.verifyUploadedBy(url, REVIEW_IMAGE_DIR, userId));
+
+		List<String> uploadedUrls = reviewImageUploader.uploadAll(images, REVIEW_IMAGE_DIR);
+		List<String> imageUrls = new ArrayList<>(uploadedUrls);
+		imageUrls.addAll(streamedUrls);
+		try {
+			return transactionTemplate.execute(status -> saveReview(userId, request, imageUrls));
+		} catch (RuntimeException e) {
+			reviewImageUploader.deleteAll(uploadedUrls, REVIEW_IMAGE_DIR);
+			throw e;
 		}
+	}
+
+	/**
+	 * 업로드가 끝난 리뷰와 이미지 경로를 저장 (트랜잭션 안에서 호출)
+	 */
+	private CreateReview.Response saveReview(Long userId, CreateReview.Request request, List<String> imageUrls) {
+		Reservation reservation = findOwnedReservation(request.getReservationId(), userId);
 
 		Review review = Review.builder()
 				.reservation(reservation)
@@ -65,26 +104,54 @@ public class ReviewService {
 				.build();
 
 		Review savedReview = reviewRepository.save(review);
+		storeRepository.applyRatingDelta(savedReview.getStore().getId(), 1, savedReview.getRating());
+		storeListCache.evictRating(savedReview.getStore().getId());
 
-		// 이미지 업로드 및 저장
-		List<String> imageUrls = new ArrayList<>();
-		if (images != null && !images.isEmpty()) {
-			for (MultipartFile image : images) {
-				String imageUrl = s3UploaderService.upload(image, "reviews");
-				imageUrls.add(imageUrl);
-				reviewImageRepository.save(ReviewImage.builder()
-						.review(savedReview)
-						.imageUrl(imageUrl)
-						.build());
-			}
+		// 이미지 경로 저장 및 리사이즈 이미지 생성 예약
+		List<ReviewImage> images = saveImages(savedReview, imageUrls);
+		return CreateReview.Response.fromEntity(savedReview, images);
+	}
+
+	/**
+	 * 이미지 경로를 저장하고, 커밋 이후 리사이즈 이미지 생성을 등록 (트랜잭션 안에서 호출)
+	 *
+	 * @return 저장된 이미지 목록
+	 */
+	private List<ReviewImage> saveImages(Review review, List<String> imageUrls) {
+		List<ReviewImage> images = new ArrayList<>(imageUrls.size());
+		for (String imageUrl : imageUrls) {
+			ReviewImage image = ReviewImage.builder()
+					.review(review)
+					.imageUrl(imageUrl)
+					.build();
+			reviewImageRepository.save(image);
+			images.add(image);
+		}
+		reviewImageVariantGenerator.generateAfterCommit(images.stream().map(ReviewImage::getId).toList());
+		return images;
+	}
+
+	/**
+	 * 예약을 조회하고 요청 사용자의 예약인지 확인
+	 *
+	 * @throws ReservationException 예약 정보가 없거나, 본인의 예약이 아닌 경우
+	 */
+	private Reservation findOwnedReservation(Long reservationId, Long userId) {
+		Reservation reservation = reservationRepository.findById(reservationId)
+				.orElseThrow(() -> new ReservationException(ErrorCode.RESERVATION_NOT_FOUND));
+
+		if (!reservation.getUser().getId().equals(userId)) {
+			throw new ReservationException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
 		}
-		return CreateReview.Response.fromEntity(savedReview, imageUrls);
+		return reservation;
 	}
 
 	/**
 	 * 리뷰를 삭제하는 메소드
 	 * - 사용자가 작성한 리뷰만 삭제 가능
 	 * - 리뷰에 연결된 이미지들도 S3 및 DB에서 함께 삭제됩니다.
+	 *   (S3 객체는 같은 트랜잭션에서 삭제 outbox에 기록하고, 커밋 후 백그라운드에서 삭제)
+	 * - 매장의 평점 집계에서 해당 리뷰를 제외합니다.
 	 *
 	 * @param reviewId 삭제할 리뷰 ID
 	 * @param userId 요청 사용자 ID
@@ -99,23 +166,23 @@ public class ReviewService {
 	        throw new ReviewException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
 	    }
 
-	    // 이미지 S3 및 DB 삭제
-	    List<ReviewImage> images = reviewImageRepository.findByReviewId(reviewId);
-	    for (ReviewImage image : images) {
-	        String fileName = extractFileNameFromUrl(image.getImageUrl());
-	        s3UploaderService.delete(fileName);
-	        reviewImageRepository.delete(image);
-	    }
+	    // 이미지 DB 삭제 및 S3 삭제 예약
+	    deleteImages(reviewId);
 
-	    // 리뷰 삭제
+	    // 리뷰 삭제 및 매장 평점 집계 반영
 	    reviewRepository.delete(review);
+	    storeRepository.applyRatingDelta(review.getStore().getId(), -1, -review.getRating());
+	    storeListCache.evictRating(review.getStore().getId());
 	}
 
 	/**
 	 * 리뷰를 수정하는 메소드
 	 * - 본인의 리뷰만 수정 가능
-	 * - 리뷰 내용 및 평점 변경 가능
+	 * - 리뷰 내용 및 평점 변경 가능 (평점 변경 시 매장 평점 집계도 갱신)
 	 * - 기존 이미지는 모두 삭제하고 새 이미지로 대체
+	 * - 새 이미지는 트랜잭션 밖에서 S3에 동시에 업로드하고, 모두 끝난 뒤에 트랜잭션을 시작합니다.
+	 * - 기존 이미지의 S3 객체는 같은 트랜잭션에서 삭제 outbox에 기록하고(커밋 후 백그라운드에서 삭제),
+	 *   DB 반영이 실패하면 새로 업로드한 이미지를 삭제합니다.
 	 *
 	 * @param reviewId 수정할 리뷰 ID
 	 * @param userId 요청 사용자 ID
@@ -125,15 +192,35 @@ public class ReviewService {
 	 * @throws IOException 이미지 업로드 실패 시
 	 * @throws ReviewException 리뷰가 없거나 권한이 없는 경우
 	 */
-	@Transactional
 	public void updateReview(Long reviewId, Long userId, int newRating, String newContent, List<MultipartFile> newImages)
 			throws IOException {
 
-	    Review review = reviewRepository.findById(reviewId)
-	            .orElseThrow(() -> new ReviewException(ErrorCode.REVIEW_NOT_FOUND));
+		// 권한이 없는 요청은 업로드 전에 거절
+		transactionTemplate.execute(status -> findOwnedReview(reviewId, userId));
 
-	    if (!review.getUser().getId().equals(userId)) {
-	        throw new ReviewException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
+		List<String> newImageUrls = reviewImageUploader.uploadAll(newImages, REVIEW_IMAGE_DIR);
+		try {
+			transactionTemplate.execute(status ->
+					applyReviewUpdate(reviewId, userId, newRating, newContent, newImageUrls));
+		} catch (RuntimeException e) {
+			reviewImageUploader.deleteAll(newImageUrls, REVIEW_IMAGE_DIR);
+			throw e;
+		}
+	}
+
+	/**
+	 * 리뷰 내용과 이미지 경로를 수정 (트랜잭션 안에서 호출)
+	 *
+	 * @return 수정된 리뷰
+	 */
+	private Review applyReviewUpdate(Long reviewId, Long userId, int newRating, String newContent,
+										   List<String> newImageUrls) {
+	    Review review = findOwnedReview(reviewId, userId);
+
+	    // 평점이 바뀐 경우 매장 평점 집계 반영
+	    if (review.getRating() != newRating) {
+	        storeRepository.applyRatingDelta(review.getStore().getId(), 0, newRating - review.getRating());
+	        storeListCache.evictRating(review.getStore().getId());
 	    }
 
 	    // 리뷰 내용 수정
@@ -141,24 +228,43 @@ public class ReviewService {
 	    review.setContent(newContent);
 	    review.setUpdatedAt(LocalDateTime.now());
 
-	    // 기존 이미지 삭제
-	    List<ReviewImage> existingImages = reviewImageRepository.findByReviewId(reviewId);
-	    for (ReviewImage image : existingImages) {
-	        String fileName = extractFileNameFromUrl(image.getImageUrl());
-	        s3UploaderService.delete(fileName);
-	        reviewImageRepository.delete(image);
+	    // 기존 이미지 DB 삭제 및 S3 삭제 예약
+	    deleteImages(reviewId);
+
+	    // 새 이미지 경로 저장 및 리사이즈 이미지 생성 예약
+	    saveImages(review, newImageUrls);
+	    return review;
+	}
+
+	/**
+	 * 리뷰의 이미지 행을 한 번에 삭제하고 S3 객체 삭제를 outbox에 기록 (트랜잭션 안에서 호출)
+	 * - 이미지 URL 조회 1회 + DELETE 1회로 처리합니다.
+	 * - 리사이즈 이미지는 원본 키로 경로가 정해지므로, 생성 여부와 관계없이 함께 삭제합니다.
+	 */
+	private void deleteImages(Long reviewId) {
+	    List<String> objectKeys = new ArrayList<>();
+	    for (String imageUrl : reviewImageRepository.findImageUrlsByReviewId(reviewId)) {
+	        objectKeys.addAll(ReviewImageVariant.allObjectKeys(extractFileNameFromUrl(imageUrl)));
+	    }
+	    if (!objectKeys.isEmpty()) {
+	        reviewImageRepository.deleteAllByReviewIdInBulk(reviewId);
+	        s3DeletionOutbox.enqueue(objectKeys);
 	    }
+	}
+
+	/**
+	 * 리뷰를 조회하고 요청 사용자의 리뷰인지 확인
+	 *
+	 * @throws ReviewException 리뷰가 없거나 권한이 없는 경우
+	 */
+	private Review findOwnedReview(Long reviewId, Long userId) {
+	    Review review = reviewRepository.findById(reviewId)
+	            .orElseThrow(() -> new ReviewException(ErrorCode.REVIEW_NOT_FOUND));
 
-	    // 새 이미지 업로드 및 저장
-	    if (newImages != null) {
-	        for (MultipartFile file : newImages) {
-	            String newUrl = s3UploaderService.upload(file, "reviews");
-				reviewImageRepository.save(ReviewImage.builder()
-				        .review(review)
-				        .imageUrl(newUrl)
-				        .build());
-	        }
+	    if (!review.getUser().getId().equals(userId)) {
+	        throw new ReviewException(ErrorCode.UNAUTHORIZED_REVIEW_ACCESS);
 	    }
+	    return review;
 	}
 
 	/**
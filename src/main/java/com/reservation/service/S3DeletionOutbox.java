@@ -0,0 +1,198 @@
+package com.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.domain.S3ObjectDeletion;
+import com.reservation.repository.S3ObjectDeletionRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * S3 객체 삭제 outbox
+ * - 요청 트랜잭션에서는 삭제할 객체 키를 s3_object_deletions 테이블에 기록만 하고(enqueue), S3는 호출하지 않습니다.
+ *   트랜잭션이 롤백되면 기록도 사라지므로 DB에 남아 있는 이미지의 객체가 지워지지 않습니다.
+ * - 백그라운드 작업이 커밋된 항목을 배치 단위로 가져와 S3 다중 객체 삭제 요청으로 지우고, 실패한 항목은 지수 백오프로 다시 시도합니다.
+ * - 항목을 가져올 때 임대 시간만큼 다음 시도 시각을 미뤄 두므로, S3 호출 중에는 DB 트랜잭션/커넥션을 잡고 있지 않습니다.
+ */
+@Slf4j
+@Component
+public class S3DeletionOutbox {
+
+    private final S3ObjectDeletionRepository s3ObjectDeletionRepository;
+    private final S3UploaderService s3UploaderService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration lease;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+
+    private final AtomicLong deletedCount = new AtomicLong();
+    private final AtomicLong failedAttempts = new AtomicLong();
+
+    public S3DeletionOutbox(S3ObjectDeletionRepository s3ObjectDeletionRepository,
+                            S3UploaderService s3UploaderService,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${s3.deletion-outbox.batch-size:100}") int batchSize,
+                            @Value("${s3.deletion-outbox.max-batches:10}") int maxBatches,
+                            @Value("${s3.deletion-outbox.lease-seconds:300}") long leaseSeconds,
+                            @Value("${s3.deletion-outbox.base-backoff-seconds:30}") long baseBackoffSeconds,
+                            @Value("${s3.deletion-outbox.max-backoff-seconds:3600}") long maxBackoffSeconds) {
+        this.s3ObjectDeletionRepository = s3ObjectDeletionRepository;
+        this.s3UploaderService = s3UploaderService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+    }
+
+    /**
+     * outbox 상태 통계
+     *
+     * @param pending 삭제 대기 중인 항목 수 (재시도 대기 포함)
+     * @param deleted 삭제 완료 횟수
+     * @param failedAttempts 실패한 삭제 시도 횟수
+     */
+    public record Stats(long pending, long deleted, long failedAttempts) {
+    }
+
+    /**
+     * S3 객체 삭제를 현재 트랜잭션에 기록
+     * - 반드시 이미지 행을 삭제/변경하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param objectKeys 삭제할 S3 객체 키 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Collection<String> objectKeys) {
+        if (objectKeys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<S3ObjectDeletion> deletions = new ArrayList<>(objectKeys.size());
+        for (String objectKey : objectKeys) {
+            deletions.add(S3ObjectDeletion.builder()
+                    .objectKey(objectKey)
+                    .attempts(0)
+                    .nextAttemptAt(now)
+                    .createdAt(now)
+                    .build());
+        }
+        s3ObjectDeletionRepository.saveAll(deletions);
+    }
+
+    /**
+     * 주기적으로 삭제 대기 항목을 처리
+     */
+    @Scheduled(fixedDelayString = "${s3.deletion-outbox.fixed-delay-ms:5000}",
+               initialDelayString = "${s3.deletion-outbox.initial-delay-ms:10000}")
+    public void drain() {
+        int deleted = drain(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("S3 객체 삭제 outbox 처리: {}건 삭제", deleted);
+        }
+    }
+
+    /**
+     * 기준 시각에 시도 가능한 항목을 최대 maxBatches번 배치 처리
+     *
+     * @param now 기준 시각
+     * @return S3에서 삭제한 객체 수
+     */
+    int drain(LocalDateTime now) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<S3ObjectDeletion> claimed = transactionTemplate.execute(status -> claim(now));
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+
+            // 트랜잭션 밖에서 다중 객체 삭제 요청으로 S3 삭제
+            Set<String> failedKeys;
+            String error;
+            try {
+                failedKeys = s3UploaderService.deleteAll(
+                        claimed.stream().map(S3ObjectDeletion::getObjectKey).toList());
+                error = "S3 다중 객체 삭제에서 실패한 키";
+            } catch (RuntimeException e) {
+                failedKeys = null;
+                error = String.valueOf(e.getMessage());
+            }
+
+            List<Long> succeeded = new ArrayList<>(claimed.size());
+            List<S3ObjectDeletion> failed = new ArrayList<>();
+            for (S3ObjectDeletion deletion : claimed) {
+                if (failedKeys == null || failedKeys.contains(deletion.getObjectKey())) {
+                    scheduleRetry(deletion, now, error);
+                    failed.add(deletion);
+                } else {
+                    succeeded.add(deletion.getId());
+                }
+            }
+
+            transactionTemplate.execute(status -> {
+                if (!succeeded.isEmpty()) {
+                    s3ObjectDeletionRepository.deleteAllByIdInBatch(succeeded);
+                }
+                if (!failed.isEmpty()) {
+                    s3ObjectDeletionRepository.saveAll(failed);
+                }
+                return null;
+            });
+            deletedCount.addAndGet(succeeded.size());
+            failedAttempts.addAndGet(failed.size());
+            total += succeeded.size();
+
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * outbox 상태 조회
+     */
+    public Stats stats() {
+        return new Stats(s3ObjectDeletionRepository.count(), deletedCount.get(), failedAttempts.get());
+    }
+
+    /**
+     * 처리할 항목을 잠그고 임대 시간만큼 다음 시도 시각을 미룸 (트랜잭션 안에서 호출)
+     * - 처리 도중 서버가 죽어도 임대가 끝나면 다른 인스턴스가 다시 가져갑니다.
+     */
+    private List<S3ObjectDeletion> claim(LocalDateTime now) {
+        List<S3ObjectDeletion> due = s3ObjectDeletionRepository.lockDue(now, batchSize);
+        LocalDateTime leaseUntil = now.plus(lease);
+        for (S3ObjectDeletion deletion : due) {
+            deletion.setNextAttemptAt(leaseUntil);
+        }
+        return due;
+    }
+
+    private void scheduleRetry(S3ObjectDeletion deletion, LocalDateTime now, String message) {
+        int attempts = deletion.getAttempts() + 1;
+        Duration backoff = baseBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        deletion.setAttempts(attempts);
+        deletion.setNextAttemptAt(now.plus(backoff));
+        deletion.setLastError(message.length() > 500 ? message.substring(0, 500) : message);
+        log.warn("S3 객체 삭제 실패 (attempts={}, key={}): {}", attempts, deletion.getObjectKey(), message);
+    }
+}
@@ -0,0 +1,314 @@
+package com.reservation.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.reservation.exception.ReviewException;
+import com.reservation.exception.ServerBusyException;
+import com.reservation.type.ErrorCode;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 본문을 S3 멀티파트 업로드로 바로 흘려보내는 업로더
+ * - MultipartFile처럼 Tomcat이 파일 전체를 메모리/디스크에 받아 둔 뒤 올리지 않고,
+ *   입력 스트림을 파트 크기만큼 읽을 때마다 파트 하나로 업로드합니다.
+ * - 파트 버퍼는 고정 크기 풀에서 빌려 재사용하므로 업로드 하나당 힙 사용량은 파트 크기 하나로 제한되고,
+ *   전체 사용량도 파트 크기 * 버퍼 수를 넘지 않습니다. 버퍼가 모두 사용 중이면 ServerBusyException(503)으로 거절합니다.
+ * - 본문이 최대 크기를 넘으면 IMAGE_TOO_LARGE(413)로 거절합니다.
+ * - 느린 클라이언트가 버퍼를 오래 붙잡지 않도록, 버퍼를 빌린 뒤 본문 수신 속도가 최소 속도보다 느리면
+ *   IMAGE_UPLOAD_TOO_SLOW(408)로 중단합니다.
+ *   (read 한 번이 멈춰 있는 시간은 서블릿 컨테이너의 읽기 타임아웃으로 제한됩니다.)
+ * - 업로드한 사용자 ID를 객체 메타데이터에 기록하며, 리뷰 작성 시 imageUrls로 전달된 URL은
+ *   verifyUploadedBy로 본인이 올린 객체인지 확인한 뒤 리뷰 이미지로 연결합니다. (아니면 INVALID_IMAGE_URL(400))
+ * - 첫 파트를 다 채우기 전에 스트림이 끝나면 멀티파트 없이 단일 PutObject로 업로드합니다.
+ * - 도중에 실패하면 멀티파트 업로드를 중단(abort)하여 이미 올라간 파트가 남지 않게 합니다.
+ */
+@Slf4j
+@Service
+public class S3StreamingUploader {
+
+    /** S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외) */
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    /** S3 멀티파트 업로드의 최대 파트 크기(5GB)보다 작고, byte[] 버퍼로 만들 수 있는 파트 크기 상한 (MB) */
+    static final int MAX_PART_SIZE_MB = 1024;
+
+    /** 업로드한 사용자 ID를 기록하는 S3 사용자 메타데이터 이름 */
+    static final String UPLOADER_METADATA = "uploader-id";
+
+    private static final long MB = 1024L * 1024L;
+
+    private final AmazonS3 amazonS3;
+    private final String bucket;
+    private final PartBufferPool bufferPool;
+    private final long bufferWaitMillis;
+    private final long maxObjectSize;
+    private final long minBytesPerSecond;
+    private final long minRateGraceNanos;
+
+    private final AtomicLong singleUploads = new AtomicLong();
+    private final AtomicLong multipartUploads = new AtomicLong();
+    private final AtomicLong abortedUploads = new AtomicLong();
+    private final AtomicLong rejectedUploads = new AtomicLong();
+
+    public S3StreamingUploader(AmazonS3 amazonS3,
+                               @Value("${cloud.aws.s3.bucket}") String bucket,
+                               @Value("${s3.streaming-upload.part-size-mb:8}") int partSizeMb,
+                               @Value("${s3.streaming-upload.buffers:16}") int buffers,
+                               @Value("${s3.streaming-upload.buffer-wait-ms:1000}") long bufferWaitMillis,
+                               @Value("${s3.streaming-upload.max-size-mb:100}") long maxSizeMb,
+                               @Value("${s3.streaming-upload.min-bytes-per-second:131072}") long minBytesPerSecond,
+                               @Value("${s3.streaming-upload.min-rate-grace-ms:10000}") long minRateGraceMillis) {
+        if (partSizeMb * MB < MIN_PART_SIZE || partSizeMb > MAX_PART_SIZE_MB) {
+            throw new IllegalArgumentException("s3.streaming-upload.part-size-mb는 5 ~ " + MAX_PART_SIZE_MB
+                    + " 사이여야 합니다: " + partSizeMb);
+        }
+        this.amazonS3 = amazonS3;
+        this.bucket = bucket;
+        this.bufferPool = new PartBufferPool((int) (partSizeMb * MB), buffers);
+        this.bufferWaitMillis = bufferWaitMillis;
+        this.maxObjectSize = maxSizeMb * MB;
+        this.minBytesPerSecond = minBytesPerSecond;
+        this.minRateGraceNanos = TimeUnit.MILLISECONDS.toNanos(minRateGraceMillis);
+    }
+
+    /**
+     * 스트리밍 업로드 상태 통계
+     *
+     * @param partSize 파트(버퍼) 크기 (바이트)
+     * @param buffers 버퍼 풀 크기
+     * @param allocatedBuffers 지금까지 만든 버퍼 수
+     * @param inUseBuffers 현재 업로드 중인 버퍼 수
+     * @param singleUploads 단일 PutObject로 끝난 업로드 수
+     * @param multipartUploads 멀티파트로 완료된 업로드 수
+     * @param abortedUploads 실패해 중단한 업로드 수
+     * @param rejectedUploads 버퍼가 없거나 크기 한도를 넘었거나 수신 속도가 느려 거절한 업로드 수
+     */
+    public record Stats(int partSize, int buffers, int allocatedBuffers, int inUseBuffers,
+                        long singleUploads, long multipartUploads, long abortedUploads, long rejectedUploads) {
+    }
+
+    /**
+     * 입력 스트림을 S3에 업로드
+     * - 파일 이름은 UUID + 원본 파일명(경로 제외)으로 구성되며, 지정된 디렉토리(dirName) 하위에 저장됩니다.
+     * - 스트림은 닫지 않습니다.
+     *
+     * @param in 업로드할 내용 (예: 요청 본문)
+     * @param dirName S3 내 저장 디렉토리 이름 (예: "reviews")
+     * @param originalFilename 원본 파일명
+     * @param contentType 내용 타입 (null이면 지정하지 않음)
+     * @param contentLength 선언된 전체 크기 (모르면 -1), 한도를 넘으면 읽기 전에 거절합니다.
+     * @param uploaderId 업로드한 사용자 ID (객체 메타데이터에 기록)
+     * @return 업로드된 파일의 전체 URL
+     * @throws ReviewException 크기가 한도를 넘은 경우 (IMAGE_TOO_LARGE), 수신 속도가 최소 속도보다 느린 경우 (IMAGE_UPLOAD_TOO_SLOW)
+     * @throws ServerBusyException 제한 시간 안에 버퍼를 얻지 못한 경우
+     * @throws RuntimeException 스트림을 읽다가 IOException 발생 시
+     */
+    public String upload(InputStream in, String dirName, String originalFilename, String contentType, long contentLength,
+                         Long uploaderId) {
+        if (contentLength > maxObjectSize) {
+            rejectedUploads.incrementAndGet();
+            throw new ReviewException(ErrorCode.IMAGE_TOO_LARGE);
+        }
+        String fileName = dirName + "/" + UUID.randomUUID() + "_" + baseName(originalFilename);
+
+        ObjectMetadata metadata = metadata(contentType, uploaderId);
+        byte[] buffer = acquireBuffer();
+        try {
+            ReadRate rate = new ReadRate();
+            int length = readPart(in, buffer, rate);
+            if (length < buffer.length) {
+                putObject(fileName, metadata, buffer, length);
+                singleUploads.incrementAndGet();
+            } else {
+                uploadMultipart(in, fileName, metadata, buffer, length, rate);
+                multipartUploads.incrementAndGet();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("S3 업로드 실패", e);
+        } finally {
+            bufferPool.release(buffer);
+        }
+
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
+    /**
+     * 리뷰 작성 요청에 담긴 이미지 URL이 이 사용자가 스트리밍 업로드로 올린 객체인지 확인
+     * - 이 버킷의 dirName 바로 아래 객체이고, 객체 메타데이터의 업로드 사용자 ID가 userId와 같아야 합니다.
+     *
+     * @param imageUrl upload가 반환한 이미지 URL
+     * @param dirName S3 내 저장 디렉토리 이름 (예: "reviews")
+     * @param userId 리뷰를 작성하는 사용자 ID
+     * @throws ReviewException 다른 사용자가 올렸거나 없는 객체인 경우 (INVALID_IMAGE_URL)
+     */
+    public void verifyUploadedBy(String imageUrl, String dirName, Long userId) {
+        String prefix = amazonS3.getUrl(bucket, dirName + "/").toString();
+        if (imageUrl == null || !imageUrl.startsWith(prefix) || imageUrl.indexOf('/', prefix.length()) >= 0) {
+            throw new ReviewException(ErrorCode.INVALID_IMAGE_URL);
+        }
+        // getUrl은 키를 퍼센트 인코딩하므로 되돌림 ('+'는 인코딩되지 않은 그대로의 문자)
+        String name = URLDecoder.decode(imageUrl.substring(prefix.length()).replace("+", "%2B"), StandardCharsets.UTF_8);
+
+        ObjectMetadata metadata;
+        try {
+            metadata = amazonS3.getObjectMetadata(bucket, dirName + "/" + name);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new ReviewException(ErrorCode.INVALID_IMAGE_URL);
+            }
+            throw e;
+        }
+        if (!String.valueOf(userId).equals(metadata.getUserMetaDataOf(UPLOADER_METADATA))) {
+            throw new ReviewException(ErrorCode.INVALID_IMAGE_URL);
+        }
+    }
+
+    /**
+     * 스트리밍 업로드 상태 조회
+     */
+    public Stats stats() {
+        return new Stats(bufferPool.bufferSize(), bufferPool.capacity(), bufferPool.allocated(), bufferPool.inUse(),
+                singleUploads.get(), multipartUploads.get(), abortedUploads.get(), rejectedUploads.get());
+    }
+
+    private byte[] acquireBuffer() {
+        byte[] buffer;
+        try {
+            buffer = bufferPool.acquire(bufferWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            buffer = null;
+        }
+        if (buffer == null) {
+            rejectedUploads.incrementAndGet();
+            throw new ServerBusyException(ErrorCode.SERVER_BUSY);
+        }
+        return buffer;
+    }
+
+    /**
+     * 버퍼를 빌린 뒤의 본문 수신량과 수신에 걸린 시간 (S3 전송 시간 제외)
+     */
+    private static final class ReadRate {
+        private long bytes;
+        private long nanos;
+    }
+
+    /**
+     * 버퍼가 가득 차거나 스트림이 끝날 때까지 읽음
+     * - 유예 시간이 지난 뒤 평균 수신 속도가 최소 속도보다 느리면 중단합니다.
+     *
+     * @return 읽은 바이트 수 (buffer.length보다 작으면 스트림 끝)
+     */
+    private int readPart(InputStream in, byte[] buffer, ReadRate rate) throws IOException {
+        int length = 0;
+        while (length < buffer.length) {
+            long start = System.nanoTime();
+            int count = in.read(buffer, length, buffer.length - length);
+            rate.nanos += System.nanoTime() - start;
+            if (count < 0) {
+                break;
+            }
+            length += count;
+            rate.bytes += count;
+            if (minBytesPerSecond > 0 && rate.nanos > minRateGraceNanos
+                    && rate.bytes * 1_000_000_000.0 / rate.nanos < minBytesPerSecond) {
+                rejectedUploads.incrementAndGet();
+                throw new ReviewException(ErrorCode.IMAGE_UPLOAD_TOO_SLOW);
+            }
+        }
+        return length;
+    }
+
+    private void putObject(String fileName, ObjectMetadata metadata, byte[] buffer, int length) {
+        metadata.setContentLength(length);
+        amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(buffer, 0, length), metadata));
+    }
+
+    /**
+     * 첫 파트(이미 buffer에 읽어 둔 length 바이트)부터 스트림이 끝날 때까지 같은 버퍼로 파트를 읽어 업로드
+     */
+    private void uploadMultipart(InputStream in, String fileName, ObjectMetadata metadata, byte[] buffer, int length,
+                                 ReadRate rate) throws IOException {
+        String uploadId = amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucket, fileName, metadata)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long total = 0;
+            int partNumber = 1;
+            while (length > 0) {
+                total += length;
+                if (total > maxObjectSize) {
+                    rejectedUploads.incrementAndGet();
+                    throw new ReviewException(ErrorCode.IMAGE_TOO_LARGE);
+                }
+                UploadPartRequest request = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(fileName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber++)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length);
+                partETags.add(amazonS3.uploadPart(request).getPartETag());
+                length = readPart(in, buffer, rate);
+            }
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, fileName, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            abortQuietly(fileName, uploadId);
+            throw e;
+        }
+    }
+
+    private void abortQuietly(String fileName, String uploadId) {
+        abortedUploads.incrementAndGet();
+        try {
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, fileName, uploadId));
+        } catch (RuntimeException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패 (key={}, uploadId={})", fileName, uploadId, e);
+        }
+    }
+
+    private static ObjectMetadata metadata(String contentType, Long uploaderId) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        if (contentType != null) {
+            metadata.setContentType(contentType);
+        }
+        if (uploaderId != null) {
+            metadata.addUserMetadata(UPLOADER_METADATA, String.valueOf(uploaderId));
+        }
+        return metadata;
+    }
+
+    /**
+     * 클라이언트가 보낸 파일명에서 경로 부분을 제거
+     */
+    private static String baseName(String originalFilename) {
+        if (originalFilename == null) {
+            return "";
+        }
+        int slash = Math.max(originalFilename.lastIndexOf('/'), originalFilename.lastIndexOf('\\'));
+        return originalFilename.substring(slash + 1);
+    }
+}
@@ -1,6 +1,13 @@
 package com.reservation.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +16,8 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 
@@ -18,6 +27,9 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class S3UploaderService {
 
+    /** S3 다중 객체 삭제 요청 한 번에 보낼 수 있는 최대 키 수 */
+    static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final AmazonS3 amazonS3;
 
     @Value("${cloud.aws.s3.bucket}")
@@ -59,6 +71,35 @@ public class S3UploaderService {
         return amazonS3.getUrl(bucket, fileName).toString();
     }
 
+    /**
+     * 서버에서 만든 파일(바이트 배열)을 지정된 경로에 업로드하는 메소드
+     * - 같은 경로에 파일이 있으면 덮어씁니다.
+     *
+     * @param content 파일 내용
+     * @param fileName 저장할 파일 경로 (예: "reviews/thumb/uuid_filename.jpg")
+     * @param contentType 내용 타입
+     * @return 업로드된 파일의 전체 URL
+     */
+    public String upload(byte[] content, String fileName, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+
+        amazonS3.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(content), metadata));
+        return amazonS3.getUrl(bucket, fileName).toString();
+    }
+
+    /**
+     * S3 버킷의 파일을 읽는 스트림을 여는 메소드
+     * - 다 읽은 뒤 호출한 쪽에서 닫아야 합니다.
+     *
+     * @param fileName 읽을 파일의 경로 (예: "reviews/uuid_filename.jpg")
+     * @return 파일 내용 스트림
+     */
+    public InputStream openStream(String fileName) {
+        return amazonS3.getObject(bucket, fileName).getObjectContent();
+    }
+
     /**
      * S3 버킷에서 지정된 파일을 삭제하는 메소드
      *
@@ -67,4 +108,33 @@ public class S3UploaderService {
     public void delete(String fileName) {
         amazonS3.deleteObject(bucket, fileName);
     }
+
+    /**
+     * S3 버킷에서 여러 파일을 다중 객체 삭제 요청으로 삭제하는 메소드
+     * - 요청 한 번에 최대 1000개 키를 보내므로, N개 삭제가 ceil(N / 1000)번의 호출로 끝납니다.
+     * - 일부 키만 실패하면 예외 대신 실패한 키를 반환합니다. (없는 키는 S3에서 성공으로 처리)
+     *
+     * @param fileNames 삭제할 파일 경로 목록 (예: "reviews/uuid_filename.jpg")
+     * @return 삭제에 실패한 파일 경로 (모두 성공하면 빈 집합)
+     * @throws com.amazonaws.SdkClientException 요청 자체가 실패한 경우 (네트워크 오류 등)
+     */
+    public Set<String> deleteAll(Collection<String> fileNames) {
+        List<String> keys = new ArrayList<>(new LinkedHashSet<>(fileNames));
+        Set<String> failed = new LinkedHashSet<>();
+
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<String> chunk = keys.subList(from, Math.min(from + MAX_KEYS_PER_DELETE, keys.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(bucket)
+                    .withKeys(chunk.toArray(String[]::new))
+                    .withQuiet(true);
+            try {
+                amazonS3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                for (MultiObjectDeleteException.DeleteError error : e.getErrors()) {
+                    failed.add(error.getKey());
+                }
+            }
+        }
+        return failed;
+    }
 }
@@ -0,0 +1,225 @@
+package com.reservation.service;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회원가입 중복 확인용 Bloom filter 모음 (아이디, 이메일, 전화번호)
+ * - "확실히 없음"이면 DB 조회 없이 사용 가능으로 응답하고, "있을 수도 있음"이면 DB로 확인합니다.
+ * - 애플리케이션 시작 시 users 테이블로 구성하고, 가입/정보 수정 시 새 값을 커밋 이후에 추가합니다.
+ * - 탈퇴/변경으로 사라진 값은 제거할 수 없으므로 주기적인 재구성 전까지 DB 조회로 처리됩니다.
+ * - 재구성 중에 커밋된 값은 기존 필터와 새 필터 양쪽에 추가하여 누락되지 않게 합니다.
+ * - DB 콜레이션(대소문자/끝 공백 무시)과 어긋나지 않도록 소문자로 바꾸고 끝 공백을 제거해 저장하며,
+ *   ASCII가 아닌 값은 필터를 거치지 않고 항상 DB로 확인합니다.
+ */
+@Slf4j
+@Component
+public class SignupAvailabilityFilter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+
+    /** 현재 조회에 사용하는 필터 (시작 시 구성 전에는 null → 항상 DB 조회) */
+    private volatile Filters current;
+    /** 재구성 중인 필터 (재구성 중이 아니면 null) */
+    private volatile Filters building;
+
+    /** 재구성 동시 실행 방지 (DB 조회를 감싸므로 가상 스레드를 고정시키는 synchronized 대신 사용) */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private final AtomicLong skippedLookups = new AtomicLong();
+    private final AtomicLong databaseLookups = new AtomicLong();
+
+    public SignupAvailabilityFilter(JdbcTemplate jdbcTemplate,
+                                    @Value("${user.availability-filter.min-expected-insertions:100000}") long minExpectedInsertions,
+                                    @Value("${user.availability-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.minExpectedInsertions = minExpectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 필드별 필터 묶음
+     */
+    private record Filters(BloomFilter userIds, BloomFilter emails, BloomFilter phoneNumbers) {
+
+        Filters(long expectedInsertions, double falsePositiveRate) {
+            this(new BloomFilter(expectedInsertions, falsePositiveRate),
+                    new BloomFilter(expectedInsertions, falsePositiveRate),
+                    new BloomFilter(expectedInsertions, falsePositiveRate));
+        }
+
+        void put(String userId, String email, String phoneNumber) {
+            putIfPresent(userIds, userId);
+            putIfPresent(emails, email);
+            putIfPresent(phoneNumbers, phoneNumber);
+        }
+
+        private static void putIfPresent(BloomFilter filter, String value) {
+            String key = normalize(value);
+            if (key != null) {
+                filter.put(key);
+            }
+        }
+    }
+
+    /**
+     * 필터 상태 통계
+     *
+     * @param ready 필터 구성 완료 여부
+     * @param skippedLookups 필터로 DB 조회를 생략한 횟수
+     * @param databaseLookups 필터가 "있을 수도 있음"이라 DB를 조회한 횟수
+     * @param bitsPerFilter 필드별 필터 비트 수
+     * @param hashCount 필드별 해시 함수 개수
+     */
+    public record Stats(boolean ready, long skippedLookups, long databaseLookups, long bitsPerFilter, int hashCount) {
+    }
+
+    /**
+     * 애플리케이션 시작 시, 그리고 주기적으로 users 테이블로 필터를 재구성
+     * - 현재 회원 수의 2배(최소 min-expected-insertions)를 기준으로 크기를 정하므로, 재구성 시 크기도 다시 맞춰집니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${user.availability-filter.rebuild-interval-ms:21600000}",
+               initialDelayString = "${user.availability-filter.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long expected = Math.max(minExpectedInsertions, (userCount == null ? 0 : userCount) * 2);
+
+            Filters next = new Filters(expected, falsePositiveRate);
+            building = next;
+            try {
+                jdbcTemplate.query("SELECT user_name, email, phone_number FROM users", rs -> {
+                    next.put(rs.getString("user_name"), rs.getString("email"), rs.getString("phone_number"));
+                });
+                current = next;
+            } finally {
+                building = null;
+            }
+            log.info("회원가입 중복 확인 필터 재구성 완료: users={}, bitsPerFilter={}",
+                    userCount, next.userIds().bitCount());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 새로 사용하게 된 값을 필터에 추가 (트랜잭션 안이면 커밋 이후에 추가)
+     * - null인 값은 무시합니다.
+     *
+     * @param userId 아이디
+     * @param email 이메일
+     * @param phoneNumber 전화번호
+     */
+    public void add(String userId, String email, String phoneNumber) {
+        afterCommit(() -> {
+            // 재구성이 끝나 필터가 교체되었으면 새 필터에도 추가
+            Filters filters;
+            do {
+                filters = current;
+                if (filters != null) {
+                    filters.put(userId, email, phoneNumber);
+                }
+                Filters next = building;
+                if (next != null) {
+                    next.put(userId, email, phoneNumber);
+                }
+            } while (filters != current);
+        });
+    }
+
+    /**
+     * 아이디가 사용 중일 수 있는지 확인
+     *
+     * @return false면 확실히 사용 중이 아님, true면 DB 확인 필요
+     */
+    public boolean mightContainUserId(String userId) {
+        Filters filters = current;
+        return record(filters == null || mightContain(filters.userIds(), userId));
+    }
+
+    /**
+     * 이메일이 사용 중일 수 있는지 확인
+     *
+     * @return false면 확실히 사용 중이 아님, true면 DB 확인 필요
+     */
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return record(filters == null || mightContain(filters.emails(), email));
+    }
+
+    /**
+     * 전화번호가 사용 중일 수 있는지 확인
+     *
+     * @return false면 확실히 사용 중이 아님, true면 DB 확인 필요
+     */
+    public boolean mightContainPhoneNumber(String phoneNumber) {
+        Filters filters = current;
+        return record(filters == null || mightContain(filters.phoneNumbers(), phoneNumber));
+    }
+
+    /**
+     * 필터 상태 통계 조회
+     */
+    public Stats stats() {
+        Filters filters = current;
+        return new Stats(filters != null, skippedLookups.get(), databaseLookups.get(),
+                filters == null ? 0 : filters.userIds().bitCount(),
+                filters == null ? 0 : filters.userIds().hashCount());
+    }
+
+    private static boolean mightContain(BloomFilter filter, String value) {
+        String key = normalize(value);
+        return key == null || filter.mightContain(key);
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? databaseLookups : skippedLookups).incrementAndGet();
+        return mightContain;
+    }
+
+    /**
+     * 필터 키로 변환 (끝 공백 제거 + 소문자)
+     *
+     * @return 필터 키, 필터로 판단할 수 없는 값(null, ASCII가 아닌 문자 포함)이면 null
+     */
+    static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0x7F) {
+                return null;
+            }
+        }
+        return value.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
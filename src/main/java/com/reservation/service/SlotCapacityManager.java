@@ -0,0 +1,170 @@
+package com.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.domain.Store;
+import com.reservation.repository.StoreSlotRepository;
+import com.reservation.type.ReservationStatus;
+
+/**
+ * 매장의 시간대(슬롯)별 좌석 정원을 관리하는 컴포넌트
+ * - 예약 시각을 슬롯 단위(기본 30분)로 내림하여 store_slots 행 하나에 점유 수를 기록합니다.
+ * - 좌석 확보는 "reserved_count < 정원" 조건부 UPDATE로 처리되어 동시 요청에도 정원을 넘지 않습니다.
+ * - 정원이 찬 슬롯은 메모리에 잠시 기록해 두고, 이후 요청은 DB 잠금 없이 바로 거절합니다.
+ *   (다른 서버에서 좌석이 반환된 경우 기록 만료 시간만큼 늦게 반영될 수 있음)
+ * - 점유 수가 예약 테이블과 어긋나면 관리자 API로 현재 이후 슬롯을 재계산합니다 (시작 시 자동 실행하지 않음).
+ * - 좌석 확보/반환 결과는 예약 가능 현황 달력(SlotOccupancyCalendar)에도 증분 반영합니다.
+ */
+@Component
+public class SlotCapacityManager {
+
+    /** 좌석을 점유하는 예약 상태 */
+    private static final Set<ReservationStatus> SEAT_HOLDING_STATUSES = EnumSet.of(
+            ReservationStatus.PENDING,
+            ReservationStatus.APPROVED,
+            ReservationStatus.CONFIRMED,
+            ReservationStatus.CHECKED_IN);
+
+    private final StoreSlotRepository storeSlotRepository;
+    private final SlotOccupancyCalendar slotOccupancyCalendar;
+    private final int slotMinutes;
+    private final int defaultCapacity;
+
+    /** 정원이 찬 것으로 확인된 슬롯 (매장 ID + 슬롯 시작 시각) */
+    private final Cache<SlotKey, Boolean> fullSlots;
+
+    public SlotCapacityManager(StoreSlotRepository storeSlotRepository,
+                               SlotOccupancyCalendar slotOccupancyCalendar,
+                               @Value("${reservation.slot.minutes:30}") int slotMinutes,
+                               @Value("${reservation.slot.default-capacity:10}") int defaultCapacity,
+                               @Value("${reservation.slot.full-hint-ttl-seconds:5}") long fullHintTtlSeconds) {
+        if (slotMinutes <= 0 || 60 % slotMinutes != 0) {
+            throw new IllegalArgumentException("reservation.slot.minutes는 60의 약수여야 합니다: " + slotMinutes);
+        }
+        this.storeSlotRepository = storeSlotRepository;
+        this.slotOccupancyCalendar = slotOccupancyCalendar;
+        this.slotMinutes = slotMinutes;
+        this.defaultCapacity = defaultCapacity;
+        this.fullSlots = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(fullHintTtlSeconds))
+                .build();
+    }
+
+    private record SlotKey(long storeId, LocalDateTime slotTime) {
+    }
+
+    /**
+     * 예약 시각이 속한 슬롯의 시작 시각을 계산
+     *
+     * @param reservationTime 예약 시각
+     * @return 슬롯 시작 시각
+     */
+    public LocalDateTime slotOf(LocalDateTime reservationTime) {
+        LocalDateTime hour = reservationTime.truncatedTo(ChronoUnit.HOURS);
+        return hour.plusMinutes(reservationTime.getMinute() / slotMinutes * slotMinutes);
+    }
+
+    /**
+     * 슬롯 길이(분)
+     */
+    public int getSlotMinutes() {
+        return slotMinutes;
+    }
+
+    /**
+     * 매장의 슬롯당 정원 (매장에 설정이 없으면 기본 정원)
+     *
+     * @param store 매장 엔티티
+     * @return 슬롯당 정원
+     */
+    public int capacityOf(Store store) {
+        Integer capacity = store.getSlotCapacity();
+        return Math.max(1, capacity != null ? capacity : defaultCapacity);
+    }
+
+    /**
+     * 예약 상태가 좌석을 점유하는지 여부
+     */
+    public static boolean holdsSeat(ReservationStatus status) {
+        return status != null && SEAT_HOLDING_STATUSES.contains(status);
+    }
+
+    /**
+     * 예약 시각이 속한 슬롯의 좌석 하나를 확보
+     * - 호출한 트랜잭션 안에서 실행되며, 트랜잭션이 롤백되면 확보도 함께 취소됩니다.
+     * - 슬롯 행 잠금을 짧게 유지하도록 예약 저장 직전에 호출해야 합니다.
+     *
+     * @param store 매장 엔티티
+     * @param reservationTime 예약 시각
+     * @return 좌석 확보 성공 여부 (정원 초과 시 false)
+     */
+    public boolean tryAcquire(Store store, LocalDateTime reservationTime) {
+        LocalDateTime slotTime = slotOf(reservationTime);
+        SlotKey key = new SlotKey(store.getId(), slotTime);
+        if (fullSlots.getIfPresent(key) != null) {
+            return false;
+        }
+
+        int capacity = capacityOf(store);
+        if (storeSlotRepository.tryReserve(store.getId(), slotTime, capacity) == 1) {
+            slotOccupancyCalendar.adjust(store.getId(), slotTime, 1);
+            return true;
+        }
+
+        // 슬롯 행이 아직 없을 수 있으므로 생성 후 한 번 더 시도
+        storeSlotRepository.ensureSlot(store.getId(), slotTime);
+        if (storeSlotRepository.tryReserve(store.getId(), slotTime, capacity) == 1) {
+            slotOccupancyCalendar.adjust(store.getId(), slotTime, 1);
+            return true;
+        }
+
+        fullSlots.put(key, Boolean.TRUE);
+        return false;
+    }
+
+    /**
+     * 예약 시각이 속한 슬롯의 좌석 하나를 반환
+     *
+     * @param store 매장 엔티티
+     * @param reservationTime 예약 시각
+     */
+    public void release(Store store, LocalDateTime reservationTime) {
+        LocalDateTime slotTime = slotOf(reservationTime);
+        if (storeSlotRepository.release(store.getId(), slotTime) == 1) {
+            slotOccupancyCalendar.adjust(store.getId(), slotTime, -1);
+        }
+        fullSlots.invalidate(new SlotKey(store.getId(), slotTime));
+    }
+
+    /**
+     * 현재 슬롯 이후의 점유 수를 예약 테이블 기준으로 재계산 (관리자 보정 작업)
+     * - 슬롯 테이블 도입 이전 예약 및 운영 중 어긋난 점유 수를 보정할 때 한 번 실행합니다.
+     * - 현재 이후의 모든 슬롯 행을 갱신하며 커밋까지 행 잠금을 유지하므로,
+     *   그동안 해당 슬롯의 좌석 확보/반환은 대기합니다. 예약이 적은 시간에 실행해야 합니다.
+     *
+     * @return 점유 수를 초기화한 슬롯 행 수
+     */
+    @Transactional
+    public int reconcile() {
+        LocalDateTime from = slotOf(LocalDateTime.now());
+        List<String> statuses = SEAT_HOLDING_STATUSES.stream().map(Enum::name).toList();
+
+        int reset = storeSlotRepository.resetFrom(from);
+        storeSlotRepository.recalculateFrom(from, slotMinutes, statuses);
+        fullSlots.invalidateAll();
+        slotOccupancyCalendar.invalidateAll();
+        return reset;
+    }
+}
@@ -0,0 +1,159 @@
+package com.reservation.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.reservation.domain.StoreSlot;
+import com.reservation.repository.StoreSlotRepository;
+
+/**
+ * 매장별·일자별 슬롯 점유 수를 메모리에 보관하는 달력
+ * - 하루치 점유 수를 슬롯 개수 길이의 정수 배열(AtomicIntegerArray) 하나로 표현합니다.
+ *   (30분 슬롯 기준 하루 48칸)
+ * - 캐시에 없는 일자는 store_slots 테이블에서 기간 단위로 한 번에 읽어 채웁니다.
+ * - 좌석 확보/반환이 커밋되면 해당 칸만 증감하며, 다른 서버의 변경은 TTL 만료 후 다시 읽을 때 반영됩니다.
+ */
+@Component
+public class SlotOccupancyCalendar {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final StoreSlotRepository storeSlotRepository;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final Cache<DayKey, AtomicIntegerArray> days;
+
+    public SlotOccupancyCalendar(StoreSlotRepository storeSlotRepository,
+                                 @Value("${reservation.slot.minutes:30}") int slotMinutes,
+                                 @Value("${reservation.availability.maximum-days:100000}") long maximumDays,
+                                 @Value("${reservation.availability.ttl-seconds:60}") long ttlSeconds) {
+        this.storeSlotRepository = storeSlotRepository;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = MINUTES_PER_DAY / slotMinutes;
+        this.days = Caffeine.newBuilder()
+                .maximumSize(maximumDays)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    private record DayKey(long storeId, LocalDate date) {
+    }
+
+    /**
+     * 하루의 슬롯 개수
+     */
+    public int getSlotsPerDay() {
+        return slotsPerDay;
+    }
+
+    /**
+     * 기간 내 일자별 슬롯 점유 수 조회
+     *
+     * @param storeId 매장 ID
+     * @param from 시작일 (포함)
+     * @param to 종료일 (포함)
+     * @return 일자 순서대로 슬롯별 점유 수 배열 (배열 인덱스 i = 0시 + i * 슬롯 길이)
+     */
+    public List<int[]> occupancy(long storeId, LocalDate from, LocalDate to) {
+        List<DayKey> keys = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            keys.add(new DayKey(storeId, date));
+        }
+
+        Map<DayKey, AtomicIntegerArray> loaded = days.getAll(keys, this::load);
+
+        List<int[]> result = new ArrayList<>(keys.size());
+        for (DayKey key : keys) {
+            AtomicIntegerArray counts = loaded.get(key);
+            int[] snapshot = new int[slotsPerDay];
+            for (int i = 0; i < slotsPerDay; i++) {
+                snapshot[i] = counts.get(i);
+            }
+            result.add(snapshot);
+        }
+        return result;
+    }
+
+    /**
+     * 좌석 확보(+1)/반환(-1)을 트랜잭션 커밋 후 달력에 반영
+     * - 해당 일자가 캐시에 없으면 다음 조회 시 DB에서 읽으므로 아무것도 하지 않습니다.
+     *
+     * @param storeId 매장 ID
+     * @param slotTime 슬롯 시작 시각
+     * @param delta 점유 수 변화량
+     */
+    public void adjust(long storeId, LocalDateTime slotTime, int delta) {
+        DayKey key = new DayKey(storeId, slotTime.toLocalDate());
+        int index = indexOf(slotTime);
+        afterCommit(() -> {
+            AtomicIntegerArray counts = days.getIfPresent(key);
+            if (counts != null) {
+                counts.addAndGet(index, delta);
+            }
+        });
+    }
+
+    /**
+     * 달력 전체 비우기 (점유 수 재계산 후 호출)
+     */
+    public void invalidateAll() {
+        days.invalidateAll();
+    }
+
+    /**
+     * 캐시에 없는 일자들을 store_slots 테이블에서 한 번의 기간 조회로 채움
+     */
+    private Map<DayKey, AtomicIntegerArray> load(Set<? extends DayKey> missing) {
+        long storeId = missing.iterator().next().storeId();
+        LocalDate first = missing.stream().map(DayKey::date).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate last = missing.stream().map(DayKey::date).max(Comparator.naturalOrder()).orElseThrow();
+
+        Map<DayKey, AtomicIntegerArray> loaded = new HashMap<>();
+        for (DayKey key : missing) {
+            loaded.put(key, new AtomicIntegerArray(slotsPerDay));
+        }
+
+        List<StoreSlot> slots = storeSlotRepository.findByStoreIdAndSlotTimeRange(
+                storeId, first.atStartOfDay(), last.plusDays(1).atStartOfDay());
+        for (StoreSlot slot : slots) {
+            LocalDateTime slotTime = slot.getId().getSlotTime();
+            AtomicIntegerArray counts = loaded.get(new DayKey(storeId, slotTime.toLocalDate()));
+            if (counts != null) {
+                counts.set(indexOf(slotTime), slot.getReservedCount());
+            }
+        }
+        return loaded;
+    }
+
+    private int indexOf(LocalDateTime slotTime) {
+        return (slotTime.getHour() * 60 + slotTime.getMinute()) / slotMinutes;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
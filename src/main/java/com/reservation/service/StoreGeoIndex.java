@@ -0,0 +1,350 @@
+package com.reservation.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reservation.domain.Store;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 매장 좌표를 메모리에 보관하는 격자(Grid) 기반 공간 인덱스
+ * - 위도/경도를 고정 크기 셀로 나누어 매장 ID를 셀 단위로 보관합니다.
+ * - 사용자 위치에서 가까운 셀부터 링(ring) 단위로 넓혀가며 가까운 N개 매장을 찾습니다.
+ * - 매장 등록/수정/삭제 시 StoreService에서 증분 갱신하고, 애플리케이션 시작 시 전체 재구성합니다.
+ * - 증분 갱신은 트랜잭션 커밋 후에 반영하므로 롤백된 변경은 인덱스에 남지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreGeoIndex {
+
+    /** 셀 한 변의 크기 (도 단위, 위도 기준 약 5.5km) */
+    static final double CELL_DEGREES = 0.05;
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+    private static final int ROWS = (int) Math.ceil(180.0 / CELL_DEGREES);
+    private static final int COLS = (int) Math.ceil(360.0 / CELL_DEGREES);
+
+    private static final Comparator<Nearby> NEAREST_FIRST =
+            Comparator.comparingDouble(Nearby::distance).thenComparingLong(Nearby::storeId);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Map<Long, Point> points = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    /**
+     * 인덱스에 저장되는 매장 좌표
+     */
+    private record Point(long storeId, double lat, double lng, long cell) {
+    }
+
+    /**
+     * 가까운 매장 검색 결과 (매장 ID + 사용자와의 거리(km))
+     */
+    public record Nearby(long storeId, double distance) {
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB의 매장 좌표로 인덱스를 전체 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        points.clear();
+        cells.clear();
+        jdbcTemplate.query(
+                "SELECT id, lat, lng FROM stores WHERE lat IS NOT NULL AND lng IS NOT NULL",
+                rs -> {
+                    put(rs.getLong("id"), rs.getDouble("lat"), rs.getDouble("lng"));
+                });
+        ready = true;
+    }
+
+    /**
+     * 매장 좌표를 인덱스에 반영 (등록/수정)
+     * - 좌표가 없는 매장은 인덱스에서 제거합니다.
+     * - 트랜잭션 안에서 호출되면 호출 시점의 좌표를 커밋 후에 반영합니다.
+     *
+     * @param store 반영할 매장 엔티티
+     */
+    public void put(Store store) {
+        Long storeId = store.getId();
+        if (storeId == null) {
+            return;
+        }
+        Double lat = store.getLat();
+        Double lng = store.getLng();
+        if (lat == null || lng == null) {
+            remove(storeId);
+            return;
+        }
+        afterCommit(() -> put(storeId, lat, lng));
+    }
+
+    private void put(long storeId, double lat, double lng) {
+        Point point = new Point(storeId, lat, lng, cellOf(lat, lng));
+        Point previous = points.put(storeId, point);
+        if (previous != null && previous.cell() != point.cell()) {
+            removeFromCell(previous);
+        }
+        cells.computeIfAbsent(point.cell(), key -> ConcurrentHashMap.newKeySet()).add(storeId);
+    }
+
+    /**
+     * 매장을 인덱스에서 제거 (삭제)
+     * - 트랜잭션 안에서 호출되면 커밋 후에 제거합니다.
+     *
+     * @param storeId 제거할 매장 ID
+     */
+    public void remove(Long storeId) {
+        afterCommit(() -> removePoint(storeId));
+    }
+
+    private void removePoint(Long storeId) {
+        Point previous = points.remove(storeId);
+        if (previous != null) {
+            removeFromCell(previous);
+        }
+    }
+
+    private void removeFromCell(Point point) {
+        cells.computeIfPresent(point.cell(), (key, ids) -> {
+            ids.remove(point.storeId());
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 인덱스가 시작 시 재구성을 마쳐 조회에 사용할 수 있는지 여부
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 인덱스에 등록된 매장 수
+     */
+    public int size() {
+        return points.size();
+    }
+
+    /**
+     * 사용자 위치에서 가장 가까운 매장 N개를 거리 오름차순(동률 시 매장 ID 오름차순)으로 반환
+     * - 사용자 셀에서 시작해 바깥 링으로 넓혀가며, 남은 링의 최소 거리가
+     *   현재 N번째 후보보다 멀어지면 탐색을 종료합니다.
+     *
+     * @param lat 사용자 위도
+     * @param lng 사용자 경도
+     * @param limit 반환할 최대 매장 수
+     * @return 가까운 매장 목록
+     */
+    public List<Nearby> findNearest(double lat, double lng, int limit) {
+        return findNearest(lat, lng, limit, null, null, null);
+    }
+
+    /**
+     * 커서(이전 페이지 마지막 매장의 거리, 매장 ID) 이후의 가까운 매장 N개를 반환
+     * - (거리, 매장 ID) 순서상 커서보다 뒤에 있는 매장만 후보로 사용합니다.
+     * - 모든 매장이 커서보다 가까운 안쪽 링은 건너뛰고 커서 거리에 닿는 링부터 탐색합니다.
+     * - 반경이 주어지면 반경을 벗어나는 링은 탐색하지 않습니다.
+     *
+     * @param lat 사용자 위도
+     * @param lng 사용자 경도
+     * @param limit 반환할 최대 매장 수
+     * @param afterDistance 커서의 거리 (첫 페이지는 null)
+     * @param afterId 커서의 매장 ID (첫 페이지는 null)
+     * @param maxDistance 검색 반경(km), 이보다 먼 매장은 제외 (null이면 제한 없음)
+     * @return 가까운 매장 목록
+     */
+    public List<Nearby> findNearest(double lat, double lng, int limit,
+                                    Double afterDistance, Long afterId, Double maxDistance) {
+        if (limit <= 0 || points.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int originRow = rowOf(lat);
+        int originCol = colOf(lng);
+
+        Nearby after = afterDistance != null && afterId != null ? new Nearby(afterId, afterDistance) : null;
+        int startRing = after != null ? firstRingReaching(after.distance()) : 0;
+
+        // 가장 먼 후보가 맨 앞에 오는 최대 힙
+        PriorityQueue<Nearby> heap = new PriorityQueue<>(NEAREST_FIRST.reversed());
+
+        for (int ring = startRing; ring <= Math.max(ROWS, COLS); ring++) {
+            double remaining = minDistanceOutside(lat, ring);
+            if (heap.size() >= limit && heap.peek().distance() <= remaining) {
+                break;
+            }
+            if (maxDistance != null && remaining > maxDistance) {
+                break;
+            }
+            if (8L * ring > cells.size()) {
+                // 링의 셀 수가 매장이 있는 셀 수보다 많아지면, 매장이 있는 셀을 직접 훑어
+                // 아직 탐색하지 않은 링(ring 이상)의 매장만 비교하는 편이 저렴함
+                for (Map.Entry<Long, Set<Long>> cell : cells.entrySet()) {
+                    if (ringOf(cell.getKey(), originRow, originCol) >= ring) {
+                        offerAll(heap, cell.getValue(), lat, lng, after, maxDistance, limit);
+                    }
+                }
+                break;
+            }
+
+            for (int row = originRow - ring; row <= originRow + ring; row++) {
+                if (row < 0 || row >= ROWS) {
+                    continue;
+                }
+                boolean edgeRow = row == originRow - ring || row == originRow + ring;
+                int step = edgeRow ? 1 : 2 * ring;
+                for (int col = originCol - ring; col <= originCol + ring; col += Math.max(step, 1)) {
+                    if (col < 0 || col >= COLS) {
+                        continue;
+                    }
+                    Set<Long> ids = cells.get((long) row * COLS + col);
+                    if (ids != null) {
+                        offerAll(heap, ids, lat, lng, after, maxDistance, limit);
+                    }
+                }
+            }
+        }
+
+        List<Nearby> result = new ArrayList<>(heap);
+        result.sort(NEAREST_FIRST);
+        return result;
+    }
+
+    private void offerAll(PriorityQueue<Nearby> heap, Set<Long> storeIds, double lat, double lng,
+                          Nearby after, Double maxDistance, int limit) {
+        for (Long storeId : storeIds) {
+            Point point = points.get(storeId);
+            if (point != null) {
+                offer(heap, new Nearby(storeId, haversineKm(lat, lng, point.lat(), point.lng())),
+                        after, maxDistance, limit);
+            }
+        }
+    }
+
+    private void offer(PriorityQueue<Nearby> heap, Nearby candidate, Nearby after, Double maxDistance, int limit) {
+        if (after != null && NEAREST_FIRST.compare(candidate, after) <= 0) {
+            return;
+        }
+        if (maxDistance != null && candidate.distance() > maxDistance) {
+            return;
+        }
+        if (heap.size() < limit) {
+            heap.add(candidate);
+        } else if (NEAREST_FIRST.compare(candidate, heap.peek()) < 0) {
+            heap.poll();
+            heap.add(candidate);
+        }
+    }
+
+    /**
+     * 아직 탐색하지 않은 링(ring 이상)에 있는 매장까지의 거리 하한(km)
+     * - 사용자가 셀 경계에 있을 수 있으므로 (ring - 1)개 셀 폭을 하한으로 사용합니다.
+     * - 경도 방향 셀 폭은 고위도로 갈수록 줄어들기 때문에 보수적으로 계산합니다.
+     */
+    private double minDistanceOutside(double lat, int ring) {
+        double farthestLat = Math.min(89.9, Math.abs(lat) + (ring + 1) * CELL_DEGREES);
+        return Math.max(0, ring - 1) * CELL_DEGREES * KM_PER_DEGREE * Math.cos(Math.toRadians(farthestLat));
+    }
+
+    /**
+     * 커서 거리에 닿을 수 있는 첫 링 번호
+     * - ring 미만의 링에 있는 매장은 위도/경도 차이가 각각 ring개 셀 폭보다 작으므로,
+     *   자오선과 위선을 따라 잰 거리의 합(2 × ring × 셀 폭)이 대원 거리의 상한이 됩니다.
+     * - 이 상한이 커서 거리보다 작은 링의 매장은 모두 커서보다 가까워 건너뛸 수 있습니다.
+     */
+    private static int firstRingReaching(double distance) {
+        double ringKm = 2 * CELL_DEGREES * KM_PER_DEGREE;
+        return (int) Math.max(0, Math.min(Math.max(ROWS, COLS), Math.ceil(distance / ringKm) - 1));
+    }
+
+    private static int ringOf(long cell, int originRow, int originCol) {
+        int row = (int) (cell / COLS);
+        int col = (int) (cell % COLS);
+        return Math.max(Math.abs(row - originRow), Math.abs(col - originCol));
+    }
+
+    private static long cellOf(double lat, double lng) {
+        return (long) rowOf(lat) * COLS + colOf(lng);
+    }
+
+    private static int rowOf(double lat) {
+        return Math.min(ROWS - 1, Math.max(0, (int) Math.floor((lat + 90.0) / CELL_DEGREES)));
+    }
+
+    private static int colOf(double lng) {
+        return Math.min(COLS - 1, Math.max(0, (int) Math.floor((lng + 180.0) / CELL_DEGREES)));
+    }
+
+    /**
+     * 위도/경도 범위로 표현한 검색 영역
+     */
+    public record BoundingBox(double minLat, double maxLat, double minLng, double maxLng) {
+    }
+
+    /**
+     * 중심 좌표에서 반경(km)을 모두 포함하는 위도/경도 사각형을 계산
+     * - 극지방에 가까워 경도 폭을 계산할 수 없으면 경도 전체 범위를 사용합니다.
+     *
+     * @param lat 중심 위도
+     * @param lng 중심 경도
+     * @param radiusKm 반경(km)
+     * @return 반경을 포함하는 사각형 영역
+     */
+    public static BoundingBox boundingBox(double lat, double lng, double radiusKm) {
+        double dLat = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90.0, lat - dLat);
+        double maxLat = Math.min(90.0, lat + dLat);
+
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double dLng = cos > 1e-6 ? radiusKm / (KM_PER_DEGREE * cos) : 180.0;
+        if (dLng >= 180.0) {
+            return new BoundingBox(minLat, maxLat, -180.0, 180.0);
+        }
+        return new BoundingBox(minLat, maxLat, Math.max(-180.0, lng - dLng), Math.min(180.0, lng + dLng));
+    }
+
+    /**
+     * Haversine 공식을 이용한 두 좌표 간 거리 계산
+     *
+     * @return 두 좌표 사이의 거리 (km)
+     */
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
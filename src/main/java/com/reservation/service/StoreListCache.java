@@ -0,0 +1,250 @@
+package com.reservation.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.reservation.domain.Store;
+import com.reservation.dto.StoreDto;
+import com.reservation.dto.store.StoreList;
+
+/**
+ * 매장 목록(/stores/list) 페이지 응답을 보관하는 read-through 캐시
+ * - 키: 정렬 기준 + 양자화된 사용자 위치 + 반경 + 커서 + 페이지 크기
+ * - 최대 개수(W-TinyLFU 정책으로 제거)와 TTL로 크기와 최신성을 제한합니다.
+ * - 매장/리뷰 변경 시 결과가 달라질 수 있는 페이지만 골라서 무효화합니다.
+ *   (해당 매장이 포함된 페이지 + 변경된 정렬 값이 페이지 범위 안에 들어가는 페이지)
+ * - 무효화는 트랜잭션 커밋 이후에 수행하여, 커밋 전 데이터가 다시 캐시되지 않도록 합니다.
+ * - 커밋 전에 시작된 조회가 무효화 이후에 저장되는 경우를 막기 위해, 조회 도중 무효화가 실행되었으면
+ *   결과를 응답에만 사용하고 캐시에 남기지 않습니다. (무효화 세대 번호 비교)
+ */
+@Component
+public class StoreListCache {
+
+    /** 사용자 위치 양자화 단위 (도 단위, 위도 기준 약 110m) */
+    static final double LOCATION_QUANTUM = 0.001;
+
+    /** SQL(ACOS)과 Haversine 계산 오차를 흡수하기 위한 거리 여유값(km) */
+    private static final double DISTANCE_EPSILON_KM = 0.001;
+
+    private final Cache<Key, Entry> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+    /** 무효화 세대 번호 (무효화가 실행될 때마다 증가) */
+    private final AtomicLong epoch = new AtomicLong();
+
+    public StoreListCache(@Value("${store.list-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${store.list-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 캐시 키 (위치는 양자화된 값, 위치가 없으면 null)
+     */
+    public record Key(String sort, Double lat, Double lng, Double radiusKm, String cursor, int size) {
+    }
+
+    /**
+     * 무효화 판단에 사용하는 매장 상태 (변경 전/후)
+     */
+    public record StoreState(long id, String storeName, Double lat, Double lng, double avgRating) {
+
+        public static StoreState of(Store store) {
+            return new StoreState(store.getId(), store.getStoreName(), store.getLat(), store.getLng(),
+                    store.getAvgRating());
+        }
+    }
+
+    /**
+     * 캐시 통계 (적중/미스/용량·TTL 제거/명시적 무효화 횟수)
+     */
+    public record Stats(long hitCount, long missCount, double hitRate, long evictionCount,
+                        long invalidationCount, long size) {
+    }
+
+    /**
+     * 캐시된 페이지 + 무효화 판단용 정보
+     * - window가 null이면 (상호명순) 모든 매장 변경에 영향을 받는 것으로 간주합니다.
+     */
+    private record Entry(StoreList.Response page, Set<Long> storeIds, Window window) {
+    }
+
+    /**
+     * 페이지가 담당하는 (정렬 값, 매장 ID) 범위: (from, to]
+     * - 오름차순 비교를 위해 평점순은 평점의 부호를 바꾼 값을 사용합니다.
+     */
+    private record Window(double fromKey, long fromId, double toKey, long toId) {
+
+        boolean contains(double key, long id, double epsilon) {
+            boolean afterFrom = key > fromKey + epsilon
+                    || (Math.abs(key - fromKey) <= epsilon && (epsilon > 0 || id > fromId));
+            boolean beforeTo = key < toKey - epsilon
+                    || (Math.abs(key - toKey) <= epsilon && (epsilon > 0 || id <= toId));
+            return afterFrom && beforeTo;
+        }
+    }
+
+    /**
+     * 위도/경도를 캐시 키 단위로 양자화
+     * - 조회도 양자화된 위치로 수행하므로 같은 키의 응답은 항상 같습니다.
+     */
+    public static double quantize(double degrees) {
+        return Math.round(degrees / LOCATION_QUANTUM) * LOCATION_QUANTUM;
+    }
+
+    /**
+     * 캐시에서 페이지를 조회하고, 없으면 loader로 조회한 결과를 저장 후 반환
+     * - loader 실행 도중 무효화가 실행되었으면 저장한 결과를 다시 제거합니다.
+     *   (커밋 전 데이터를 읽었을 수 있으므로, 다음 조회에서 다시 읽도록 함)
+     *
+     * @param key 캐시 키
+     * @param loader 캐시 미스 시 실제 조회 로직
+     * @return 매장 목록 페이지
+     */
+    public StoreList.Response get(Key key, Supplier<StoreList.Response> loader) {
+        long loadEpoch = epoch.get();
+        boolean[] loaded = new boolean[1];
+        Entry entry = cache.get(key, k -> {
+            loaded[0] = true;
+            return toEntry(k, loader.get());
+        });
+        if (loaded[0] && epoch.get() != loadEpoch && cache.asMap().remove(key, entry)) {
+            invalidations.incrementAndGet();
+        }
+        return entry.page();
+    }
+
+    /**
+     * 매장 등록/수정/삭제 후 영향을 받는 페이지를 무효화
+     *
+     * @param before 변경 전 매장 상태 (등록이면 null)
+     * @param after 변경 후 매장 상태 (삭제면 null)
+     */
+    public void evictStore(StoreState before, StoreState after) {
+        long storeId = before != null ? before.id() : after.id();
+        afterCommit(() -> evictIf((key, entry) -> entry.storeIds().contains(storeId)
+                || isAffected(key, entry, before)
+                || isAffected(key, entry, after)));
+    }
+
+    /**
+     * 리뷰 작성/수정/삭제로 매장 평점이 바뀐 후 영향을 받는 페이지를 무효화
+     * - 평점순 페이지와 해당 매장이 포함된 페이지만 제거합니다.
+     *
+     * @param storeId 평점이 바뀐 매장 ID
+     */
+    public void evictRating(Long storeId) {
+        afterCommit(() -> evictIf((key, entry) -> "rating".equals(key.sort())
+                || entry.storeIds().contains(storeId)));
+    }
+
+    /**
+     * 모든 페이지를 무효화 (전체 매장 평점 재계산 등 일괄 변경 후)
+     */
+    public void evictAll() {
+        afterCommit(() -> evictIf((key, entry) -> true));
+    }
+
+    /**
+     * 캐시 통계 조회
+     */
+    public Stats stats() {
+        CacheStats stats = cache.stats();
+        return new Stats(stats.hitCount(), stats.missCount(), stats.hitRate(), stats.evictionCount(),
+                invalidations.get(), cache.estimatedSize());
+    }
+
+    private Entry toEntry(Key key, StoreList.Response page) {
+        Set<Long> storeIds = page.getStores().stream().map(StoreDto::getId).collect(Collectors.toSet());
+        if ("name".equals(key.sort())) {
+            return new Entry(page, storeIds, null);
+        }
+
+        double fromKey = Double.NEGATIVE_INFINITY;
+        long fromId = Long.MIN_VALUE;
+        StoreListCursor cursor = StoreListCursor.decode(key.cursor(), key.sort());
+        if (cursor != null) {
+            fromKey = sortKey(key.sort(), Double.parseDouble(cursor.value()));
+            fromId = cursor.id();
+        }
+
+        double toKey = Double.POSITIVE_INFINITY;
+        long toId = Long.MAX_VALUE;
+        if (page.isHasNext()) {
+            StoreDto last = page.getStores().get(page.getStores().size() - 1);
+            toKey = sortKey(key.sort(), "rating".equals(key.sort()) ? last.getAvgRating() : last.getDistance());
+            toId = last.getId();
+        }
+        return new Entry(page, storeIds, new Window(fromKey, fromId, toKey, toId));
+    }
+
+    /**
+     * 매장 상태가 해당 페이지의 결과에 새로 들어가거나 빠질 수 있는지 판단
+     */
+    private boolean isAffected(Key key, Entry entry, StoreState store) {
+        if (store == null) {
+            return false;
+        }
+
+        Double distance = null;
+        if (key.lat() != null && store.lat() != null && store.lng() != null) {
+            distance = StoreGeoIndex.haversineKm(key.lat(), key.lng(), store.lat(), store.lng());
+        }
+        if (key.radiusKm() != null && (distance == null || distance > key.radiusKm() + DISTANCE_EPSILON_KM)) {
+            return false;
+        }
+
+        return switch (key.sort()) {
+            case "rating" -> entry.window().contains(-store.avgRating(), store.id(), 0);
+            case "distance" -> distance != null
+                    && entry.window().contains(distance, store.id(), DISTANCE_EPSILON_KM);
+            default -> true;
+        };
+    }
+
+    private static double sortKey(String sort, double value) {
+        return "rating".equals(sort) ? -value : value;
+    }
+
+    private void evictIf(BiPredicate<Key, Entry> affected) {
+        // 진행 중인 조회가 결과를 캐시에 남기지 않도록 제거보다 먼저 증가
+        epoch.incrementAndGet();
+        Iterator<Map.Entry<Key, Entry>> iterator = cache.asMap().entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> cached = iterator.next();
+            if (affected.test(cached.getKey(), cached.getValue())) {
+                iterator.remove();
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,48 @@
+package com.reservation.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.reservation.dto.StoreDto;
+import com.reservation.exception.UserException;
+import com.reservation.type.ErrorCode;
+
+/**
+ * 매장 목록 페이지 커서 (정렬 기준 + 마지막 행의 정렬 값 + 매장 ID)
+ * - URL-safe Base64 문자열로 인코딩되어 클라이언트에 전달됩니다.
+ */
+record StoreListCursor(String sort, String value, long id) {
+
+    static StoreListCursor of(String sort, StoreDto last) {
+        String value = switch (sort) {
+            case "rating" -> Double.toString(last.getAvgRating());
+            case "distance" -> Double.toString(last.getDistance());
+            default -> last.getStoreName();
+        };
+        return new StoreListCursor(sort, value, last.getId());
+    }
+
+    String encode() {
+        String raw = sort + ":" + id + ":" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static StoreListCursor decode(String cursor, String expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new UserException(ErrorCode.INVALID_CURSOR);
+            }
+            if (!"name".equals(expectedSort)) {
+                Double.parseDouble(parts[2]);
+            }
+            return new StoreListCursor(parts[0], parts[2], Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new UserException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -7,7 +7,15 @@ import static com.reservation.type.ErrorCode.PASSWORD_UNMATCHED;
 import static com.reservation.type.ErrorCode.USER_NOT_FOUND;
 import static com.reservation.type.UserType.ADMIN;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
@@ -20,6 +28,8 @@ import com.reservation.domain.User;
 import com.reservation.dto.StoreDto;
 import com.reservation.dto.store.DeleteStore;
 import com.reservation.dto.store.RegisterStore;
+import com.reservation.dto.store.StoreAvailability;
+import com.reservation.dto.store.StoreList;
 import com.reservation.dto.store.UpdateStore;
 import com.reservation.exception.UserException;
 import com.reservation.repository.StoreRepository;
@@ -33,10 +43,19 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class StoreService {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_AVAILABILITY_DAYS = 7;
+    private static final int MAX_AVAILABILITY_DAYS = 31;
+
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
     private final JdbcTemplate jdbcTemplate;
     private final PasswordEncoder passwordEncoder;
+    private final StoreGeoIndex storeGeoIndex;
+    private final StoreListCache storeListCache;
+    private final SlotCapacityManager slotCapacityManager;
+    private final SlotOccupancyCalendar slotOccupancyCalendar;
 
     /**
      * 상점을 등록하는 메소드
@@ -65,10 +84,13 @@ public class StoreService {
                 .lat(storeDto.getLat())
                 .lng(storeDto.getLng())
                 .detail(storeDto.getDetail())
+                .slotCapacity(storeDto.getSlotCapacity())
                 .owner(user)
                 .build();
 
         Store savedStore = storeRepository.save(store);
+        storeGeoIndex.put(savedStore);
+        storeListCache.evictStore(null, StoreListCache.StoreState.of(savedStore));
 
         return RegisterStore.Response.fromEntity(savedStore);
     }
@@ -99,21 +121,173 @@ public class StoreService {
         }
 
         storeRepository.delete(store);
+        storeGeoIndex.remove(store.getId());
+        storeListCache.evictStore(StoreListCache.StoreState.of(store), null);
 
         return DeleteStore.Response.from(StoreDto.fromEntity(store));
     }
 
     /**
-     * 사용자의 위치를 기준으로 상점 목록을 정렬 조회하는 메소드
+     * 매장 평점 집계를 리뷰 테이블 기준으로 재계산하는 메소드 (관리자 보정 작업)
+     * - 집계 컬럼 도입 직후 기존 리뷰를 반영하거나 집계가 어긋났을 때 한 번 실행합니다.
+     * - 전체 매장 행을 갱신하므로 시작 시 자동 실행하지 않습니다.
+     * - 실행 중 작성/삭제된 리뷰의 증분 갱신(applyRatingDelta)과 겹치면 해당 매장이 어긋날 수 있으므로
+     *   리뷰 작성이 적은 시간에 실행합니다.
+     *
+     * @return 갱신된 매장 행 수
+     */
+    @Transactional
+    public int recalculateRatings() {
+        int updated = storeRepository.recalculateRatings();
+        storeListCache.evictAll();
+        return updated;
+    }
+
+    /**
+     * 사용자의 위치를 기준으로 상점 목록을 정렬 조회하는 메소드 (커서 기반 페이지네이션)
      * - 평점(rating), 거리(distance), 상호명(store_name) 기준으로 정렬 가능
-     * - Haversine 공식을 이용해 거리 계산
+     * - 평점은 리뷰 변경 시 증분 갱신되는 stores.avg_rating 컬럼을 사용 (리뷰 테이블 JOIN 없음)
+     * - 거리순 정렬은 메모리 공간 인덱스(StoreGeoIndex)로 가까운 매장을 찾은 뒤 해당 매장만 조회
+     * - 인덱스가 아직 준비되지 않았으면 SQL(Haversine 공식)로 정렬, 위치 정보가 없으면 상호명순
+     * - OFFSET 없이 (정렬 값, 매장 ID) 이후의 행만 조회하므로 뒤쪽 페이지도 첫 페이지와 비용이 같음
+     * - 반경(radiusKm)이 주어지면 위도/경도 사각형으로 후보를 먼저 거른 뒤 실제 거리로 필터링
+     * - 거리순 정렬과 반경 검색에서는 좌표가 없는 매장을 제외 (공간 인덱스와 같은 결과)
+     * - 결과 페이지는 StoreListCache에 보관되며, 사용자 위치는 캐시 키 단위로 양자화하여 조회
      *
      * @param sortBy 정렬 기준 (rating, distance, etc.)
      * @param userLat 사용자 위도
      * @param userLng 사용자 경도
+     * @param radiusKm 검색 반경(km), 사용자 위치가 있을 때만 적용 (선택)
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 정렬된 상점 목록 페이지
+     * @throws UserException 커서 형식이 잘못되었거나 정렬 기준과 맞지 않는 경우
+     */
+    public StoreList.Response getStores(String sortBy, Double userLat, Double userLng, Double radiusKm,
+                                        String cursor, Integer size) {
+        boolean hasLocation = userLat != null && userLng != null;
+        String sort = resolveSort(sortBy, hasLocation);
+        int pageSize = resolvePageSize(size);
+        Double radius = hasLocation && radiusKm != null && radiusKm > 0 ? radiusKm : null;
+        Double lat = hasLocation ? StoreListCache.quantize(userLat) : null;
+        Double lng = hasLocation ? StoreListCache.quantize(userLng) : null;
+
+        StoreListCache.Key key = new StoreListCache.Key(sort, lat, lng, radius, cursor, pageSize);
+        return storeListCache.get(key, () -> loadStores(sort, lat, lng, radius, cursor, pageSize));
+    }
+
+    /**
+     * 캐시 미스 시 DB(또는 공간 인덱스)에서 상점 목록 한 페이지를 조회하는 메소드
+     *
+     * @param sort 정규화된 정렬 기준 (name, rating, distance)
+     * @param userLat 양자화된 사용자 위도
+     * @param userLng 양자화된 사용자 경도
+     * @param radius 검색 반경(km), 없으면 null
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @param pageSize 페이지 크기
+     * @return 정렬된 상점 목록 페이지
+     */
+    private StoreList.Response loadStores(String sort, Double userLat, Double userLng, Double radius,
+                                          String cursor, int pageSize) {
+        StoreListCursor after = StoreListCursor.decode(cursor, sort);
+
+        List<StoreDto> stores;
+        if ("distance".equals(sort) && storeGeoIndex.isReady()) {
+            stores = getNearestStores(storeGeoIndex.findNearest(userLat, userLng, pageSize + 1,
+                    after != null ? Double.valueOf(after.value()) : null,
+                    after != null ? after.id() : null,
+                    radius));
+        } else {
+            stores = queryStorePage(sort, userLat, userLng, radius, after, pageSize + 1);
+        }
+
+        boolean hasNext = stores.size() > pageSize;
+        List<StoreDto> page = hasNext ? stores.subList(0, pageSize) : stores;
+        String nextCursor = hasNext ? StoreListCursor.of(sort, page.get(page.size() - 1)).encode() : null;
+
+        return StoreList.Response.builder()
+                .stores(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * SQL로 (정렬 값, 매장 ID) 커서 이후의 한 페이지를 조회하는 메소드
+     * - 반경이 주어지면 (lat, lng) 인덱스를 타는 사각형 조건으로 후보를 줄인 뒤,
+     *   후보 행에 대해서만 거리 계산 및 반경 필터를 적용합니다.
+     *
+     * @param sort 정렬 기준 (name, rating, distance)
+     * @param userLat 사용자 위도
+     * @param userLng 사용자 경도
+     * @param radiusKm 검색 반경(km), 없으면 null
+     * @param after 이전 페이지 마지막 행의 커서 (없으면 null)
+     * @param limit 조회할 최대 행 수
      * @return 정렬된 상점 목록
      */
-    public List<StoreDto> getStores(String sortBy, Double userLat, Double userLng) {
+    private List<StoreDto> queryStorePage(String sort, Double userLat, Double userLng, Double radiusKm,
+                                          StoreListCursor after, int limit) {
+        List<Object> params = new ArrayList<>(Arrays.asList(userLat, userLng, userLat));
+        List<String> conditions = new ArrayList<>();
+
+        // 좌표가 없으면 거리가 NULL이 되어 정렬 맨 앞에 오고 커서 비교(t.distance > ?)에서 빠지므로 제외
+        String storeFilter = "distance".equals(sort) ? "WHERE s.lat IS NOT NULL AND s.lng IS NOT NULL" : "";
+        if (radiusKm != null) {
+            StoreGeoIndex.BoundingBox box = StoreGeoIndex.boundingBox(userLat, userLng, radiusKm);
+            storeFilter = "WHERE s.lat BETWEEN ? AND ? AND s.lng BETWEEN ? AND ?";
+            params.addAll(Arrays.asList(box.minLat(), box.maxLat(), box.minLng(), box.maxLng()));
+            conditions.add("t.distance <= ?");
+            params.add(radiusKm);
+        }
+        if (after != null) {
+            Object value = "name".equals(sort) ? after.value() : Double.valueOf(after.value());
+            conditions.add(getSeekCondition(sort));
+            params.addAll(Arrays.asList(value, value, after.id()));
+        }
+        params.add(limit);
+
+        String where = conditions.isEmpty() ? "" : "WHERE " + String.join(" AND ", conditions);
+
+        String sql = """
+            SELECT t.* FROM (
+                SELECT 
+                    s.id AS store_id,
+                    s.store_name,
+                    s.lat,
+                    s.lng,
+                    s.detail,
+                    s.avg_rating,
+                    (6371 * ACOS(LEAST(1.0,
+                        COS(RADIANS(?)) * COS(RADIANS(s.lat)) 
+                        * COS(RADIANS(s.lng) - RADIANS(?)) 
+                        + SIN(RADIANS(?)) * SIN(RADIANS(s.lat))
+                    ))) AS distance
+                FROM stores s
+            """ + storeFilter + """
+
+            ) t
+            """ + where + """
+
+            ORDER BY """ + getSortQuery(sort) + """
+
+            LIMIT ?""";
+
+        return jdbcTemplate.query(sql, storeRowMapper(), params.toArray());
+    }
+
+    /**
+     * 공간 인덱스가 찾은 매장들의 상세 정보를 조회하여 거리순으로 반환하는 메소드
+     * - 전체 매장이 아닌 인덱스 결과에 포함된 매장 ID만 조회합니다.
+     *
+     * @param nearby 거리 오름차순으로 정렬된 매장 ID + 거리 목록
+     * @return 거리순 상점 목록
+     */
+    private List<StoreDto> getNearestStores(List<StoreGeoIndex.Nearby> nearby) {
+        if (nearby.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        String placeholders = nearby.stream().map(n -> "?").collect(Collectors.joining(", "));
         String sql = """
             SELECT 
                 s.id AS store_id,
@@ -121,31 +295,120 @@ public class StoreService {
                 s.lat,
                 s.lng,
                 s.detail,
-                COALESCE(AVG(r.rating), 0) AS avg_rating,
-                (6371 * ACOS(
-                    COS(RADIANS(?)) * COS(RADIANS(s.lat)) 
-                    * COS(RADIANS(s.lng) - RADIANS(?)) 
-                    + SIN(RADIANS(?)) * SIN(RADIANS(s.lat))
-                )) AS distance
-            FROM Stores s
-            LEFT JOIN Reviews r ON s.id = r.store_id
-            GROUP BY s.id, s.store_name, s.lat, s.lng
-            ORDER BY """ + getSortQuery(sortBy) + ", s.store_name ASC";
-
-        return jdbcTemplate.query(sql, new Object[]{userLat, userLng, userLat}, storeRowMapper());
+                s.avg_rating,
+                NULL AS distance
+            FROM stores s
+            WHERE s.id IN (""" + placeholders + ")";
+
+        Map<Long, StoreDto> storesById = new HashMap<>();
+        jdbcTemplate.query(sql, storeRowMapper(), nearby.stream().map(StoreGeoIndex.Nearby::storeId).toArray())
+                .forEach(store -> storesById.put(store.getId(), store));
+
+        return nearby.stream()
+                .filter(n -> storesById.containsKey(n.storeId()))
+                .map(n -> {
+                    StoreDto store = storesById.get(n.storeId());
+                    store.setDistance(n.distance());
+                    return store;
+                })
+                .toList();
+    }
+
+    /**
+     * 매장의 기간 내 슬롯별 남은 좌석 수를 조회하는 메소드
+     * - 예약 테이블을 조회하지 않고, 메모리 달력(SlotOccupancyCalendar)의 일자별 점유 수 배열을 사용
+     * - 기간을 생략하면 오늘부터 7일, 최대 31일까지 조회 가능
+     *
+     * @param storeId 매장 ID
+     * @param from 시작일 (포함, 선택)
+     * @param to 종료일 (포함, 선택)
+     * @return 일자별 슬롯 남은 좌석 수
+     * @throws UserException 매장이 없거나 조회 기간이 올바르지 않은 경우
+     */
+    @Transactional(readOnly = true)
+    public StoreAvailability.Response getAvailability(Long storeId, LocalDate from, LocalDate to) {
+        Store store = storeRepository.findById(storeId)
+                .orElseThrow(() -> new UserException(ErrorCode.STORE_NOT_FOUND));
+
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusDays(DEFAULT_AVAILABILITY_DAYS - 1);
+        if (end.isBefore(start) || ChronoUnit.DAYS.between(start, end) >= MAX_AVAILABILITY_DAYS) {
+            throw new UserException(ErrorCode.INVALID_DATE_RANGE);
+        }
+
+        int capacity = slotCapacityManager.capacityOf(store);
+        List<int[]> occupancy = slotOccupancyCalendar.occupancy(storeId, start, end);
+
+        List<StoreAvailability.Day> days = new ArrayList<>(occupancy.size());
+        for (int i = 0; i < occupancy.size(); i++) {
+            int[] reserved = occupancy.get(i);
+            int[] remaining = new int[reserved.length];
+            for (int slot = 0; slot < reserved.length; slot++) {
+                remaining[slot] = Math.max(0, capacity - reserved[slot]);
+            }
+            days.add(StoreAvailability.Day.builder()
+                    .date(start.plusDays(i))
+                    .remaining(remaining)
+                    .build());
+        }
+
+        return StoreAvailability.Response.builder()
+                .storeId(storeId)
+                .slotMinutes(slotCapacityManager.getSlotMinutes())
+                .capacity(capacity)
+                .days(days)
+                .build();
+    }
+
+    /**
+     * 요청된 정렬 기준을 name, rating, distance 중 하나로 정규화하는 메소드
+     * - 위치 정보 없이 거리순을 요청하면 상호명순으로 대체합니다.
+     */
+    private String resolveSort(String sortBy, boolean hasLocation) {
+        return switch (sortBy) {
+            case "rating" -> "rating";
+            case "distance" -> hasLocation ? "distance" : "name";
+            default -> "name";
+        };
+    }
+
+    /**
+     * 요청된 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 제한하는 메소드
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(MAX_PAGE_SIZE, size));
     }
 
     /**
      * 정렬 조건에 따라 ORDER BY 절을 생성하는 메소드
+     * - 정렬 값이 같은 매장은 매장 ID로 순서를 고정합니다.
      * 
      * @param sortBy 정렬 기준 문자열
      * @return SQL ORDER BY 구문
      */
     private String getSortQuery(String sortBy) {
         return switch (sortBy) {
-            case "rating" -> "avg_rating DESC";
-            case "distance" -> "distance ASC";
-            default -> "s.store_name ASC"; // 기본: 상호명
+            case "rating" -> "t.avg_rating DESC, t.store_id ASC";
+            case "distance" -> "t.distance ASC, t.store_id ASC";
+            default -> "t.store_name ASC, t.store_id ASC"; // 기본: 상호명
+        };
+    }
+
+    /**
+     * 정렬 조건에 따라 커서 이후 행만 남기는 WHERE 조건을 생성하는 메소드
+     * - 파라미터 순서: 정렬 값, 정렬 값, 매장 ID
+     *
+     * @param sortBy 정렬 기준 문자열
+     * @return SQL WHERE 조건
+     */
+    private String getSeekCondition(String sortBy) {
+        return switch (sortBy) {
+            case "rating" -> "(t.avg_rating < ? OR (t.avg_rating = ? AND t.store_id > ?))";
+            case "distance" -> "(t.distance > ? OR (t.distance = ? AND t.store_id > ?))";
+            default -> "(t.store_name > ? OR (t.store_name = ? AND t.store_id > ?))";
         };
     }
 
@@ -154,14 +417,14 @@ public class StoreService {
      * 
      * @return StoreDto RowMapper 객체
      */
-    private RowMapper<StoreDto> storeRowMapper() {
+    static RowMapper<StoreDto> storeRowMapper() {
         return (rs, rowNum) -> StoreDto.builder()
                 .id(rs.getLong("store_id"))
                 .storeName(rs.getString("store_name"))
-                .lat(rs.getDouble("lat"))
-                .lng(rs.getDouble("lng"))
+                .lat(rs.getObject("lat", Double.class))
+                .lng(rs.getObject("lng", Double.class))
                 .avgRating(rs.getDouble("avg_rating"))
-                .distance(rs.getDouble("distance"))
+                .distance(rs.getObject("distance", Double.class))
                 .build();
     }
 
@@ -195,10 +458,16 @@ public class StoreService {
             throw new UserException(CANNOT_CREATE_ADMIN);
         }
 
+        StoreListCache.StoreState before = StoreListCache.StoreState.of(store);
         store.setStoreName(request.getStoreName());
         store.setLat(request.getLat());
         store.setLng(request.getLng());
         store.setDetail(request.getDetail());
+        if (request.getSlotCapacity() != null) {
+            store.setSlotCapacity(request.getSlotCapacity());
+        }
+        storeGeoIndex.put(store);
+        storeListCache.evictStore(before, StoreListCache.StoreState.of(store));
 
         return store;
     }
@@ -10,18 +10,26 @@ import static com.reservation.type.ErrorCode.USER_NOT_FOUND;
 import static com.reservation.type.UserType.ADMIN;
 import static com.reservation.type.UserType.OWNER;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import com.reservation.domain.User;
 import com.reservation.dto.UserDto;
 import com.reservation.dto.store.UpdateStore;
+import com.reservation.dto.user.CheckAvailability;
 import com.reservation.dto.user.CreateUser;
 import com.reservation.dto.user.DeleteUser;
 import com.reservation.dto.user.UpdateUser;
 import com.reservation.dto.user.UpdateUserPartnership;
+import com.reservation.exception.ServerBusyException;
 import com.reservation.exception.UserException;
 import com.reservation.repository.UserRepository;
 import com.reservation.type.ErrorCode;
@@ -36,10 +44,14 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final PasswordHashingExecutor passwordHashingExecutor;
+	private final SignupAvailabilityFilter signupAvailabilityFilter;
+	private final TaskExecutor applicationTaskExecutor;
 
 	/**
 	 * 신규 사용자를 생성하는 메소드
-	 * - 아이디, 이메일, 전화번호 중복 여부를 확인하고 회원을 등록합니다.
+	 * - 아이디, 이메일, 전화번호 중복 여부를 한 번의 조회로 확인하고 회원을 등록합니다.
+	 * - 조회와 저장 사이에 동시 가입으로 중복이 생기면 유니크 제약 위반을 같은 중복 오류로 변환합니다.
 	 * - 관리자(ADMIN) 계정은 생성할 수 없습니다.
 	 * 
 	 * @param request 사용자 생성 요청 객체
@@ -47,19 +59,22 @@ public class UserService {
 	 */
 	@Transactional
 	public User createUser(CreateUser.Request request) {
+	    if(request.getUserType() == ADMIN) {
+	    	throw new UserException(CANNOT_CREATE_ADMIN);
+	    }
+
 		// 중복 및 예외 처리
-		if(userRepository.existsByUserId(request.getUserId())) {
+		List<UserRepository.UniqueFields> conflicts = userRepository.findByUserIdOrEmailOrPhoneNumber(
+				request.getUserId(), request.getEmail(), request.getPhoneNumber());
+		if (conflicts.stream().anyMatch(c -> Objects.equals(c.getUserId(), request.getUserId()))) {
 			throw new UserException(USERID_ALREADY_IN_USE);
 		}
-		if (userRepository.existsByEmail(request.getEmail())) {
+		if (conflicts.stream().anyMatch(c -> Objects.equals(c.getEmail(), request.getEmail()))) {
             throw new UserException(EMAIL_ALREADY_IN_USE);
         }
-		if(userRepository.existsByPhoneNumber(request.getPhoneNumber())) {
+		if (conflicts.stream().anyMatch(c -> Objects.equals(c.getPhoneNumber(), request.getPhoneNumber()))) {
 			throw new UserException(ErrorCode.PHONE_NUMBER_ALREADY_IN_USE);
 		}
-	    if(request.getUserType() == ADMIN) {
-	    	throw new UserException(CANNOT_CREATE_ADMIN);
-	    }
 
 		// 사용자 생성
 		User user = User.builder()
@@ -70,13 +85,72 @@ public class UserService {
                 .userType(request.getUserType())
                 .phoneNumber(request.getPhoneNumber())
                 .build();
-		
-		return userRepository.save(user);
+
+		try {
+			User saved = userRepository.saveAndFlush(user);
+			signupAvailabilityFilter.add(saved.getUserId(), saved.getEmail(), saved.getPhoneNumber());
+			return saved;
+		} catch (DataIntegrityViolationException e) {
+			throw new UserException(duplicateErrorCodeOf(e));
+		}
+	}
+
+	/**
+	 * 회원가입 폼의 아이디/이메일/전화번호 사용 가능 여부를 확인하는 메소드
+	 * - 전달된 값만 확인하며, 전달되지 않은 필드는 null로 응답합니다.
+	 * - Bloom filter에서 "확실히 없음"이면 DB 조회 없이 사용 가능으로 응답하고, 그 외에는 DB로 확인합니다.
+	 * - 실제 가입 시에는 createUser에서 DB로 다시 확인합니다.
+	 *
+	 * @param userId 아이디 (선택)
+	 * @param email 이메일 (선택)
+	 * @param phoneNumber 전화번호 (선택)
+	 * @return 필드별 사용 가능 여부
+	 */
+	public CheckAvailability.Response checkAvailability(String userId, String email, String phoneNumber) {
+		return CheckAvailability.Response.builder()
+				.userIdAvailable(userId == null ? null
+						: !(signupAvailabilityFilter.mightContainUserId(userId) && userRepository.existsByUserId(userId)))
+				.emailAvailable(email == null ? null
+						: !(signupAvailabilityFilter.mightContainEmail(email) && userRepository.existsByEmail(email)))
+				.phoneNumberAvailable(phoneNumber == null ? null
+						: !(signupAvailabilityFilter.mightContainPhoneNumber(phoneNumber)
+								&& userRepository.existsByPhoneNumber(phoneNumber)))
+				.build();
+	}
+
+	/**
+	 * 유니크 제약 위반 예외에서 중복된 필드에 해당하는 오류 코드를 찾는 메소드
+	 *
+	 * @param e 저장 시 발생한 무결성 위반 예외
+	 * @return 중복 필드에 해당하는 오류 코드
+	 * @throws DataIntegrityViolationException 회원 유니크 제약이 아닌 위반이면 그대로 던짐
+	 */
+	private ErrorCode duplicateErrorCodeOf(DataIntegrityViolationException e) {
+		String constraintName = null;
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				constraintName = violation.getConstraintName();
+				break;
+			}
+		}
+		String detail = constraintName != null ? constraintName : String.valueOf(e.getMostSpecificCause().getMessage());
+
+		if (detail.contains(User.UK_USER_NAME)) {
+			return USERID_ALREADY_IN_USE;
+		}
+		if (detail.contains(User.UK_EMAIL)) {
+			return EMAIL_ALREADY_IN_USE;
+		}
+		if (detail.contains(User.UK_PHONE_NUMBER)) {
+			return ErrorCode.PHONE_NUMBER_ALREADY_IN_USE;
+		}
+		throw e;
 	}
 
 	/**
 	 * 사용자를 삭제하는 메소드
 	 * - 비밀번호 검증 후 해당 사용자를 DB에서 삭제합니다.
+	 * - 중복 확인 필터에서는 제거할 수 없으므로, 필터 재구성 전까지 해당 값은 DB 조회로 확인됩니다.
 	 *
 	 * @param userId 인증된 사용자 ID
 	 * @param request 비밀번호 확인 요청
@@ -100,6 +174,7 @@ public class UserService {
 	 * 사용자 정보를 수정하는 메소드
 	 * - 이메일, 닉네임, 전화번호, 유저 타입 변경 가능
 	 * - 비밀번호 확인이 필요하며, 관리자 계정으로의 변경은 불가합니다.
+	 * - 변경된 이메일/전화번호는 커밋 이후 중복 확인 필터에 추가됩니다.
 	 *
 	 * @param userId 인증된 사용자 ID
 	 * @param request 수정 요청 객체
@@ -121,6 +196,7 @@ public class UserService {
 		user.setNickname(request.getNickname());
 		user.setUserType(request.getUserType());
 		user.setPhoneNumber(request.getPhoneNumber());
+		signupAvailabilityFilter.add(null, request.getEmail(), request.getPhoneNumber());
 
 	    if (!request.getPassword().equals(user.getPassword())) {
 	        user.setPassword(passwordEncoder.encode(request.getPassword()));
@@ -157,13 +233,16 @@ public class UserService {
 
 	/**
 	 * 사용자의 이메일과 비밀번호를 이용해 로그인(인증)하는 메소드
-	 * - 사용자가 존재하는지, 비밀번호가 일치하는지를 확인합니다.
+	 * - 사용자 조회는 호출한 스레드에서 하고, 비밀번호 검증(BCrypt)만 해시 작업 풀에 제출한 뒤 기다리지 않고 반환합니다.
+	 * - 저장된 해시의 알고리즘/cost가 현재 설정과 다르면 로그인 성공 후 백그라운드에서 재해시합니다.
 	 *
 	 * @param email 사용자 이메일
 	 * @param password 입력된 비밀번호
-	 * @return 인증된 사용자 객체
+	 * @return 인증된 사용자 Future (비밀번호 불일치면 UserException, 대기 시간 초과면 ServerBusyException으로 실패)
+	 * @throws UserException 사용자가 없는 경우
+	 * @throws ServerBusyException 해시 작업 풀 대기열이 가득 찬 경우
 	 */
-	public User validateUser(String email, String password) {
+	public CompletableFuture<User> validateUser(String email, String password) {
         Optional<User> userOptional = userRepository.findByEmail(email);
 
         if (userOptional.isEmpty()) {
@@ -172,10 +251,31 @@ public class UserService {
 
         User user = userOptional.get();
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new UserException(INVALID_PASSWORD);
-        }
-
-        return user;
+        return passwordHashingExecutor.submit(() -> passwordEncoder.matches(password, user.getPassword()))
+                .thenApply(matched -> {
+                    if (!matched) {
+                        throw new UserException(INVALID_PASSWORD);
+                    }
+                    if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+                        rehashInBackground(user.getId(), user.getPassword(), password);
+                    }
+                    return user;
+                });
     }
+
+	/**
+	 * 검증에 성공한 평문 비밀번호로 현재 설정의 해시를 만들어 저장 (로그인 응답과 별도로 실행)
+	 * - 해시 생성만 해시 작업 풀에서 실행하고, DB 저장은 일반 비동기 작업 풀(applicationTaskExecutor)에서 실행합니다.
+	 * - 해시 작업 풀이 바쁘면 건너뛰고 다음 로그인 때 다시 시도합니다.
+	 * - 그 사이 비밀번호가 변경되었으면 덮어쓰지 않습니다.
+	 *
+	 * @param id 사용자 PK
+	 * @param oldHash 기존 해시
+	 * @param rawPassword 검증된 평문 비밀번호
+	 */
+	private void rehashInBackground(Long id, String oldHash, String rawPassword) {
+		passwordHashingExecutor.submitBackground(() -> passwordEncoder.encode(rawPassword))
+				.thenAcceptAsync(newHash -> userRepository.updatePasswordIfUnchanged(id, oldHash, newHash),
+						applicationTaskExecutor);
+	}
 }
@@ -21,6 +21,8 @@ public enum ErrorCode {
 	// 매장 관련
 	NOT_PARTNER("파트너 점주님만 매장을 등록할 수 있습니다."), 
 	STORE_NOT_FOUND("해당 매장을 찾을 수 없습니다."), 
+	INVALID_CURSOR("잘못된 페이지 커서입니다."),
+	INVALID_DATE_RANGE("조회 기간이 올바르지 않습니다."),
 	
 	// 예약 관련
 	RESERVATION_NOT_FOUND("해당 예약을 찾을 수 없습니다."), 
@@ -32,10 +34,20 @@ public enum ErrorCode {
 	ALREADY_CHECKED_IN("이미 방문이 완료된 예약 건입니다."),
 	TOO_EARLY_TO_CHECK_IN("예약 10분 전부터 체크인이 가능합니다."),
 	NOT_IN_CHECKIN_WINDOW("입점 시간은 예약 시간 10분 전, 예약 시간 10분 후까지 가능합니다."),
+	SLOT_FULL("해당 시간대의 예약이 모두 찼습니다."),
+	INVALID_EXPORT_FORMAT("지원하지 않는 내보내기 형식입니다. (ndjson, csv)"),
+	PAGE_OUT_OF_RANGE("조회할 수 있는 페이지 범위를 넘었습니다. (최대 50페이지)"),
 
 	// 리뷰 등록 관련
 	IMAGE_UPLOAD_FAILED("이미지 업로드에 실패했습니다."), 
+	IMAGE_TOO_LARGE("이미지 크기가 허용 한도를 넘었습니다."),
+	IMAGE_UPLOAD_TOO_SLOW("이미지 업로드 속도가 너무 느립니다."),
+	INVALID_IMAGE_URL("업로드한 이미지의 URL이 아닙니다."),
 	REVIEW_IMAGE_NOT_FOUND("해당 이미지를 찾을 수 없습니다."), 
-	REVIEW_NOT_FOUND("해당 리뷰를 찾을 수 없습니다.");
+	REVIEW_NOT_FOUND("해당 리뷰를 찾을 수 없습니다."),
+
+	// 서버 상태 관련
+	SERVER_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	TOO_MANY_LOGIN_ATTEMPTS("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.");
 	private final String description;
 }
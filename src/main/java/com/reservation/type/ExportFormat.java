@@ -0,0 +1,36 @@
+package com.reservation.type;
+
+import java.util.Locale;
+
+import com.reservation.exception.UserException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 관리자 예약 내보내기 형식
+ */
+@Getter
+@AllArgsConstructor
+public enum ExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	/**
+	 * 요청 파라미터(대소문자 무관)를 내보내기 형식으로 변환
+	 *
+	 * @param value 형식 문자열 (ndjson, csv)
+	 * @return 내보내기 형식
+	 * @throws UserException 지원하지 않는 형식인 경우
+	 */
+	public static ExportFormat from(String value) {
+		try {
+			return valueOf(value.trim().toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException | NullPointerException e) {
+			throw new UserException(ErrorCode.INVALID_EXPORT_FORMAT);
+		}
+	}
+}
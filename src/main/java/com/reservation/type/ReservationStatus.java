@@ -5,5 +5,7 @@ public enum ReservationStatus {
 	APPROVED,
 	REJECTED,
 	CANCELED,
-	CONFIRMED, CHECKED_IN
+	CONFIRMED, CHECKED_IN,
+	EXPIRED,
+	NO_SHOW
 }
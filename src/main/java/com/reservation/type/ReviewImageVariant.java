@@ -0,0 +1,54 @@
+package com.reservation.type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 리뷰 이미지 변형(리사이즈) 종류
+ * - 원본 비율을 유지한 채 가로 폭을 width로 맞춘 JPEG로 저장합니다.
+ * - 변형 이미지의 S3 키는 원본 키에서 정해지므로(예: reviews/uuid_a.png → reviews/thumb/uuid_a.jpg),
+ *   원본을 삭제할 때 생성 여부와 관계없이 함께 삭제할 수 있습니다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ReviewImageVariant {
+	THUMB("thumb", 320),
+	MEDIUM("medium", 960);
+
+	private final String dirName;
+	private final int width;
+
+	/**
+	 * 원본 S3 키에 대응하는 변형 이미지의 S3 키
+	 *
+	 * @param originalKey 원본 이미지 키 (예: "reviews/uuid_a.png")
+	 * @return 변형 이미지 키 (예: "reviews/thumb/uuid_a.jpg")
+	 */
+	public String objectKey(String originalKey) {
+		int slash = originalKey.lastIndexOf('/');
+		String name = originalKey.substring(slash + 1);
+		int dot = name.lastIndexOf('.');
+		if (dot > 0) {
+			name = name.substring(0, dot);
+		}
+		return originalKey.substring(0, slash + 1) + dirName + "/" + name + ".jpg";
+	}
+
+	/**
+	 * 원본 키와 모든 변형 이미지 키 (이미지 삭제 시 사용)
+	 *
+	 * @param originalKey 원본 이미지 키
+	 * @return 원본 키 + 변형별 키
+	 */
+	public static List<String> allObjectKeys(String originalKey) {
+		List<String> keys = new ArrayList<>(values().length + 1);
+		keys.add(originalKey);
+		for (ReviewImageVariant variant : values()) {
+			keys.add(variant.objectKey(originalKey));
+		}
+		return keys;
+	}
+}
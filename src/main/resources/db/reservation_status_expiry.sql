@@ -0,0 +1,12 @@
+-- 예약 만료 처리(EXPIRED, NO_SHOW 상태 추가) 스키마 변경
+-- - Hibernate 6.2+는 MySQL에서 @Enumerated(EnumType.STRING) 컬럼을 네이티브 ENUM으로 생성하며,
+--   ddl-auto=update는 기존 ENUM 컬럼의 값 목록을 바꾸지 않습니다.
+-- - 이 스크립트를 적용하기 전에는 EXPIRED/NO_SHOW 저장이 거부되므로(Data truncated for column 'status'),
+--   만료 처리 기능이 포함된 버전을 배포하기 전에 한 번 실행합니다.
+-- - 값 목록은 com.reservation.type.ReservationStatus 선언 순서와 같아야 합니다.
+
+ALTER TABLE reservations
+    MODIFY COLUMN status ENUM('PENDING', 'APPROVED', 'REJECTED', 'CANCELED', 'CONFIRMED', 'CHECKED_IN', 'EXPIRED', 'NO_SHOW') NOT NULL;
+
+-- 만료 처리 배치가 (status, reservation_time) 범위를 읽기 위한 인덱스 (이미 있으면 생략)
+CREATE INDEX idx_reservations_status_time ON reservations (status, reservation_time);
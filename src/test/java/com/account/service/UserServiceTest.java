@@ -3,10 +3,14 @@ package com.account.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +22,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import com.reservation.domain.User;
 import com.reservation.exception.UserException;
 import com.reservation.repository.UserRepository;
+import com.reservation.service.PasswordHashingExecutor;
 import com.reservation.service.UserService;
 import com.reservation.type.ErrorCode;
 
@@ -30,6 +35,15 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    // 비밀번호 검증 작업을 해시 작업 풀 대신 현재 스레드에서 바로 실행
+    private void runHashingInline() {
+        given(passwordHashingExecutor.submit(any())).willAnswer(invocation ->
+                CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+    }
+
     @InjectMocks
     private UserService userService;
 
@@ -48,9 +62,10 @@ class UserServiceTest {
 
         given(passwordEncoder.matches("password123", "encodedPassword"))
                 .willReturn(true); // 비밀번호 일치
+        runHashingInline();
 
         // When
-        User user = userService.validateUser("test@example.com", "password123");
+        User user = userService.validateUser("test@example.com", "password123").join();
 
         // Then
         assertNotNull(user);
@@ -86,11 +101,12 @@ class UserServiceTest {
 
         given(passwordEncoder.matches("wrongPassword", "encodedPassword"))
                 .willReturn(false); // 비밀번호 불일치
+        runHashingInline();
 
         // When & Then
-        UserException exception = assertThrows(UserException.class, () ->
-                userService.validateUser("test@example.com", "wrongPassword"));
+        CompletionException exception = assertThrows(CompletionException.class, () ->
+                userService.validateUser("test@example.com", "wrongPassword").join());
 
-        assertEquals(ErrorCode.INVALID_PASSWORD, exception.getErrorCode());
+        assertEquals(ErrorCode.INVALID_PASSWORD, ((UserException) exception.getCause()).getErrorCode());
     }
 }
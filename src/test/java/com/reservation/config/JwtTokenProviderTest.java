@@ -0,0 +1,78 @@
+package com.reservation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+
+public class JwtTokenProviderTest {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("0123456789abcdef0123456789abcdef".getBytes());
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000, 1000, 600);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 Claims를 반환")
+    void parseToken_cachesVerifiedClaims() {
+        String token = jwtTokenProvider.generateToken(1L, "OWNER", true);
+
+        Claims first = jwtTokenProvider.parseToken(token);
+        Claims second = jwtTokenProvider.parseToken(token);
+
+        assertThat(first.getSubject()).isEqualTo("1");
+        assertThat(first.get("role", String.class)).isEqualTo("OWNER");
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("서명이 변조된 토큰은 거부하고 캐시하지 않음")
+    void resolveClaims_rejectsTamperedToken() {
+        String token = jwtTokenProvider.generateToken(1L, "USER", false);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThat(jwtTokenProvider.resolveClaims(tampered)).isNull();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+        assertThatThrownBy(() -> jwtTokenProvider.parseToken(tampered)).isInstanceOf(JwtException.class);
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거부")
+    void resolveClaims_rejectsExpiredToken() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1_000, 1000, 600);
+        String token = expiredProvider.generateToken(1L, "USER", false);
+
+        assertThat(expiredProvider.resolveClaims(token)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 인증 사용자 정보와 역할별 권한 목록은 요청 간에 공유")
+    void resolveUser_sharesPrincipalAndAuthorities() {
+        String token = jwtTokenProvider.generateToken(7L, "ADMIN", false);
+
+        AuthenticatedUser first = jwtTokenProvider.resolveUser(token);
+        AuthenticatedUser second = jwtTokenProvider.resolveUser(token);
+        JwtAuthenticationToken authentication = new JwtAuthenticationToken(first);
+
+        assertThat(first).isEqualTo(new AuthenticatedUser(7L, "ADMIN"));
+        assertThat(second).isSameAs(first);
+        assertThat(authentication.getName()).isEqualTo("7");
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_ADMIN");
+        assertThat(authentication.getAuthorities())
+                .isSameAs(new JwtAuthenticationToken(second).getAuthorities());
+    }
+}
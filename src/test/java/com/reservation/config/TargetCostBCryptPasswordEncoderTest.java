@@ -0,0 +1,23 @@
+package com.reservation.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class TargetCostBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("목표 cost보다 높거나 낮은 해시 모두 재해시 대상, 같으면 대상 아님")
+    void upgradeEncoding_comparesCost() {
+        TargetCostBCryptPasswordEncoder cost4 = new TargetCostBCryptPasswordEncoder(4);
+        TargetCostBCryptPasswordEncoder cost5 = new TargetCostBCryptPasswordEncoder(5);
+        String hash4 = cost4.encode("password");
+        String hash5 = cost5.encode("password");
+
+        assertThat(cost4.upgradeEncoding(hash4)).isFalse();
+        assertThat(cost4.upgradeEncoding(hash5)).isTrue();
+        assertThat(cost5.upgradeEncoding(hash4)).isTrue();
+        assertThat(cost5.matches("password", hash4)).isTrue();
+    }
+}
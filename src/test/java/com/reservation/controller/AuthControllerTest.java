@@ -0,0 +1,99 @@
+package com.reservation.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.reservation.config.JwtTokenProvider;
+import com.reservation.domain.User;
+import com.reservation.exception.GlobalExceptionHandler;
+import com.reservation.exception.ServerBusyException;
+import com.reservation.exception.UserException;
+import com.reservation.service.LoginRateLimiter;
+import com.reservation.service.UserService;
+import com.reservation.type.ErrorCode;
+import com.reservation.type.UserType;
+
+public class AuthControllerTest {
+
+    private static final String LOGIN_BODY = "{\"email\":\"user@test.com\",\"password\":\"password123\"}";
+
+    private UserService userService;
+    private JwtTokenProvider jwtTokenProvider;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        userService = mock(UserService.class);
+        jwtTokenProvider = mock(JwtTokenProvider.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new AuthController(userService, jwtTokenProvider, mock(LoginRateLimiter.class)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증을 기다리지 않고 비동기로 응답")
+    void login_async() throws Exception {
+        CompletableFuture<User> validation = new CompletableFuture<>();
+        when(userService.validateUser("user@test.com", "password123")).thenReturn(validation);
+        when(jwtTokenProvider.generateToken(1L, "VISITER", false)).thenReturn("token");
+
+        MvcResult result = mockMvc.perform(post("/users/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN_BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // 요청 처리가 반환된 뒤 해시 작업 풀에서 검증이 끝남
+        validation.complete(User.builder().id(1L).userType(UserType.VISITER).build());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("token"))
+                .andExpect(jsonPath("$.userId").value(1));
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 비동기 결과로 400")
+    void login_invalidPassword() throws Exception {
+        when(userService.validateUser("user@test.com", "password123"))
+                .thenReturn(CompletableFuture.failedFuture(new UserException(ErrorCode.INVALID_PASSWORD)));
+
+        MvcResult result = mockMvc.perform(post("/users/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN_BODY))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_PASSWORD"));
+    }
+
+    @Test
+    @DisplayName("해시 작업 풀 대기열이 가득 차면 비동기 처리 없이 바로 503")
+    void login_hashingPoolFull() throws Exception {
+        when(userService.validateUser("user@test.com", "password123"))
+                .thenThrow(new ServerBusyException(ErrorCode.SERVER_BUSY));
+
+        mockMvc.perform(post("/users/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(LOGIN_BODY))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
@@ -0,0 +1,72 @@
+package com.reservation.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUserArgumentResolver;
+import com.reservation.service.ReservationExportWriter;
+import com.reservation.service.ReservationService;
+import com.reservation.type.ExportFormat;
+import com.reservation.type.ReservationStatus;
+
+public class ReservationControllerTest {
+
+    private ReservationExportWriter reservationExportWriter;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        reservationExportWriter = mock(ReservationExportWriter.class);
+        ReservationController controller = new ReservationController(
+                mock(ReservationService.class), reservationExportWriter, new ObjectMapper());
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("관리자 예약 내보내기는 200과 함께 파일을 스트리밍")
+    void exportReservations_admin() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(4).write("id,status\n1,APPROVED\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(reservationExportWriter).write(eq(ExportFormat.CSV), eq(ReservationStatus.APPROVED),
+                eq(LocalDate.of(2026, 1, 1)), isNull(), any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/reservation/admin/reservations/export")
+                        .param("format", "csv")
+                        .param("status", "APPROVED")
+                        .param("from", "2026-01-01")
+                        .requestAttr(AuthenticatedUser.ATTRIBUTE, new AuthenticatedUser(1L, "ADMIN")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reservations.csv\""))
+                .andExpect(content().string("id,status\n1,APPROVED\n"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.reservation.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUserArgumentResolver;
+import com.reservation.dto.review.CreateReview;
+import com.reservation.exception.GlobalExceptionHandler;
+import com.reservation.exception.ReviewException;
+import com.reservation.service.ReviewService;
+import com.reservation.type.ErrorCode;
+
+public class ReviewControllerTest {
+
+    private ReviewService reviewService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        reviewService = mock(ReviewService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ReviewController(reviewService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver())
+                .build();
+    }
+
+    @Test
+    @DisplayName("본인이 업로드하지 않은 이미지 URL로 리뷰를 작성하면 400")
+    void createReview_foreignImageUrl() throws Exception {
+        when(reviewService.createReview(eq(7L), any(CreateReview.Request.class), any()))
+                .thenThrow(new ReviewException(ErrorCode.INVALID_IMAGE_URL));
+        MockMultipartFile request = new MockMultipartFile("request", "", MediaType.APPLICATION_JSON_VALUE,
+                "{\"reservationId\":1,\"rating\":5,\"content\":\"good\",\"imageUrls\":[\"https://bucket.s3/reviews/other.png\"]}"
+                        .getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(multipart("/reviews/create")
+                        .file(request)
+                        .requestAttr(AuthenticatedUser.ATTRIBUTE, new AuthenticatedUser(7L, "VISITER")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_IMAGE_URL"));
+    }
+}
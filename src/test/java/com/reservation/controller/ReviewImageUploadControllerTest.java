@@ -0,0 +1,80 @@
+package com.reservation.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.reservation.config.AuthenticatedUser;
+import com.reservation.config.LoginUserArgumentResolver;
+import com.reservation.exception.GlobalExceptionHandler;
+import com.reservation.exception.ReviewException;
+import com.reservation.exception.ServerBusyException;
+import com.reservation.service.ImageUploadService;
+import com.reservation.service.S3StreamingUploader;
+import com.reservation.service.S3UploaderService;
+import com.reservation.type.ErrorCode;
+
+public class ReviewImageUploadControllerTest {
+
+    private S3StreamingUploader s3StreamingUploader;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        s3StreamingUploader = mock(S3StreamingUploader.class);
+        ReviewImageUploadController controller = new ReviewImageUploadController(
+                mock(ImageUploadService.class), mock(S3UploaderService.class), s3StreamingUploader);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new LoginUserArgumentResolver())
+                .build();
+    }
+
+    private ResultActions streamUpload(RuntimeException failure) throws Exception {
+        when(s3StreamingUploader.upload(any(InputStream.class), eq("reviews"), eq("a.png"), eq("image/png"),
+                anyLong(), eq(7L))).thenThrow(failure);
+
+        return mockMvc.perform(post("/upload/review-image/stream")
+                .param("filename", "a.png")
+                .contentType("image/png")
+                .content(new byte[16])
+                .requestAttr(AuthenticatedUser.ATTRIBUTE, new AuthenticatedUser(7L, "VISITER")));
+    }
+
+    @Test
+    @DisplayName("본문이 최대 크기를 넘으면 413")
+    void streamReviewImage_tooLarge() throws Exception {
+        streamUpload(new ReviewException(ErrorCode.IMAGE_TOO_LARGE))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.errorCode").value("IMAGE_TOO_LARGE"));
+    }
+
+    @Test
+    @DisplayName("본문 수신 속도가 최소 속도보다 느리면 408")
+    void streamReviewImage_tooSlow() throws Exception {
+        streamUpload(new ReviewException(ErrorCode.IMAGE_UPLOAD_TOO_SLOW))
+                .andExpect(status().isRequestTimeout())
+                .andExpect(jsonPath("$.errorCode").value("IMAGE_UPLOAD_TOO_SLOW"));
+    }
+
+    @Test
+    @DisplayName("파트 버퍼가 모두 사용 중이면 503")
+    void streamReviewImage_serverBusy() throws Exception {
+        streamUpload(new ServerBusyException(ErrorCode.SERVER_BUSY))
+                .andExpect(status().isServiceUnavailable());
+    }
+}
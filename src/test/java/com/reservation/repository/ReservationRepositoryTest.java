@@ -0,0 +1,119 @@
+package com.reservation.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.reservation.domain.Reservation;
+import com.reservation.domain.Store;
+import com.reservation.domain.User;
+import com.reservation.type.ReservationStatus;
+import com.reservation.type.UserType;
+
+/**
+ * 네이티브 UPDATE(ORDER BY ... LIMIT)와 MySQL ENUM 컬럼 동작을 확인하기 위해 실제 MySQL에서 실행
+ * - Docker가 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ReservationRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 12, 1, 0, 0);
+        user = entityManager.persist(User.builder()
+                .userId("owner1")
+                .nickname("owner")
+                .password("pw")
+                .userType(UserType.OWNER)
+                .email("owner@test.com")
+                .phoneNumber("010-0000-0000")
+                .createdAt(now)
+                .build());
+        store = entityManager.persist(Store.builder()
+                .storeName("store")
+                .owner(user)
+                .createdAt(now)
+                .build());
+    }
+
+    @Test
+    @DisplayName("기준 시각 이전의 대상 상태 예약만 예약 시간순으로 limit건 변경")
+    void expireBatch_oldestFirstWithinLimit() {
+        Long oldest = persist(ReservationStatus.PENDING, CUTOFF.minusHours(3));
+        Long older = persist(ReservationStatus.PENDING, CUTOFF.minusHours(2));
+        Long recent = persist(ReservationStatus.PENDING, CUTOFF.minusHours(1));
+        Long atCutoff = persist(ReservationStatus.PENDING, CUTOFF);
+        Long approved = persist(ReservationStatus.APPROVED, CUTOFF.minusHours(3));
+
+        int updated = reservationRepository.expireBatch("PENDING", "EXPIRED", CUTOFF, 2);
+
+        assertThat(updated).isEqualTo(2);
+        assertThat(statusOf(oldest)).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(statusOf(older)).isEqualTo(ReservationStatus.EXPIRED);
+        assertThat(statusOf(recent)).isEqualTo(ReservationStatus.PENDING);
+        assertThat(statusOf(atCutoff)).isEqualTo(ReservationStatus.PENDING);
+        assertThat(statusOf(approved)).isEqualTo(ReservationStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("남은 대상이 limit보다 적으면 변경 건수가 limit보다 작음 (배치 반복 종료 조건)")
+    void expireBatch_shortBatch() {
+        Long approved = persist(ReservationStatus.APPROVED, CUTOFF.minusDays(1));
+        Long confirmed = persist(ReservationStatus.CONFIRMED, CUTOFF.minusDays(1));
+
+        assertThat(reservationRepository.expireBatch("APPROVED", "NO_SHOW", CUTOFF, 100)).isEqualTo(1);
+        assertThat(reservationRepository.expireBatch("APPROVED", "NO_SHOW", CUTOFF, 100)).isZero();
+
+        assertThat(statusOf(approved)).isEqualTo(ReservationStatus.NO_SHOW);
+        assertThat(statusOf(confirmed)).isEqualTo(ReservationStatus.CONFIRMED);
+    }
+
+    private Long persist(ReservationStatus status, LocalDateTime reservationTime) {
+        LocalDateTime createdAt = reservationTime.minusDays(7);
+        Long id = entityManager.persistAndGetId(Reservation.builder()
+                .user(user)
+                .store(store)
+                .reservationTime(reservationTime)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .phoneNumber("010-1111-2222")
+                .status(status)
+                .build(), Long.class);
+        entityManager.flush();
+        return id;
+    }
+
+    private ReservationStatus statusOf(Long id) {
+        entityManager.clear();
+        return entityManager.find(Reservation.class, id).getStatus();
+    }
+}
@@ -0,0 +1,225 @@
+package com.reservation.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+
+/**
+ * 테스트용 인메모리 S3 대역
+ * - 단일 업로드와 멀티파트 업로드(시작/파트 업로드/완료/중단), 사용자 메타데이터 조회만 지원합니다.
+ * - 실제 S3처럼 마지막 파트를 제외한 파트가 5MB보다 작으면 완료 시 EntityTooSmall,
+ *   ETag가 맞지 않으면 InvalidPart, 없는 업로드 ID는 NoSuchUpload로 거절합니다.
+ */
+class InMemoryS3 {
+
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final String bucket;
+    private final AmazonS3 client;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, String>> userMetadata = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+    private final List<String> abortedUploadIds = new CopyOnWriteArrayList<>();
+    private final List<Integer> uploadedPartSizes = new CopyOnWriteArrayList<>();
+
+    /** 파트를 받을 때마다 호출 (파트 크기 전달) */
+    private volatile IntConsumer partListener = size -> { };
+
+    private record MultipartUpload(String key, Map<String, String> userMetadata, SortedMap<Integer, byte[]> parts) {
+    }
+
+    InMemoryS3(String bucket) {
+        this.bucket = bucket;
+        this.client = (AmazonS3) Proxy.newProxyInstance(
+                AmazonS3.class.getClassLoader(),
+                new Class<?>[] {AmazonS3.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "putObject" -> putObject((PutObjectRequest) args[0]);
+                    case "initiateMultipartUpload" -> initiate((InitiateMultipartUploadRequest) args[0]);
+                    case "uploadPart" -> uploadPart((UploadPartRequest) args[0]);
+                    case "completeMultipartUpload" -> complete((CompleteMultipartUploadRequest) args[0]);
+                    case "abortMultipartUpload" -> abort((AbortMultipartUploadRequest) args[0]);
+                    case "getObjectMetadata" -> getObjectMetadata((String) args[0], (String) args[1]);
+                    case "getUrl" -> new URL("http://localhost/" + args[0] + "/" + args[1]);
+                    case "toString" -> "InMemoryS3(" + bucket + ")";
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    AmazonS3 client() {
+        return client;
+    }
+
+    Map<String, byte[]> objects() {
+        return objects;
+    }
+
+    int openUploads() {
+        return uploads.size();
+    }
+
+    List<String> abortedUploadIds() {
+        return abortedUploadIds;
+    }
+
+    List<Integer> uploadedPartSizes() {
+        return uploadedPartSizes;
+    }
+
+    void onPart(IntConsumer listener) {
+        this.partListener = listener;
+    }
+
+    private PutObjectResult putObject(PutObjectRequest request) throws IOException {
+        checkBucket(request.getBucketName());
+        byte[] content = read(request.getInputStream(), request.getMetadata().getContentLength());
+        objects.put(request.getKey(), content);
+        userMetadata.put(request.getKey(), Map.copyOf(request.getMetadata().getUserMetadata()));
+        PutObjectResult result = new PutObjectResult();
+        result.setETag(md5(content));
+        return result;
+    }
+
+    private InitiateMultipartUploadResult initiate(InitiateMultipartUploadRequest request) {
+        checkBucket(request.getBucketName());
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new MultipartUpload(request.getKey(),
+                Map.copyOf(request.getObjectMetadata().getUserMetadata()), new TreeMap<>()));
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(bucket);
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    private UploadPartResult uploadPart(UploadPartRequest request) throws IOException {
+        MultipartUpload upload = upload(request.getUploadId(), request.getKey());
+        if (request.getPartNumber() < 1 || request.getPartNumber() > 10000) {
+            throw error("InvalidArgument", "part number " + request.getPartNumber());
+        }
+        byte[] content = read(request.getInputStream(), request.getPartSize());
+        partListener.accept(content.length);
+        upload.parts().put(request.getPartNumber(), content);
+        uploadedPartSizes.add(content.length);
+
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(md5(content));
+        return result;
+    }
+
+    private CompleteMultipartUploadResult complete(CompleteMultipartUploadRequest request) {
+        MultipartUpload upload = upload(request.getUploadId(), request.getKey());
+        List<PartETag> partETags = request.getPartETags();
+        if (partETags.isEmpty()) {
+            throw error("MalformedXML", "no parts");
+        }
+
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        int previous = 0;
+        for (int i = 0; i < partETags.size(); i++) {
+            PartETag partETag = partETags.get(i);
+            byte[] part = upload.parts().get(partETag.getPartNumber());
+            if (partETag.getPartNumber() <= previous || part == null || !md5(part).equals(partETag.getETag())) {
+                throw error("InvalidPart", "part " + partETag.getPartNumber());
+            }
+            if (i < partETags.size() - 1 && part.length < MIN_PART_SIZE) {
+                throw error("EntityTooSmall", "part " + partETag.getPartNumber() + " is " + part.length + " bytes");
+            }
+            object.writeBytes(part);
+            previous = partETag.getPartNumber();
+        }
+        objects.put(upload.key(), object.toByteArray());
+        userMetadata.put(upload.key(), upload.userMetadata());
+        uploads.remove(request.getUploadId());
+
+        CompleteMultipartUploadResult result = new CompleteMultipartUploadResult();
+        result.setBucketName(bucket);
+        result.setKey(upload.key());
+        return result;
+    }
+
+    private ObjectMetadata getObjectMetadata(String bucketName, String key) {
+        checkBucket(bucketName);
+        if (!objects.containsKey(key)) {
+            AmazonS3Exception exception = error("NotFound", key);
+            exception.setStatusCode(404);
+            throw exception;
+        }
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(objects.get(key).length);
+        metadata.setUserMetadata(userMetadata.get(key));
+        return metadata;
+    }
+
+    private Object abort(AbortMultipartUploadRequest request) {
+        upload(request.getUploadId(), request.getKey());
+        uploads.remove(request.getUploadId());
+        abortedUploadIds.add(request.getUploadId());
+        return null;
+    }
+
+    private MultipartUpload upload(String uploadId, String key) {
+        MultipartUpload upload = uploads.get(uploadId);
+        if (upload == null || !upload.key().equals(key)) {
+            throw error("NoSuchUpload", uploadId);
+        }
+        return upload;
+    }
+
+    private void checkBucket(String bucketName) {
+        if (!bucket.equals(bucketName)) {
+            throw error("NoSuchBucket", bucketName);
+        }
+    }
+
+    private static byte[] read(InputStream in, long length) throws IOException {
+        byte[] content = in.readNBytes((int) length);
+        if (content.length != length) {
+            throw error("IncompleteBody", content.length + " != " + length);
+        }
+        return content;
+    }
+
+    private static AmazonS3Exception error(String code, String message) {
+        AmazonS3Exception exception = new AmazonS3Exception(code + ": " + message);
+        exception.setErrorCode(code);
+        exception.setStatusCode(400);
+        return exception;
+    }
+
+    private static String md5(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.exception.RateLimitExceededException;
+
+public class LoginRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private LoginRateLimiter loginRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        loginRateLimiter = new LoginRateLimiter(
+                new LoginRateLimiter.Limit(5, 5),
+                new LoginRateLimiter.Limit(2, 1),
+                1000, 600, clock::get);
+    }
+
+    @Test
+    @DisplayName("계정별 허용 횟수를 넘으면 거절하고, 시간이 지나면 다시 허용")
+    void acquire_perEmail() {
+        loginRateLimiter.acquire("10.0.0.1", "user@test.com");
+        loginRateLimiter.acquire("10.0.0.2", "USER@test.com ");
+
+        RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+                () -> loginRateLimiter.acquire("10.0.0.3", "user@test.com"));
+        assertThat(ex.getRetryAfterSeconds()).isEqualTo(60);
+        assertThat(loginRateLimiter.stats().rejectedByEmail()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+        assertDoesNotThrow(() -> loginRateLimiter.acquire("10.0.0.3", "user@test.com"));
+    }
+
+    @Test
+    @DisplayName("Retry-After 초는 대기 시간을 올림한 값")
+    void toRetryAfterSeconds_ceiling() {
+        assertThat(LoginRateLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(60))).isEqualTo(60);
+        assertThat(LoginRateLimiter.toRetryAfterSeconds(TimeUnit.SECONDS.toNanos(60) + 1)).isEqualTo(61);
+        assertThat(LoginRateLimiter.toRetryAfterSeconds(1)).isEqualTo(1);
+        assertThat(LoginRateLimiter.toRetryAfterSeconds(Long.MAX_VALUE)).isEqualTo(9_223_372_037L);
+    }
+
+    @Test
+    @DisplayName("IP별 허용 횟수를 넘으면 계정과 관계없이 거절")
+    void acquire_perIp() {
+        for (int i = 0; i < 5; i++) {
+            loginRateLimiter.acquire("10.0.0.1", "user" + i + "@test.com");
+        }
+
+        assertThrows(RateLimitExceededException.class,
+                () -> loginRateLimiter.acquire("10.0.0.1", "other@test.com"));
+        assertThat(loginRateLimiter.stats().rejectedByIp()).isEqualTo(1);
+        assertDoesNotThrow(() -> loginRateLimiter.acquire("10.0.0.2", "other@test.com"));
+    }
+}
@@ -0,0 +1,108 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.exception.ServerBusyException;
+
+public class PasswordHashingExecutorTest {
+
+    private PasswordHashingExecutor passwordHashingExecutor;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordHashingExecutor.shutdown();
+    }
+
+    private boolean block() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return true;
+    }
+
+    @Test
+    @DisplayName("작업 스레드와 대기열이 모두 차면 즉시 ServerBusyException")
+    void submit_rejectsWhenSaturated() {
+        CompletableFuture<Boolean> running = passwordHashingExecutor.submit(this::block);
+        CompletableFuture<Boolean> queued = passwordHashingExecutor.submit(this::block);
+
+        assertThrows(ServerBusyException.class, () -> passwordHashingExecutor.submit(() -> true));
+        assertThat(passwordHashingExecutor.stats().rejected()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(queued.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("대기 시간이 제한을 넘으면 ServerBusyException")
+    void call_timesOut() {
+        passwordHashingExecutor.submit(this::block);
+
+        assertThrows(ServerBusyException.class, () -> passwordHashingExecutor.call(() -> true));
+    }
+
+    @Test
+    @DisplayName("대기 시간이 초과된 작업은 대기열에서 빠지고 실행되지 않음")
+    void call_timedOutTaskNeverRuns() {
+        CompletableFuture<Boolean> running = passwordHashingExecutor.submit(this::block);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        assertThrows(ServerBusyException.class, () -> passwordHashingExecutor.call(() -> ran.getAndSet(true)));
+        assertThat(passwordHashingExecutor.stats().queued()).isZero();
+        assertThat(passwordHashingExecutor.stats().abandoned()).isEqualTo(1);
+
+        // 작업 스레드가 풀려난 뒤 다음 작업까지 처리해도 취소된 작업은 실행되지 않음
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(passwordHashingExecutor.submit(() -> true).join()).isTrue();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    @DisplayName("비동기 제출은 대기 시간 안에 시작하지 못하면 대기열에서 빠지고 Future가 ServerBusyException으로 실패")
+    void submit_abandonsQueuedTaskAfterTimeout() {
+        CompletableFuture<Boolean> running = passwordHashingExecutor.submit(this::block);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        CompletableFuture<Boolean> queued = passwordHashingExecutor.submit(() -> ran.getAndSet(true));
+
+        CompletionException exception = assertThrows(CompletionException.class, queued::join);
+        assertThat(exception.getCause()).isInstanceOf(ServerBusyException.class);
+        assertThat(passwordHashingExecutor.stats().queued()).isZero();
+        assertThat(passwordHashingExecutor.stats().abandoned()).isEqualTo(1);
+
+        // 실행 중이던 작업은 대기 시간이 지나도 취소되지 않음
+        release.countDown();
+        assertThat(running.join()).isTrue();
+        assertThat(ran).isFalse();
+    }
+
+    @Test
+    @DisplayName("작업 스레드 안에서의 호출은 대기열을 거치지 않고 바로 실행")
+    void call_runsInlineOnWorker() {
+        String result = passwordHashingExecutor.submit(() -> passwordHashingExecutor.call(() -> "inline")).join();
+
+        assertThat(result).isEqualTo("inline");
+    }
+}
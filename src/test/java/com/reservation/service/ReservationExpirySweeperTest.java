@@ -0,0 +1,60 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.repository.ReservationRepository;
+
+public class ReservationExpirySweeperTest {
+
+    private ReservationRepository reservationRepository;
+    private ReservationExpirySweeper reservationExpirySweeper;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+    private final LocalDateTime cutoff = now.minusMinutes(10);
+
+    @BeforeEach
+    void setUp() {
+        reservationRepository = mock(ReservationRepository.class);
+        reservationExpirySweeper = new ReservationExpirySweeper(reservationRepository, 100, 3, 10);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차는 동안 반복하고, 상태별로 종료 상태를 지정")
+    void sweep_repeatsWhileBatchFull() {
+        when(reservationRepository.expireBatch("PENDING", "EXPIRED", cutoff, 100)).thenReturn(100, 100, 30);
+        when(reservationRepository.expireBatch("APPROVED", "NO_SHOW", cutoff, 100)).thenReturn(5);
+        when(reservationRepository.expireBatch("CONFIRMED", "NO_SHOW", cutoff, 100)).thenReturn(0);
+
+        int total = reservationExpirySweeper.sweep(now);
+
+        assertThat(total).isEqualTo(235);
+        verify(reservationRepository, times(3)).expireBatch("PENDING", "EXPIRED", cutoff, 100);
+        verify(reservationRepository, times(1)).expireBatch("APPROVED", "NO_SHOW", cutoff, 100);
+        verify(reservationRepository, times(1)).expireBatch("CONFIRMED", "NO_SHOW", cutoff, 100);
+    }
+
+    @Test
+    @DisplayName("한 번의 실행에서 상태별 최대 배치 수를 넘지 않음")
+    void sweep_stopsAtMaxBatches() {
+        when(reservationRepository.expireBatch(anyString(), anyString(), any(), anyInt())).thenReturn(100);
+
+        int total = reservationExpirySweeper.sweep(now);
+
+        assertThat(total).isEqualTo(900);
+        verify(reservationRepository, times(3)).expireBatch(eq("PENDING"), eq("EXPIRED"), eq(cutoff), eq(100));
+    }
+}
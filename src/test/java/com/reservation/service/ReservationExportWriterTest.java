@@ -0,0 +1,76 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.reservation.dto.ReservationDto;
+import com.reservation.type.ExportFormat;
+import com.reservation.type.ReservationStatus;
+
+public class ReservationExportWriterTest {
+
+    private ReservationService reservationService;
+    private ReservationExportWriter reservationExportWriter;
+
+    private final LocalDate from = LocalDate.of(2025, 5, 1);
+    private final LocalDate to = LocalDate.of(2025, 5, 31);
+
+    @BeforeEach
+    void setUp() {
+        reservationService = mock(ReservationService.class);
+        ObjectMapper objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        reservationExportWriter = new ReservationExportWriter(reservationService, objectMapper);
+
+        doAnswer(invocation -> {
+            Consumer<ReservationDto> consumer = invocation.getArgument(3);
+            consumer.accept(new ReservationDto(1L, 10L, 100L, LocalDateTime.of(2025, 5, 2, 18, 0),
+                    LocalDateTime.of(2025, 4, 30, 9, 0), ReservationStatus.CONFIRMED, "010-1111-2222"));
+            consumer.accept(new ReservationDto(2L, 11L, 100L, LocalDateTime.of(2025, 5, 3, 19, 30),
+                    LocalDateTime.of(2025, 4, 30, 9, 5), ReservationStatus.CONFIRMED, "010,\"3333\""));
+            return null;
+        }).when(reservationService).exportReservations(eq(ReservationStatus.CONFIRMED), eq(from), eq(to), any());
+    }
+
+    @Test
+    @DisplayName("NDJSON은 예약 한 건당 한 줄의 JSON 객체로 기록")
+    void write_ndjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reservationExportWriter.write(ExportFormat.NDJSON, ReservationStatus.CONFIRMED, from, to, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,").contains("\"reservationTime\":\"2025-05-02T18:00:00\"");
+        assertThat(lines[1]).startsWith("{\"id\":2,");
+    }
+
+    @Test
+    @DisplayName("CSV는 헤더와 이스케이프된 행으로 기록")
+    void write_csv() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        reservationExportWriter.write(ExportFormat.CSV, ReservationStatus.CONFIRMED, from, to, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,userId,storeId,reservationTime,createdAt,status,phoneNumber\r\n"
+                + "1,10,100,2025-05-02T18:00,2025-04-30T09:00,CONFIRMED,010-1111-2222\r\n"
+                + "2,11,100,2025-05-03T19:30,2025-04-30T09:05,CONFIRMED,\"010,\"\"3333\"\"\"\r\n");
+    }
+}
@@ -5,10 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -17,17 +19,26 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 
 import com.reservation.domain.Reservation;
 import com.reservation.domain.Store;
 import com.reservation.domain.User;
+import com.reservation.dto.ReservationDto;
+import com.reservation.dto.SliceResponse;
 import com.reservation.dto.reservation.ConfirmReservation;
 import com.reservation.dto.reservation.CreateReservation;
+import com.reservation.exception.GlobalExceptionHandler;
 import com.reservation.exception.ReservationException;
 import com.reservation.exception.UserException;
 import com.reservation.repository.ReservationRepository;
 import com.reservation.repository.StoreRepository;
 import com.reservation.repository.UserRepository;
+import com.reservation.type.ErrorCode;
 import com.reservation.type.ReservationStatus;
 
 public class ReservationServiceTest {
@@ -35,6 +46,7 @@ public class ReservationServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private StoreRepository storeRepository;
     @Mock private ReservationRepository reservationRepository;
+    @Mock private SlotCapacityManager slotCapacityManager;
 
     @InjectMocks
     private ReservationService reservationService;
@@ -65,6 +77,7 @@ public class ReservationServiceTest {
 
         when(userRepository.findById(userId)).thenReturn(Optional.of(user));
         when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
+        when(slotCapacityManager.tryAcquire(store, request.getReservationTime())).thenReturn(true);
         when(reservationRepository.save(any(Reservation.class))).thenReturn(reservation);
 
         var response = reservationService.createReservation(userId, request);
@@ -72,6 +85,31 @@ public class ReservationServiceTest {
         assertThat(response.getReservationTime()).isEqualTo(request.getReservationTime());
     }
 
+    @Test
+    @DisplayName("슬롯 정원 초과로 예약 실패")
+    void createReservation_slotFull() {
+        Long userId = 1L;
+        Long storeId = 100L;
+
+        CreateReservation.Request request = new CreateReservation.Request();
+        request.setStoreId(storeId);
+        request.setPhoneNumber("010-1111-2222");
+        request.setReservationTime(LocalDateTime.now().plusHours(1));
+
+        User user = User.builder().id(userId).build();
+        Store store = Store.builder().id(storeId).slotCapacity(2).build();
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(storeRepository.findById(storeId)).thenReturn(Optional.of(store));
+        when(slotCapacityManager.tryAcquire(store, request.getReservationTime())).thenReturn(false);
+
+        UserException exception = assertThrows(UserException.class,
+                () -> reservationService.createReservation(userId, request));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.SLOT_FULL);
+        verify(reservationRepository, never()).save(any(Reservation.class));
+    }
+
     @Test
     @DisplayName("중복 예약으로 예약 실패")
     void createReservation_duplicate() {
@@ -122,6 +160,7 @@ public class ReservationServiceTest {
         var response = reservationService.cancelReservation(userId, reservationId);
 
         assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELED);
+        verify(slotCapacityManager).release(reservation.getStore(), reservation.getReservationTime());
     }
 
     @Test
@@ -184,4 +223,34 @@ public class ReservationServiceTest {
 
         assertThrows(ReservationException.class, () -> reservationService.checkInReservation(userId, reservationId));
     }
+
+    @Test
+    @DisplayName("점주의 대기 예약을 페이지 단위로 조회")
+    void getPendingReservationsForOwner_paged() {
+        Long ownerId = 1L;
+        ReservationDto dto = new ReservationDto(10L, 2L, 3L, LocalDateTime.now().plusDays(1),
+                LocalDateTime.now(), ReservationStatus.PENDING, "010-1111-2222");
+
+        when(reservationRepository.findDtoByStoreOwnerIdAndStatus(eq(ownerId), eq(ReservationStatus.PENDING), any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(dto), PageRequest.of(0, 500), true));
+
+        SliceResponse<ReservationDto> response = reservationService.getPendingReservationsForOwner(ownerId, 0, 500);
+
+        assertThat(response.getContent()).containsExactly(dto);
+        assertThat(response.isHasNext()).isTrue();
+        verify(reservationRepository).findDtoByStoreOwnerIdAndStatus(eq(ownerId), eq(ReservationStatus.PENDING),
+                eq(PageRequest.of(0, 100, Sort.by("reservationTime", "id"))));
+    }
+
+    @Test
+    @DisplayName("페이지 번호가 한도를 넘으면 조회하지 않고 거부")
+    void getAllReservations_pageOutOfRange() {
+        UserException exception = assertThrows(UserException.class,
+                () -> reservationService.getAllReservations(51, 100));
+
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.PAGE_OUT_OF_RANGE);
+        assertThat(new GlobalExceptionHandler().handleUserException(exception).getStatusCode())
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(reservationRepository, never()).findAllDto(any(Pageable.class));
+    }
 }
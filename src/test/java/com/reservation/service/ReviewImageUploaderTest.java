@@ -0,0 +1,82 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.multipart.MultipartFile;
+
+public class ReviewImageUploaderTest {
+
+    private S3UploaderService s3UploaderService;
+    private ReviewImageUploader reviewImageUploader;
+
+    @BeforeEach
+    void setUp() {
+        s3UploaderService = mock(S3UploaderService.class);
+        reviewImageUploader = new ReviewImageUploader(s3UploaderService, 4, 16, 5000, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reviewImageUploader.shutdown();
+    }
+
+    @Test
+    @DisplayName("이미지들을 동시에 업로드하고 입력 순서대로 URL 반환")
+    void uploadAll_concurrent() {
+        MultipartFile first = mock(MultipartFile.class);
+        MultipartFile second = mock(MultipartFile.class);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        when(s3UploaderService.upload(first, "reviews")).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            return "https://s3.bucket/reviews/1.jpg";
+        });
+        when(s3UploaderService.upload(second, "reviews")).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(2, TimeUnit.SECONDS)).isTrue();
+            return "https://s3.bucket/reviews/2.jpg";
+        });
+
+        List<String> urls = reviewImageUploader.uploadAll(List.of(first, second), "reviews");
+
+        assertThat(urls).containsExactly("https://s3.bucket/reviews/1.jpg", "https://s3.bucket/reviews/2.jpg");
+    }
+
+    @Test
+    @DisplayName("하나라도 실패하면 성공한 업로드를 삭제하고 실패 원인을 던짐")
+    void uploadAll_failureDeletesUploaded() {
+        MultipartFile ok = mock(MultipartFile.class);
+        MultipartFile broken = mock(MultipartFile.class);
+
+        when(s3UploaderService.upload(ok, "reviews")).thenReturn("https://s3.bucket/reviews/ok.jpg");
+        when(s3UploaderService.upload(broken, "reviews")).thenThrow(new RuntimeException("S3 업로드 실패"));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> reviewImageUploader.uploadAll(List.of(ok, broken), "reviews"));
+
+        assertThat(exception.getMessage()).isEqualTo("S3 업로드 실패");
+        verify(s3UploaderService, timeout(1000)).delete("reviews/ok.jpg");
+    }
+
+    @Test
+    @DisplayName("이미지가 없으면 업로드하지 않음")
+    void uploadAll_empty() {
+        assertThat(reviewImageUploader.uploadAll(null, "reviews")).isEmpty();
+        verifyNoInteractions(s3UploaderService);
+    }
+}
@@ -0,0 +1,193 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.domain.ReviewImage;
+import com.reservation.repository.ReviewImageRepository;
+
+public class ReviewImageVariantGeneratorTest {
+
+    private static final String IMAGE_URL = "https://bucket.s3/reviews/uuid_a.png";
+
+    private ReviewImageRepository reviewImageRepository;
+    private S3UploaderService s3UploaderService;
+    private S3DeletionOutbox s3DeletionOutbox;
+    private ReviewImageVariantGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        reviewImageRepository = mock(ReviewImageRepository.class);
+        s3UploaderService = mock(S3UploaderService.class);
+        s3DeletionOutbox = mock(S3DeletionOutbox.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(s3UploaderService.upload(any(byte[].class), anyString(), eq("image/jpeg")))
+                .thenAnswer(invocation -> "https://bucket.s3/" + invocation.getArgument(1));
+
+        generator = new ReviewImageVariantGenerator(reviewImageRepository, s3UploaderService, s3DeletionOutbox,
+                transactionTemplate, 1, 4, 40_000_000, 100, 3);
+        when(reviewImageRepository.findById(1L))
+                .thenReturn(Optional.of(ReviewImage.builder().id(1L).imageUrl(IMAGE_URL).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        generator.shutdown();
+    }
+
+    @Test
+    @DisplayName("원본을 변형별 폭으로 줄여 업로드하고 URL 저장")
+    void generate_resizes() throws IOException {
+        when(s3UploaderService.openStream("reviews/uuid_a.png")).thenReturn(new ByteArrayInputStream(png(2000, 1000)));
+        when(reviewImageRepository.updateVariantUrls(anyLong(), anyString(), anyString(), anyString())).thenReturn(1);
+
+        generator.generate(1L);
+
+        ArgumentCaptor<byte[]> thumb = ArgumentCaptor.forClass(byte[].class);
+        verify(s3UploaderService).upload(thumb.capture(), eq("reviews/thumb/uuid_a.jpg"), eq("image/jpeg"));
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(thumb.getValue()));
+        assertThat(thumbnail.getWidth()).isEqualTo(320);
+        assertThat(thumbnail.getHeight()).isEqualTo(160);
+
+        verify(reviewImageRepository).updateVariantUrls(1L, IMAGE_URL,
+                "https://bucket.s3/reviews/thumb/uuid_a.jpg", "https://bucket.s3/reviews/medium/uuid_a.jpg");
+        verify(s3DeletionOutbox, never()).enqueue(any());
+        assertThat(generator.stats().generated()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("원본이 변형 폭보다 작으면 원본 URL 사용")
+    void generate_smallOriginal() throws IOException {
+        when(s3UploaderService.openStream("reviews/uuid_a.png")).thenReturn(new ByteArrayInputStream(png(500, 400)));
+
+        generator.generate(1L);
+
+        verify(s3UploaderService).upload(any(byte[].class), eq("reviews/thumb/uuid_a.jpg"), eq("image/jpeg"));
+        verify(s3UploaderService, never()).upload(any(byte[].class), eq("reviews/medium/uuid_a.jpg"), anyString());
+        verify(reviewImageRepository).updateVariantUrls(1L, IMAGE_URL,
+                "https://bucket.s3/reviews/thumb/uuid_a.jpg", IMAGE_URL);
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 이미지는 원본 URL로 대체")
+    void generate_undecodable() {
+        when(s3UploaderService.openStream("reviews/uuid_a.png"))
+                .thenReturn(new ByteArrayInputStream("not an image".getBytes()));
+
+        generator.generate(1L);
+
+        verify(s3UploaderService, never()).upload(any(byte[].class), anyString(), anyString());
+        verify(reviewImageRepository).updateVariantUrls(1L, IMAGE_URL, IMAGE_URL, IMAGE_URL);
+        assertThat(generator.stats().fallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("잘린 이미지(EOF)도 디코딩할 수 없는 이미지로 보고 원본 URL로 대체")
+    void generate_truncated() throws IOException {
+        byte[] png = png(2000, 1000);
+        when(s3UploaderService.openStream("reviews/uuid_a.png"))
+                .thenReturn(new ByteArrayInputStream(Arrays.copyOf(png, png.length / 2)));
+
+        generator.generate(1L);
+
+        verify(s3UploaderService, never()).upload(any(byte[].class), anyString(), anyString());
+        verify(reviewImageRepository).updateVariantUrls(1L, IMAGE_URL, IMAGE_URL, IMAGE_URL);
+        verify(reviewImageRepository, never()).incrementVariantAttempts(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("S3 오류면 실패 횟수를 기록하고 보충 작업에서 다시 시도")
+    void generate_s3Failure() {
+        when(s3UploaderService.openStream("reviews/uuid_a.png")).thenThrow(new IllegalStateException("s3 down"));
+
+        generator.generate(1L);
+
+        verify(reviewImageRepository, never()).updateVariantUrls(any(), any(), any(), any());
+        verify(reviewImageRepository).incrementVariantAttempts(1L, IMAGE_URL);
+        assertThat(generator.stats().failed()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 횟수 한도에 도달하면 S3를 읽지 않고 원본 URL로 대체")
+    void generate_attemptsExhausted() {
+        when(reviewImageRepository.findById(1L)).thenReturn(Optional.of(
+                ReviewImage.builder().id(1L).imageUrl(IMAGE_URL).variantAttempts(3).build()));
+
+        generator.generate(1L);
+
+        verify(s3UploaderService, never()).openStream(anyString());
+        verify(reviewImageRepository).updateVariantUrls(1L, IMAGE_URL, IMAGE_URL, IMAGE_URL);
+        assertThat(generator.stats().fallbacks()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("생성 중 이미지가 교체/삭제되었으면 올린 변형 이미지를 삭제 예약")
+    void generate_imageReplaced() throws IOException {
+        when(s3UploaderService.openStream("reviews/uuid_a.png")).thenReturn(new ByteArrayInputStream(png(2000, 1000)));
+        when(reviewImageRepository.updateVariantUrls(anyLong(), anyString(), anyString(), anyString())).thenReturn(0);
+
+        generator.generate(1L);
+
+        verify(s3DeletionOutbox).enqueue(List.of("reviews/thumb/uuid_a.jpg", "reviews/medium/uuid_a.jpg"));
+    }
+
+    @Test
+    @DisplayName("이미 변형 이미지가 있으면 건너뜀")
+    void generate_alreadyDone() {
+        when(reviewImageRepository.findById(1L)).thenReturn(Optional.of(
+                ReviewImage.builder().id(1L).imageUrl(IMAGE_URL).thumbnailUrl(IMAGE_URL).build()));
+
+        generator.generate(1L);
+
+        verify(s3UploaderService, never()).openStream(anyString());
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 한도를 넘으면 디코딩하지 않음")
+    void decode_tooManyPixels() throws IOException {
+        assertThat(ReviewImageVariantGenerator.decode(new ByteArrayInputStream(png(100, 100)), 9_999)).isNull();
+        assertThat(ReviewImageVariantGenerator.decode(new ByteArrayInputStream(png(100, 100)), 10_000)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("비율을 유지한 채 목표 폭으로 축소")
+    void resize_keepsAspectRatio() {
+        BufferedImage resized = ReviewImageVariantGenerator.resize(new BufferedImage(3000, 4000, BufferedImage.TYPE_INT_ARGB), 960);
+
+        assertThat(resized.getWidth()).isEqualTo(960);
+        assertThat(resized.getHeight()).isEqualTo(1280);
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}
@@ -11,6 +11,7 @@ import com.reservation.exception.ReviewException;
 import com.reservation.repository.ReservationRepository;
 import com.reservation.repository.ReviewImageRepository;
 import com.reservation.repository.ReviewRepository;
+import com.reservation.repository.StoreRepository;
 import com.reservation.type.ErrorCode;
 import com.reservation.type.ReservationStatus;
 
@@ -18,6 +19,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -30,7 +33,13 @@ public class ReviewServiceTest {
     @Mock private ReservationRepository reservationRepository;
     @Mock private ReviewRepository reviewRepository;
     @Mock private ReviewImageRepository reviewImageRepository;
-    @Mock private S3UploaderService s3UploaderService;
+    @Mock private StoreRepository storeRepository;
+    @Mock private StoreListCache storeListCache;
+    @Mock private ReviewImageUploader reviewImageUploader;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private S3DeletionOutbox s3DeletionOutbox;
+    @Mock private ReviewImageVariantGenerator reviewImageVariantGenerator;
+    @Mock private S3StreamingUploader s3StreamingUploader;
 
     @InjectMocks
     private ReviewService reviewService;
@@ -38,6 +47,8 @@ public class ReviewServiceTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
     }
 
     @Test
@@ -73,13 +84,64 @@ public class ReviewServiceTest {
 
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
         when(reviewRepository.save(any(Review.class))).thenReturn(review);
-        when(s3UploaderService.upload(mockFile, "reviews")).thenReturn(fakeImageUrl);
+        when(reviewImageUploader.uploadAll(List.of(mockFile), "reviews")).thenReturn(List.of(fakeImageUrl));
 
         var response = reviewService.createReview(userId, request, List.of(mockFile));
 
         assertThat(response.getRating()).isEqualTo(4);
         assertThat(response.getImageUrls()).contains(fakeImageUrl);
+        // 리사이즈 이미지 생성 전에는 원본 URL로 대체
+        assertThat(response.getImages()).singleElement()
+                .satisfies(image -> assertThat(image.getThumbnailUrl()).isEqualTo(fakeImageUrl));
         verify(reviewImageRepository, times(1)).save(any(ReviewImage.class));
+        verify(reviewImageVariantGenerator).generateAfterCommit(anyList());
+        verify(storeRepository).applyRatingDelta(100L, 1, 4);
+        verify(storeListCache).evictRating(100L);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드로 올린 이미지 URL을 리뷰 이미지로 연결")
+    void createReview_streamedImageUrls() throws IOException {
+        Long userId = 1L;
+        User user = User.builder().id(userId).build();
+        Store store = Store.builder().id(100L).build();
+        Reservation reservation = Reservation.builder().id(10L).user(user).store(store).build();
+        String streamedUrl = "https://s3.bucket/reviews/uuid_big.jpg";
+
+        CreateReview.Request request = new CreateReview.Request();
+        request.setReservationId(10L);
+        request.setRating(5);
+        request.setImageUrls(List.of(streamedUrl));
+
+        when(reservationRepository.findById(10L)).thenReturn(Optional.of(reservation));
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reviewImageUploader.uploadAll(null, "reviews")).thenReturn(List.of());
+
+        var response = reviewService.createReview(userId, request, null);
+
+        verify(s3StreamingUploader).verifyUploadedBy(streamedUrl, "reviews", userId);
+        assertThat(response.getImageUrls()).containsExactly(streamedUrl);
+        verify(reviewImageRepository).save(any(ReviewImage.class));
+    }
+
+    @Test
+    @DisplayName("리뷰 생성 실패 - 본인이 올리지 않은 이미지 URL")
+    void createReview_foreignImageUrl() {
+        Long userId = 1L;
+        Reservation reservation = Reservation.builder().id(10L).user(User.builder().id(userId).build()).build();
+        String foreignUrl = "https://s3.bucket/reviews/uuid_other.jpg";
+
+        CreateReview.Request request = new CreateReview.Request();
+        request.setReservationId(10L);
+        request.setImageUrls(List.of(foreignUrl));
+
+        when(reservationRepository.findById(10L)).thenReturn(Optional.of(reservation));
+        doThrow(new ReviewException(ErrorCode.INVALID_IMAGE_URL))
+                .when(s3StreamingUploader).verifyUploadedBy(foreignUrl, "reviews", userId);
+
+        assertThrows(ReviewException.class, () -> reviewService.createReview(userId, request, null));
+        verify(reviewImageUploader, never()).uploadAll(any(), any());
+        verify(reviewRepository, never()).save(any());
     }
 
     @Test
@@ -100,6 +162,38 @@ public class ReviewServiceTest {
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
 
         assertThrows(ReservationException.class, () -> reviewService.createReview(userId, request, List.of()));
+        verify(reviewImageUploader, never()).uploadAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("리뷰 생성 실패 - DB 저장 실패 시 업로드한 이미지 삭제")
+    void createReview_saveFailedDeletesUploads() {
+        Long userId = 1L;
+        Long reservationId = 10L;
+
+        User user = User.builder().id(userId).build();
+        Store store = Store.builder().id(100L).build();
+        Reservation reservation = Reservation.builder()
+                .id(reservationId)
+                .user(user)
+                .store(store)
+                .build();
+
+        CreateReview.Request request = new CreateReview.Request();
+        request.setReservationId(reservationId);
+        request.setRating(4);
+
+        MultipartFile first = mock(MultipartFile.class);
+        MultipartFile second = mock(MultipartFile.class);
+        List<String> uploadedUrls = List.of("https://s3.bucket/reviews/a.jpg", "https://s3.bucket/reviews/b.jpg");
+
+        when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
+        when(reviewImageUploader.uploadAll(List.of(first, second), "reviews")).thenReturn(uploadedUrls);
+        when(reviewRepository.save(any(Review.class))).thenThrow(new IllegalStateException("db down"));
+
+        assertThrows(IllegalStateException.class,
+                () -> reviewService.createReview(userId, request, List.of(first, second)));
+        verify(reviewImageUploader).deleteAll(uploadedUrls, "reviews");
     }
 
     @Test
@@ -109,17 +203,22 @@ public class ReviewServiceTest {
         Long reviewId = 5L;
         String imageUrl = "https://bucket.s3/reviews/file1.jpg";
 
-        Review review = Review.builder().id(reviewId).user(User.builder().id(userId).build()).build();
-        ReviewImage image = ReviewImage.builder().review(review).imageUrl(imageUrl).build();
+        Store store = Store.builder().id(100L).build();
+        Review review = Review.builder().id(reviewId).user(User.builder().id(userId).build())
+                .store(store).rating(4).build();
 
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
-        when(reviewImageRepository.findByReviewId(reviewId)).thenReturn(List.of(image));
+        when(reviewImageRepository.findImageUrlsByReviewId(reviewId)).thenReturn(List.of(imageUrl));
 
         reviewService.deleteReview(reviewId, userId);
 
-        verify(s3UploaderService).delete("reviews/file1.jpg");
-        verify(reviewImageRepository).delete(image);
+        verify(s3DeletionOutbox).enqueue(
+                List.of("reviews/file1.jpg", "reviews/thumb/file1.jpg", "reviews/medium/file1.jpg"));
+        verify(reviewImageRepository).deleteAllByReviewIdInBulk(reviewId);
+        verify(reviewImageRepository, never()).delete(any(ReviewImage.class));
         verify(reviewRepository).delete(review);
+        verify(storeRepository).applyRatingDelta(100L, -1, -4);
+        verify(storeListCache).evictRating(100L);
     }
 
     @Test
@@ -131,32 +230,34 @@ public class ReviewServiceTest {
         String newImageUrl = "https://bucket.s3/reviews/new.jpg";
 
         User user = User.builder().id(userId).build();
+        Store store = Store.builder().id(100L).build();
         Review review = Review.builder()
                 .id(reviewId)
                 .user(user)
+                .store(store)
                 .rating(3)
                 .content("old content")
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        ReviewImage oldImage = ReviewImage.builder()
-                .imageUrl(oldImageUrl)
-                .review(review)
-                .build();
-
         MultipartFile newFile = mock(MultipartFile.class);
 
         when(reviewRepository.findById(reviewId)).thenReturn(Optional.of(review));
-        when(reviewImageRepository.findByReviewId(reviewId)).thenReturn(List.of(oldImage));
-        when(s3UploaderService.upload(newFile, "reviews")).thenReturn(newImageUrl);
+        when(reviewImageRepository.findImageUrlsByReviewId(reviewId)).thenReturn(List.of(oldImageUrl));
+        when(reviewImageUploader.uploadAll(List.of(newFile), "reviews")).thenReturn(List.of(newImageUrl));
 
         reviewService.updateReview(reviewId, userId, 5, "new content", List.of(newFile));
 
         assertThat(review.getRating()).isEqualTo(5);
         assertThat(review.getContent()).isEqualTo("new content");
 
-        verify(s3UploaderService).delete("reviews/old.jpg");
-        verify(reviewImageRepository).delete(oldImage);
+        verify(s3DeletionOutbox).enqueue(
+                List.of("reviews/old.jpg", "reviews/thumb/old.jpg", "reviews/medium/old.jpg"));
+        verify(reviewImageUploader, never()).deleteAll(any(), any());
+        verify(reviewImageRepository).deleteAllByReviewIdInBulk(reviewId);
         verify(reviewImageRepository).save(any(ReviewImage.class));
+        verify(reviewImageVariantGenerator).generateAfterCommit(anyList());
+        verify(storeRepository).applyRatingDelta(100L, 0, 2);
+        verify(storeListCache).evictRating(100L);
     }
 }
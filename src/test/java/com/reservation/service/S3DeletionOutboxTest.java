@@ -0,0 +1,98 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.reservation.domain.S3ObjectDeletion;
+import com.reservation.repository.S3ObjectDeletionRepository;
+
+public class S3DeletionOutboxTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 5, 1, 12, 0);
+
+    private S3ObjectDeletionRepository s3ObjectDeletionRepository;
+    private S3UploaderService s3UploaderService;
+    private S3DeletionOutbox s3DeletionOutbox;
+
+    @BeforeEach
+    void setUp() {
+        s3ObjectDeletionRepository = mock(S3ObjectDeletionRepository.class);
+        s3UploaderService = mock(S3UploaderService.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        s3DeletionOutbox = new S3DeletionOutbox(s3ObjectDeletionRepository, s3UploaderService, transactionTemplate,
+                100, 10, 300, 30, 3600);
+    }
+
+    @Test
+    @DisplayName("가져온 항목을 임대하고, 삭제에 성공한 행은 지우고 실패한 행은 백오프 후 재시도")
+    void drain_deletesAndRetries() {
+        S3ObjectDeletion ok = deletion(1L, "reviews/ok.jpg", 0);
+        S3ObjectDeletion broken = deletion(2L, "reviews/broken.jpg", 2);
+        when(s3ObjectDeletionRepository.lockDue(now, 100)).thenReturn(List.of(ok, broken));
+        when(s3UploaderService.deleteAll(List.of("reviews/ok.jpg", "reviews/broken.jpg")))
+                .thenReturn(Set.of("reviews/broken.jpg"));
+
+        int deleted = s3DeletionOutbox.drain(now);
+
+        assertThat(deleted).isEqualTo(1);
+        verify(s3ObjectDeletionRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(s3ObjectDeletionRepository).saveAll(List.of(broken));
+        assertThat(broken.getAttempts()).isEqualTo(3);
+        assertThat(broken.getNextAttemptAt()).isEqualTo(now.plusSeconds(120));
+        assertThat(ok.getNextAttemptAt()).isEqualTo(now.plusSeconds(300));
+        assertThat(s3DeletionOutbox.stats().failedAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다중 삭제 요청 자체가 실패하면 배치 전체를 재시도")
+    void drain_requestFailureRetriesAll() {
+        S3ObjectDeletion first = deletion(1L, "reviews/1.jpg", 0);
+        S3ObjectDeletion second = deletion(2L, "reviews/2.jpg", 0);
+        when(s3ObjectDeletionRepository.lockDue(now, 100)).thenReturn(List.of(first, second));
+        when(s3UploaderService.deleteAll(any())).thenThrow(new RuntimeException("S3 unavailable"));
+
+        assertThat(s3DeletionOutbox.drain(now)).isZero();
+
+        verify(s3ObjectDeletionRepository, never()).deleteAllByIdInBatch(any());
+        verify(s3ObjectDeletionRepository).saveAll(List.of(first, second));
+        assertThat(first.getNextAttemptAt()).isEqualTo(now.plusSeconds(30));
+        assertThat(second.getLastError()).isEqualTo("S3 unavailable");
+    }
+
+    @Test
+    @DisplayName("처리할 항목이 없으면 S3를 호출하지 않음")
+    void drain_empty() {
+        when(s3ObjectDeletionRepository.lockDue(any(), anyInt())).thenReturn(List.of());
+
+        assertThat(s3DeletionOutbox.drain(now)).isZero();
+        verify(s3ObjectDeletionRepository).lockDue(now, 100);
+    }
+
+    private S3ObjectDeletion deletion(Long id, String key, int attempts) {
+        return S3ObjectDeletion.builder()
+                .id(id)
+                .objectKey(key)
+                .attempts(attempts)
+                .nextAttemptAt(now.minusMinutes(1))
+                .createdAt(now.minusMinutes(1))
+                .build();
+    }
+}
@@ -0,0 +1,259 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.reservation.exception.ReviewException;
+import com.reservation.exception.ServerBusyException;
+import com.reservation.type.ErrorCode;
+
+public class S3StreamingUploaderTest {
+
+    private static final int PART_SIZE = S3StreamingUploader.MIN_PART_SIZE;
+
+    private InMemoryS3 s3;
+    private S3StreamingUploader uploader;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new InMemoryS3("test-bucket");
+        uploader = new S3StreamingUploader(s3.client(), "test-bucket", 5, 2, 100, 20, 0, 0);
+    }
+
+    @Test
+    @DisplayName("첫 파트보다 작은 이미지는 단일 PutObject로 업로드")
+    void upload_small() {
+        byte[] content = "small image".getBytes();
+
+        String url = uploader.upload(new ByteArrayInputStream(content), "reviews", "a.jpg", "image/jpeg", content.length, 1L);
+
+        String key = url.substring(url.indexOf("reviews/"));
+        assertThat(key).endsWith("_a.jpg");
+        assertThat(s3.objects().get(key)).isEqualTo(content);
+        assertThat(s3.uploadedPartSizes()).isEmpty();
+        assertEquals(1, uploader.stats().singleUploads());
+        assertEquals(0, uploader.stats().inUseBuffers());
+    }
+
+    @Test
+    @DisplayName("큰 이미지는 파트 크기 단위로 읽는 즉시 멀티파트 업로드")
+    void upload_multipart() {
+        long size = 2L * PART_SIZE + 123;
+        PatternInputStream in = new PatternInputStream(size, -1);
+        List<Long> readAtPart = new ArrayList<>();
+        s3.onPart(partSize -> readAtPart.add(in.position()));
+
+        String url = uploader.upload(in, "reviews", "big.jpg", "image/jpeg", -1, 1L);
+
+        // 파트를 보낼 때까지 그 파트만큼만 읽음 (본문 전체를 먼저 받아 두지 않음)
+        assertThat(readAtPart).containsExactly((long) PART_SIZE, 2L * PART_SIZE, size);
+        assertThat(s3.uploadedPartSizes()).containsExactly(PART_SIZE, PART_SIZE, 123);
+        assertThat(s3.objects().get(url.substring(url.indexOf("reviews/")))).isEqualTo(PatternInputStream.expected(size));
+        assertEquals(0, s3.openUploads());
+        assertEquals(1, uploader.stats().multipartUploads());
+        assertEquals(1, uploader.stats().allocatedBuffers());
+    }
+
+    @Test
+    @DisplayName("스트림이 도중에 끊기면 멀티파트 업로드를 중단")
+    void upload_streamFailure_aborts() {
+        PatternInputStream in = new PatternInputStream(3L * PART_SIZE, PART_SIZE + 10);
+
+        assertThrows(RuntimeException.class,
+                () -> uploader.upload(in, "reviews", "big.jpg", "image/jpeg", -1, 1L));
+
+        assertThat(s3.abortedUploadIds()).hasSize(1);
+        assertEquals(0, s3.openUploads());
+        assertThat(s3.objects()).isEmpty();
+        assertEquals(0, uploader.stats().inUseBuffers());
+    }
+
+    @Test
+    @DisplayName("크기 한도를 넘으면 업로드를 중단하고 거절")
+    void upload_tooLarge_aborts() {
+        PatternInputStream in = new PatternInputStream(25L * 1024 * 1024, -1);
+
+        ReviewException exception = assertThrows(ReviewException.class,
+                () -> uploader.upload(in, "reviews", "huge.jpg", "image/jpeg", -1, 1L));
+
+        assertEquals(ErrorCode.IMAGE_TOO_LARGE, exception.getErrorCode());
+        assertThat(s3.abortedUploadIds()).hasSize(1);
+        assertThat(s3.objects()).isEmpty();
+        assertThat(in.position()).isLessThanOrEqualTo(5L * PART_SIZE);
+    }
+
+    @Test
+    @DisplayName("선언된 크기가 한도를 넘으면 읽기 전에 거절")
+    void upload_declaredTooLarge() {
+        PatternInputStream in = new PatternInputStream(10, -1);
+
+        ReviewException exception = assertThrows(ReviewException.class,
+                () -> uploader.upload(in, "reviews", "huge.jpg", "image/jpeg", 21L * 1024 * 1024, 1L));
+
+        assertEquals(ErrorCode.IMAGE_TOO_LARGE, exception.getErrorCode());
+        assertEquals(0, in.position());
+        assertEquals(0, uploader.stats().allocatedBuffers());
+    }
+
+    @Test
+    @DisplayName("파일명의 경로 부분은 제거")
+    void upload_stripsPath() {
+        String url = uploader.upload(new ByteArrayInputStream(new byte[1]), "reviews", "../../etc/a.jpg", null, 1, 1L);
+
+        assertThat(url).doesNotContain("..").endsWith("_a.jpg");
+    }
+
+    @Test
+    @DisplayName("버퍼가 모두 사용 중이면 ServerBusyException")
+    void upload_noBuffer() throws Exception {
+        PartBufferPool pool = (PartBufferPool) ReflectionTestUtils.getField(uploader, "bufferPool");
+        byte[] first = pool.acquire(0, TimeUnit.MILLISECONDS);
+        byte[] second = pool.acquire(0, TimeUnit.MILLISECONDS);
+
+        assertThrows(ServerBusyException.class,
+                () -> uploader.upload(new ByteArrayInputStream(new byte[1]), "reviews", "a.jpg", null, 1, 1L));
+        assertEquals(1, uploader.stats().rejectedUploads());
+
+        pool.release(first);
+        pool.release(second);
+        uploader.upload(new ByteArrayInputStream(new byte[1]), "reviews", "a.jpg", null, 1, 1L);
+        assertEquals(2, uploader.stats().allocatedBuffers());
+    }
+
+    @Test
+    @DisplayName("본문 수신 속도가 최소 속도보다 느리면 업로드를 중단하고 버퍼를 반납")
+    void upload_slowClient_aborts() {
+        S3StreamingUploader slowGuarded = new S3StreamingUploader(s3.client(), "test-bucket", 5, 1, 100, 20,
+                1024L * 1024, 10);
+        InputStream slow = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                return read(new byte[1], 0, 1) < 0 ? -1 : 0;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                return 1;
+            }
+        };
+
+        ReviewException exception = assertThrows(ReviewException.class,
+                () -> slowGuarded.upload(slow, "reviews", "a.jpg", "image/jpeg", -1, 1L));
+
+        assertEquals(ErrorCode.IMAGE_UPLOAD_TOO_SLOW, exception.getErrorCode());
+        assertEquals(0, slowGuarded.stats().inUseBuffers());
+        assertEquals(1, slowGuarded.stats().rejectedUploads());
+        assertThat(s3.objects()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("파트 크기 설정이 범위를 벗어나면 시작 시 거절")
+    void constructor_invalidPartSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new S3StreamingUploader(s3.client(), "test-bucket", 4, 2, 100, 20, 0, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new S3StreamingUploader(s3.client(), "test-bucket", 2048, 2, 100, 20, 0, 0));
+    }
+
+    @Test
+    @DisplayName("본인이 스트리밍 업로드한 이미지 URL만 리뷰에 연결 가능")
+    void verifyUploadedBy() {
+        String url = uploader.upload(new ByteArrayInputStream(new byte[10]), "reviews", "a.jpg", "image/jpeg", 10, 7L);
+
+        uploader.verifyUploadedBy(url, "reviews", 7L);
+
+        assertEquals(ErrorCode.INVALID_IMAGE_URL, assertThrows(ReviewException.class,
+                () -> uploader.verifyUploadedBy(url, "reviews", 8L)).getErrorCode());
+        assertThrows(ReviewException.class,
+                () -> uploader.verifyUploadedBy("https://evil.example/reviews/a.jpg", "reviews", 7L));
+        assertThrows(ReviewException.class,
+                () -> uploader.verifyUploadedBy(url.replace("_a.jpg", "_b.jpg"), "reviews", 7L));
+    }
+
+    @Test
+    @DisplayName("반납된 버퍼를 다시 사용")
+    void bufferPool_reuses() throws Exception {
+        PartBufferPool pool = new PartBufferPool(16, 1);
+
+        byte[] buffer = pool.acquire(0, TimeUnit.MILLISECONDS);
+        assertThat(pool.acquire(10, TimeUnit.MILLISECONDS)).isNull();
+        pool.release(buffer);
+
+        assertSame(buffer, pool.acquire(0, TimeUnit.MILLISECONDS));
+        assertEquals(1, pool.allocated());
+    }
+
+    /**
+     * 길이만큼 규칙적인 바이트를 만들어 내는 스트림 (failAt 위치에 도달하면 IOException)
+     */
+    private static class PatternInputStream extends InputStream {
+
+        private final long size;
+        private final long failAt;
+        private long position;
+
+        PatternInputStream(long size, long failAt) {
+            this.size = size;
+            this.failAt = failAt;
+        }
+
+        static byte[] expected(long size) {
+            byte[] bytes = new byte[(int) size];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = valueAt(i);
+            }
+            return bytes;
+        }
+
+        private static byte valueAt(long position) {
+            return (byte) (position % 251);
+        }
+
+        long position() {
+            return position;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (failAt >= 0 && position >= failAt) {
+                throw new IOException("connection reset");
+            }
+            return position < size ? valueAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (position >= size) {
+                return -1;
+            }
+            if (failAt >= 0 && position >= failAt) {
+                throw new IOException("connection reset");
+            }
+            long limit = failAt >= 0 ? Math.min(size, failAt) : size;
+            int count = (int) Math.min(len, Math.max(1, limit - position));
+            for (int i = 0; i < count; i++) {
+                b[off + i] = valueAt(position++);
+            }
+            return count;
+        }
+    }
+}
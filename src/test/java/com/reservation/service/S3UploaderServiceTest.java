@@ -0,0 +1,68 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+
+public class S3UploaderServiceTest {
+
+    private AmazonS3 amazonS3;
+    private S3UploaderService s3UploaderService;
+
+    @BeforeEach
+    void setUp() {
+        amazonS3 = mock(AmazonS3.class);
+        s3UploaderService = new S3UploaderService(amazonS3);
+        ReflectionTestUtils.setField(s3UploaderService, "bucket", "test-bucket");
+    }
+
+    @Test
+    @DisplayName("키를 1000개 단위로 나눠 다중 객체 삭제 요청")
+    void deleteAll_chunksKeys() {
+        List<String> keys = IntStream.range(0, 2500).mapToObj(i -> "reviews/" + i + ".jpg").toList();
+
+        Set<String> failed = s3UploaderService.deleteAll(keys);
+
+        ArgumentCaptor<DeleteObjectsRequest> captor = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(amazonS3, times(3)).deleteObjects(captor.capture());
+        assertThat(captor.getAllValues()).extracting(request -> request.getKeys().size())
+                .containsExactly(1000, 1000, 500);
+        assertThat(captor.getValue().getBucketName()).isEqualTo("test-bucket");
+        assertThat(captor.getValue().getQuiet()).isTrue();
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일부 키만 실패하면 실패한 키를 반환")
+    void deleteAll_partialFailure() {
+        MultiObjectDeleteException.DeleteError error = new MultiObjectDeleteException.DeleteError();
+        error.setKey("reviews/2.jpg");
+        error.setCode("AccessDenied");
+        List<MultiObjectDeleteException.DeleteError> errors = new ArrayList<>();
+        errors.add(error);
+        when(amazonS3.deleteObjects(any(DeleteObjectsRequest.class)))
+                .thenThrow(new MultiObjectDeleteException(errors, new ArrayList<>()));
+
+        Set<String> failed = s3UploaderService.deleteAll(List.of("reviews/1.jpg", "reviews/2.jpg"));
+
+        assertThat(failed).containsExactly("reviews/2.jpg");
+    }
+}
@@ -0,0 +1,99 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+public class SignupAvailabilityFilterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SignupAvailabilityFilter signupAvailabilityFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        signupAvailabilityFilter = new SignupAvailabilityFilter(jdbcTemplate, 1000, 0.01);
+
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString("user_name")).thenReturn("existing");
+        when(rs.getString("email")).thenReturn("Existing@Example.com");
+        when(rs.getString("phone_number")).thenReturn("010-1234-5678");
+
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(1L);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(rs);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("구성 전에는 항상 DB 확인이 필요하다고 응답")
+    void mightContain_beforeRebuild() {
+        assertThat(signupAvailabilityFilter.mightContainUserId("anyone")).isTrue();
+        assertThat(signupAvailabilityFilter.stats().ready()).isFalse();
+    }
+
+    @Test
+    @DisplayName("재구성 후 기존 값은 있을 수도 있음, 대소문자/끝 공백만 다른 값도 있을 수도 있음")
+    void mightContain_afterRebuild() {
+        signupAvailabilityFilter.rebuild();
+
+        assertThat(signupAvailabilityFilter.mightContainUserId("existing")).isTrue();
+        assertThat(signupAvailabilityFilter.mightContainEmail("existing@example.com ")).isTrue();
+        assertThat(signupAvailabilityFilter.mightContainPhoneNumber("010-1234-5678")).isTrue();
+        assertThat(signupAvailabilityFilter.mightContainUserId("newcomer")).isFalse();
+        assertThat(signupAvailabilityFilter.stats().skippedLookups()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가입으로 추가된 값은 재구성 없이 바로 반영")
+    void add_afterRebuild() {
+        signupAvailabilityFilter.rebuild();
+        assertThat(signupAvailabilityFilter.mightContainEmail("new@example.com")).isFalse();
+
+        signupAvailabilityFilter.add("newcomer", "new@example.com", "010-0000-0000");
+
+        assertThat(signupAvailabilityFilter.mightContainUserId("newcomer")).isTrue();
+        assertThat(signupAvailabilityFilter.mightContainEmail("new@example.com")).isTrue();
+        assertThat(signupAvailabilityFilter.mightContainPhoneNumber("010-0000-0000")).isTrue();
+    }
+
+    @Test
+    @DisplayName("ASCII가 아닌 값은 필터로 판단하지 않고 DB 확인")
+    void mightContain_nonAscii() {
+        signupAvailabilityFilter.rebuild();
+
+        assertThat(signupAvailabilityFilter.mightContainUserId("사용자")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Bloom filter는 추가한 값을 놓치지 않고, false positive 비율은 목표 근처")
+    void bloomFilter_falsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("user" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("user" + i)).isTrue();
+            if (filter.mightContain("other" + i)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
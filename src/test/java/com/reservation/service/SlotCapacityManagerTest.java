@@ -0,0 +1,92 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.domain.Store;
+import com.reservation.repository.StoreSlotRepository;
+
+public class SlotCapacityManagerTest {
+
+    private StoreSlotRepository storeSlotRepository;
+    private SlotOccupancyCalendar slotOccupancyCalendar;
+    private SlotCapacityManager slotCapacityManager;
+
+    @BeforeEach
+    void setUp() {
+        storeSlotRepository = mock(StoreSlotRepository.class);
+        slotOccupancyCalendar = mock(SlotOccupancyCalendar.class);
+        slotCapacityManager = new SlotCapacityManager(storeSlotRepository, slotOccupancyCalendar, 30, 10, 60);
+    }
+
+    @Test
+    @DisplayName("예약 시각을 슬롯 시작 시각으로 내림")
+    void slotOf_truncatesToSlot() {
+        assertThat(slotCapacityManager.slotOf(LocalDateTime.of(2025, 5, 1, 18, 47, 12)))
+                .isEqualTo(LocalDateTime.of(2025, 5, 1, 18, 30));
+        assertThat(slotCapacityManager.slotOf(LocalDateTime.of(2025, 5, 1, 18, 0)))
+                .isEqualTo(LocalDateTime.of(2025, 5, 1, 18, 0));
+    }
+
+    @Test
+    @DisplayName("슬롯 행이 없으면 생성 후 좌석 확보")
+    void tryAcquire_createsSlotRow() {
+        Store store = Store.builder().id(1L).slotCapacity(4).build();
+        LocalDateTime slot = LocalDateTime.of(2025, 5, 1, 18, 30);
+        when(storeSlotRepository.tryReserve(1L, slot, 4)).thenReturn(0, 1);
+
+        boolean acquired = slotCapacityManager.tryAcquire(store, slot.plusMinutes(10));
+
+        assertThat(acquired).isTrue();
+        verify(storeSlotRepository).ensureSlot(1L, slot);
+        verify(slotOccupancyCalendar).adjust(1L, slot, 1);
+    }
+
+    @Test
+    @DisplayName("정원이 찬 슬롯은 이후 요청을 DB 조회 없이 거절하고, 좌석 반환 시 다시 시도")
+    void tryAcquire_fullSlotRejectedInMemory() {
+        Store store = Store.builder().id(1L).build();
+        LocalDateTime time = LocalDateTime.of(2025, 5, 1, 18, 30);
+        when(storeSlotRepository.tryReserve(anyLong(), any(), anyInt())).thenReturn(0);
+
+        assertThat(slotCapacityManager.tryAcquire(store, time)).isFalse();
+        assertThat(slotCapacityManager.tryAcquire(store, time)).isFalse();
+        verify(storeSlotRepository, times(2)).tryReserve(1L, time, 10);
+
+        slotCapacityManager.release(store, time);
+        when(storeSlotRepository.tryReserve(anyLong(), any(), anyInt())).thenReturn(1);
+
+        assertThat(slotCapacityManager.tryAcquire(store, time)).isTrue();
+        verify(storeSlotRepository).release(1L, time);
+    }
+
+    @Test
+    @DisplayName("보정 작업은 현재 슬롯 이후 점유 수를 초기화 후 재계산하고 메모리 기록을 비움")
+    void reconcile_recalculatesFromCurrentSlot() {
+        Store store = Store.builder().id(1L).slotCapacity(1).build();
+        LocalDateTime slot = LocalDateTime.of(2025, 5, 1, 18, 30);
+        when(storeSlotRepository.tryReserve(1L, slot, 1)).thenReturn(0);
+        slotCapacityManager.tryAcquire(store, slot);
+        when(storeSlotRepository.resetFrom(any())).thenReturn(3);
+
+        assertThat(slotCapacityManager.reconcile()).isEqualTo(3);
+
+        verify(storeSlotRepository).recalculateFrom(any(), eq(30), any());
+        verify(slotOccupancyCalendar).invalidateAll();
+        slotCapacityManager.tryAcquire(store, slot);
+        verify(storeSlotRepository, times(4)).tryReserve(1L, slot, 1);
+    }
+}
@@ -0,0 +1,72 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.domain.StoreSlot;
+import com.reservation.repository.StoreSlotRepository;
+
+public class SlotOccupancyCalendarTest {
+
+    private StoreSlotRepository storeSlotRepository;
+    private SlotOccupancyCalendar slotOccupancyCalendar;
+
+    private final LocalDate day = LocalDate.of(2025, 5, 1);
+
+    @BeforeEach
+    void setUp() {
+        storeSlotRepository = mock(StoreSlotRepository.class);
+        slotOccupancyCalendar = new SlotOccupancyCalendar(storeSlotRepository, 30, 1000, 60);
+    }
+
+    private StoreSlot slot(LocalDateTime slotTime, int reservedCount) {
+        return StoreSlot.builder()
+                .id(new StoreSlot.Id(1L, slotTime))
+                .reservedCount(reservedCount)
+                .build();
+    }
+
+    @Test
+    @DisplayName("기간 내 일자를 한 번의 조회로 적재하고 이후에는 메모리에서 반환")
+    void occupancy_loadsOnceForRange() {
+        when(storeSlotRepository.findByStoreIdAndSlotTimeRange(1L, day.atStartOfDay(), day.plusDays(2).atStartOfDay()))
+                .thenReturn(List.of(slot(day.atTime(18, 0), 2), slot(day.plusDays(1).atTime(0, 30), 1)));
+
+        List<int[]> first = slotOccupancyCalendar.occupancy(1L, day, day.plusDays(1));
+        List<int[]> second = slotOccupancyCalendar.occupancy(1L, day, day.plusDays(1));
+
+        assertThat(first.get(0)[36]).isEqualTo(2);
+        assertThat(first.get(1)[1]).isEqualTo(1);
+        assertThat(second.get(0)[36]).isEqualTo(2);
+        verify(storeSlotRepository, times(1))
+                .findByStoreIdAndSlotTimeRange(1L, day.atStartOfDay(), day.plusDays(2).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("좌석 확보/반환은 적재된 일자의 해당 칸에만 반영")
+    void adjust_updatesLoadedDay() {
+        when(storeSlotRepository.findByStoreIdAndSlotTimeRange(1L, day.atStartOfDay(), day.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of());
+        slotOccupancyCalendar.occupancy(1L, day, day);
+
+        slotOccupancyCalendar.adjust(1L, day.atTime(12, 30), 1);
+        slotOccupancyCalendar.adjust(1L, day.atTime(12, 30), 1);
+        slotOccupancyCalendar.adjust(1L, day.atTime(12, 30), -1);
+        slotOccupancyCalendar.adjust(1L, day.plusDays(3).atTime(12, 30), 1); // 적재되지 않은 일자
+
+        int[] counts = slotOccupancyCalendar.occupancy(1L, day, day).get(0);
+        assertThat(counts[25]).isEqualTo(1);
+        assertThat(counts[26]).isZero();
+    }
+}
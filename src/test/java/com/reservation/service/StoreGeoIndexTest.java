@@ -0,0 +1,161 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.reservation.domain.Store;
+
+public class StoreGeoIndexTest {
+
+    private StoreGeoIndex storeGeoIndex;
+
+    @BeforeEach
+    void setUp() {
+        storeGeoIndex = new StoreGeoIndex(mock(JdbcTemplate.class));
+    }
+
+    private Store store(Long id, Double lat, Double lng) {
+        return Store.builder().id(id).lat(lat).lng(lng).build();
+    }
+
+    @Test
+    @DisplayName("가까운 매장 순서대로 N개 조회")
+    void findNearest_ordersByDistance() {
+        storeGeoIndex.put(store(1L, 37.5665, 126.9780)); // 서울시청
+        storeGeoIndex.put(store(2L, 37.4979, 127.0276)); // 강남역
+        storeGeoIndex.put(store(3L, 35.1796, 129.0756)); // 부산
+        storeGeoIndex.put(store(4L, 37.5700, 126.9830)); // 종로
+
+        List<StoreGeoIndex.Nearby> nearest = storeGeoIndex.findNearest(37.5665, 126.9780, 3);
+
+        assertThat(nearest).extracting(StoreGeoIndex.Nearby::storeId).containsExactly(1L, 4L, 2L);
+        assertThat(nearest.get(0).distance()).isLessThan(0.01);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 매장은 인덱스에 반영")
+    void putAndRemove_updatesIndex() {
+        storeGeoIndex.put(store(1L, 37.5665, 126.9780));
+        storeGeoIndex.put(store(2L, 37.4979, 127.0276));
+
+        // 1번 매장을 부산으로 이동, 2번 매장 삭제
+        storeGeoIndex.put(store(1L, 35.1796, 129.0756));
+        storeGeoIndex.remove(2L);
+
+        List<StoreGeoIndex.Nearby> nearest = storeGeoIndex.findNearest(37.5665, 126.9780, 10);
+
+        assertThat(nearest).extracting(StoreGeoIndex.Nearby::storeId).containsExactly(1L);
+        assertThat(nearest.get(0).distance()).isGreaterThan(300);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 커밋 후에 반영")
+    void putAndRemove_inTransaction_appliedAfterCommit() {
+        storeGeoIndex.put(store(1L, 37.5665, 126.9780));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            storeGeoIndex.put(store(2L, 37.4979, 127.0276));
+            storeGeoIndex.remove(1L);
+            assertThat(storeGeoIndex.findNearest(37.5665, 126.9780, 10))
+                    .extracting(StoreGeoIndex.Nearby::storeId).containsExactly(1L);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(storeGeoIndex.findNearest(37.5665, 126.9780, 10))
+                .extracting(StoreGeoIndex.Nearby::storeId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("좌표가 없는 매장은 인덱스에서 제외")
+    void put_withoutCoordinates_isExcluded() {
+        storeGeoIndex.put(store(1L, 37.5665, 126.9780));
+        storeGeoIndex.put(store(1L, null, null));
+
+        assertThat(storeGeoIndex.size()).isZero();
+        assertThat(storeGeoIndex.findNearest(37.5665, 126.9780, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반경 밖의 매장은 제외")
+    void findNearest_withinRadius() {
+        storeGeoIndex.put(store(1L, 37.5665, 126.9780)); // 서울시청
+        storeGeoIndex.put(store(2L, 37.4979, 127.0276)); // 강남역 (약 8.8km)
+        storeGeoIndex.put(store(3L, 35.1796, 129.0756)); // 부산
+
+        List<StoreGeoIndex.Nearby> nearest = storeGeoIndex.findNearest(37.5665, 126.9780, 10, null, null, 10.0);
+
+        assertThat(nearest).extracting(StoreGeoIndex.Nearby::storeId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("거리가 같은 매장이 페이지 경계에 걸치면 매장 ID 순으로 이어서 조회")
+    void findNearest_tiedDistanceAcrossPages() {
+        for (long id = 1; id <= 5; id++) {
+            storeGeoIndex.put(store(id, 37.5700, 126.9830));
+        }
+
+        List<StoreGeoIndex.Nearby> first = storeGeoIndex.findNearest(37.5665, 126.9780, 2);
+        StoreGeoIndex.Nearby last = first.get(first.size() - 1);
+        List<StoreGeoIndex.Nearby> second = storeGeoIndex.findNearest(37.5665, 126.9780, 2,
+                last.distance(), last.storeId(), null);
+        last = second.get(second.size() - 1);
+        List<StoreGeoIndex.Nearby> third = storeGeoIndex.findNearest(37.5665, 126.9780, 2,
+                last.distance(), last.storeId(), null);
+
+        assertThat(first).extracting(StoreGeoIndex.Nearby::storeId).containsExactly(1L, 2L);
+        assertThat(second).extracting(StoreGeoIndex.Nearby::storeId).containsExactly(3L, 4L);
+        assertThat(third).extracting(StoreGeoIndex.Nearby::storeId).containsExactly(5L);
+    }
+
+    @Test
+    @DisplayName("커서로 다음 페이지를 이어 조회하면 전체 거리순 결과와 같음")
+    void findNearest_pagesFollowCursor() {
+        Random random = new Random(42);
+        List<StoreGeoIndex.Nearby> expected = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            double lat = 37.5 + random.nextGaussian() * (id % 10 == 0 ? 2.0 : 0.1);
+            double lng = 127.0 + random.nextGaussian() * (id % 10 == 0 ? 2.0 : 0.1);
+            storeGeoIndex.put(store(id, lat, lng));
+            expected.add(new StoreGeoIndex.Nearby(id, StoreGeoIndex.haversineKm(37.5, 127.0, lat, lng)));
+        }
+        expected.sort(Comparator.comparingDouble(StoreGeoIndex.Nearby::distance)
+                .thenComparingLong(StoreGeoIndex.Nearby::storeId));
+
+        List<StoreGeoIndex.Nearby> paged = new ArrayList<>();
+        List<StoreGeoIndex.Nearby> page = storeGeoIndex.findNearest(37.5, 127.0, 7);
+        while (!page.isEmpty()) {
+            paged.addAll(page);
+            StoreGeoIndex.Nearby last = page.get(page.size() - 1);
+            page = storeGeoIndex.findNearest(37.5, 127.0, 7, last.distance(), last.storeId(), null);
+        }
+
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("반경을 포함하는 위도/경도 사각형 계산")
+    void boundingBox_containsRadius() {
+        StoreGeoIndex.BoundingBox box = StoreGeoIndex.boundingBox(37.5665, 126.9780, 10.0);
+
+        assertThat(box.minLat()).isLessThan(37.4979);
+        assertThat(box.maxLng()).isGreaterThan(127.0276);
+        assertThat(StoreGeoIndex.haversineKm(37.5665, 126.9780, box.maxLat(), 126.9780)).isCloseTo(10.0, offset(0.01));
+    }
+}
@@ -0,0 +1,132 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.dto.StoreDto;
+import com.reservation.dto.store.StoreList;
+
+public class StoreListCacheTest {
+
+    private StoreListCache storeListCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        storeListCache = new StoreListCache(100, 60);
+        loads = new AtomicInteger();
+    }
+
+    private StoreList.Response load(StoreList.Response page) {
+        loads.incrementAndGet();
+        return page;
+    }
+
+    private StoreList.Response ratingPage(boolean hasNext, StoreDto... stores) {
+        return StoreList.Response.builder()
+                .stores(List.of(stores))
+                .nextCursor(hasNext ? StoreListCursor.of("rating", stores[stores.length - 1]).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private StoreDto store(long id, double avgRating) {
+        return StoreDto.builder().id(id).storeName("store" + id).avgRating(avgRating).build();
+    }
+
+    @Test
+    @DisplayName("같은 키는 캐시에서 반환하고 적중/미스를 기록")
+    void get_cachesByKey() {
+        StoreListCache.Key key = new StoreListCache.Key("rating", null, null, null, null, 2);
+        StoreList.Response page = ratingPage(false, store(1L, 4.5));
+
+        storeListCache.get(key, () -> load(page));
+        StoreList.Response cached = storeListCache.get(key, () -> load(page));
+
+        assertThat(cached).isSameAs(page);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(storeListCache.stats().hitCount()).isEqualTo(1);
+        assertThat(storeListCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("평점순 페이지는 변경된 매장의 평점이 페이지 범위에 들어갈 때만 무효화")
+    void evictStore_onlyAffectedRatingPages() {
+        StoreList.Response first = ratingPage(true, store(1L, 4.8), store(2L, 4.5));
+        StoreList.Response second = ratingPage(false, store(3L, 3.0), store(4L, 1.0));
+        StoreListCache.Key firstKey = new StoreListCache.Key("rating", null, null, null, null, 2);
+        StoreListCache.Key secondKey = new StoreListCache.Key("rating", null, null, null, first.getNextCursor(), 2);
+        storeListCache.get(firstKey, () -> load(first));
+        storeListCache.get(secondKey, () -> load(second));
+
+        // 평점 0.0인 신규 매장은 마지막 페이지에만 들어감
+        storeListCache.evictStore(null, new StoreListCache.StoreState(5L, "new", null, null, 0.0));
+
+        storeListCache.get(firstKey, () -> load(first));
+        storeListCache.get(secondKey, () -> load(second));
+        assertThat(loads.get()).isEqualTo(3);
+        assertThat(storeListCache.stats().invalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리뷰 변경 시 평점순 페이지와 해당 매장이 포함된 페이지만 무효화")
+    void evictRating_ratingPagesAndPagesContainingStore() {
+        StoreListCache.Key ratingKey = new StoreListCache.Key("rating", null, null, null, null, 2);
+        StoreListCache.Key nameKey = new StoreListCache.Key("name", null, null, null, null, 2);
+        StoreListCache.Key otherNameKey = new StoreListCache.Key("name", null, null, null, null, 1);
+        storeListCache.get(ratingKey, () -> load(ratingPage(false, store(2L, 4.0))));
+        storeListCache.get(nameKey, () -> load(ratingPage(false, store(1L, 3.0))));
+        storeListCache.get(otherNameKey, () -> load(ratingPage(false, store(2L, 4.0))));
+
+        storeListCache.evictRating(1L);
+
+        assertThat(storeListCache.stats().invalidationCount()).isEqualTo(2);
+        storeListCache.get(otherNameKey, () -> load(ratingPage(false, store(2L, 4.0))));
+        assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("반경 밖의 매장 변경은 반경 검색 페이지를 무효화하지 않음")
+    void evictStore_outsideRadius() {
+        double lat = StoreListCache.quantize(37.5665);
+        double lng = StoreListCache.quantize(126.9780);
+        StoreListCache.Key key = new StoreListCache.Key("name", lat, lng, 5.0, null, 20);
+        storeListCache.get(key, () -> load(ratingPage(false, store(1L, 4.0))));
+
+        // 부산에 신규 매장 등록
+        storeListCache.evictStore(null, new StoreListCache.StoreState(9L, "busan", 35.1796, 129.0756, 0.0));
+        assertThat(storeListCache.stats().invalidationCount()).isZero();
+
+        // 반경 안에 신규 매장 등록
+        storeListCache.evictStore(null, new StoreListCache.StoreState(10L, "seoul", 37.5700, 126.9830, 0.0));
+        assertThat(storeListCache.stats().invalidationCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화가 실행되면 결과를 반환만 하고 캐시에 남기지 않음")
+    void get_invalidatedWhileLoading() {
+        StoreListCache.Key key = new StoreListCache.Key("rating", null, null, null, null, 2);
+        StoreList.Response stale = ratingPage(false, store(1L, 4.5));
+        StoreList.Response fresh = ratingPage(false, store(1L, 2.0));
+
+        // 커밋 전 데이터를 읽는 사이 다른 트랜잭션이 커밋되어 무효화가 실행된 경우
+        StoreList.Response first = storeListCache.get(key, () -> {
+            StoreList.Response page = load(stale);
+            storeListCache.evictRating(1L);
+            return page;
+        });
+        StoreList.Response second = storeListCache.get(key, () -> load(fresh));
+        StoreList.Response third = storeListCache.get(key, () -> load(fresh));
+
+        assertThat(first).isSameAs(stale);
+        assertThat(second).isSameAs(fresh);
+        assertThat(third).isSameAs(fresh);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,38 @@
+package com.reservation.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.reservation.dto.StoreDto;
+import com.reservation.exception.UserException;
+
+public class StoreListCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 정렬 값과 매장 ID가 그대로 복원")
+    void encodeDecode_roundTrip() {
+        StoreDto last = StoreDto.builder().id(42L).storeName("가게:1").avgRating(4.25).distance(0.1 + 0.2).build();
+
+        for (String sort : new String[] {"name", "rating", "distance"}) {
+            StoreListCursor cursor = StoreListCursor.of(sort, last);
+
+            assertThat(StoreListCursor.decode(cursor.encode(), sort)).isEqualTo(cursor);
+        }
+        StoreListCursor distance = StoreListCursor.decode(StoreListCursor.of("distance", last).encode(), "distance");
+        assertThat(Double.parseDouble(distance.value())).isEqualTo(0.1 + 0.2);
+        assertThat(StoreListCursor.decode(StoreListCursor.of("name", last).encode(), "name").value()).isEqualTo("가게:1");
+    }
+
+    @Test
+    @DisplayName("다른 정렬 기준의 커서나 잘못된 커서는 거절")
+    void decode_invalid() {
+        String ratingCursor = StoreListCursor.of("rating", StoreDto.builder().id(1L).avgRating(3.0).build()).encode();
+
+        assertThrows(UserException.class, () -> StoreListCursor.decode(ratingCursor, "distance"));
+        assertThrows(UserException.class, () -> StoreListCursor.decode("not-base64!", "name"));
+        assertThat(StoreListCursor.decode(null, "name")).isNull();
+    }
+}
@@ -5,13 +5,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import com.reservation.domain.Store;
 import com.reservation.domain.User;
 import com.reservation.dto.StoreDto;
 import com.reservation.dto.store.DeleteStore;
 import com.reservation.dto.store.RegisterStore;
+import com.reservation.dto.store.StoreAvailability;
+import com.reservation.dto.store.StoreList;
 import com.reservation.dto.store.UpdateStore;
 import com.reservation.exception.UserException;
 import com.reservation.repository.StoreRepository;
@@ -21,10 +26,12 @@ import com.reservation.type.UserType;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 public class StoreServiceTest {
@@ -33,6 +40,10 @@ public class StoreServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private JdbcTemplate jdbcTemplate;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private StoreGeoIndex storeGeoIndex;
+    @Mock private StoreListCache storeListCache;
+    @Mock private SlotCapacityManager slotCapacityManager;
+    @Mock private SlotOccupancyCalendar slotOccupancyCalendar;
 
     @InjectMocks
     private StoreService storeService;
@@ -75,6 +86,8 @@ public class StoreServiceTest {
         // then
         assertThat(response.getStoreName()).isEqualTo("Test Store");
         verify(storeRepository, times(1)).save(any(Store.class));
+        verify(storeGeoIndex, times(1)).put(savedStore);
+        verify(storeListCache, times(1)).evictStore(isNull(), any(StoreListCache.StoreState.class));
     }
 
     @Test
@@ -113,6 +126,8 @@ public class StoreServiceTest {
         DeleteStore.Response response = storeService.deleteStore(userId, request);
 
         verify(storeRepository, times(1)).delete(store);
+        verify(storeGeoIndex, times(1)).remove(10L);
+        verify(storeListCache, times(1)).evictStore(any(StoreListCache.StoreState.class), isNull());
     }
 
     @Test
@@ -159,4 +174,72 @@ public class StoreServiceTest {
         assertThat(updatedStore.getStoreName()).isEqualTo("Updated Store");
         assertThat(updatedStore.getLat()).isEqualTo(35.0);
     }
+
+    @Test
+    @DisplayName("슬롯별 남은 좌석 수 조회")
+    void getAvailability_success() {
+        Store store = Store.builder().id(30L).slotCapacity(3).build();
+        LocalDate from = LocalDate.of(2025, 5, 1);
+
+        int[] firstDay = new int[48];
+        firstDay[36] = 3; // 18:00 슬롯 만석
+        firstDay[37] = 1; // 18:30 슬롯 1석 점유
+
+        when(storeRepository.findById(30L)).thenReturn(Optional.of(store));
+        when(slotCapacityManager.capacityOf(store)).thenReturn(3);
+        when(slotCapacityManager.getSlotMinutes()).thenReturn(30);
+        when(slotOccupancyCalendar.occupancy(30L, from, from.plusDays(1)))
+                .thenReturn(List.of(firstDay, new int[48]));
+
+        StoreAvailability.Response response = storeService.getAvailability(30L, from, from.plusDays(1));
+
+        assertThat(response.getDays()).hasSize(2);
+        assertThat(response.getDays().get(0).getRemaining()[36]).isZero();
+        assertThat(response.getDays().get(0).getRemaining()[37]).isEqualTo(2);
+        assertThat(response.getDays().get(1).getDate()).isEqualTo(from.plusDays(1));
+        assertThat(response.getDays().get(1).getRemaining()[0]).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("조회 기간이 최대 일수를 넘으면 실패")
+    void getAvailability_invalidRange() {
+        Store store = Store.builder().id(30L).build();
+        LocalDate from = LocalDate.of(2025, 5, 1);
+
+        when(storeRepository.findById(30L)).thenReturn(Optional.of(store));
+
+        assertThrows(UserException.class, () -> storeService.getAvailability(30L, from, from.plusDays(40)));
+    }
+
+    @Test
+    @DisplayName("공간 인덱스가 준비되지 않은 거리순 조회는 좌표 없는 매장을 제외하고 커서 이후만 조회")
+    @SuppressWarnings("unchecked")
+    void getStores_distanceFallback_excludesStoresWithoutCoordinates() {
+        when(storeListCache.get(any(), any())).thenAnswer(invocation ->
+                invocation.<Supplier<StoreList.Response>>getArgument(1).get());
+        when(storeGeoIndex.isReady()).thenReturn(false);
+        StoreDto last = StoreDto.builder().id(7L).distance(1.5).build();
+        String cursor = StoreListCursor.of("distance", last).encode();
+
+        storeService.getStores("distance", 37.5665, 126.9780, null, cursor, 2);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> params = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).query(sql.capture(), any(RowMapper.class), params.capture());
+        assertThat(sql.getValue()).contains("s.lat IS NOT NULL AND s.lng IS NOT NULL")
+                .contains("(t.distance > ? OR (t.distance = ? AND t.store_id > ?))");
+        double lat = StoreListCache.quantize(37.5665);
+        double lng = StoreListCache.quantize(126.9780);
+        assertThat(params.getValue()).containsExactly(lat, lng, lat, 1.5, 1.5, 7L, 3);
+    }
+
+    @Test
+    @DisplayName("평점 재계산 후 매장 목록 캐시 전체 무효화")
+    void recalculateRatings_evictsStoreListCache() {
+        when(storeRepository.recalculateRatings()).thenReturn(12);
+
+        assertThat(storeService.recalculateRatings()).isEqualTo(12);
+
+        verify(storeListCache).evictAll();
+    }
 }
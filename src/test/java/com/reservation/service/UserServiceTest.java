@@ -7,21 +7,32 @@ import static com.reservation.type.ErrorCode.USERID_ALREADY_IN_USE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.reservation.domain.User;
+import com.reservation.dto.user.CheckAvailability;
 import com.reservation.dto.user.CreateUser;
 import com.reservation.dto.user.DeleteUser;
 import com.reservation.dto.user.UpdateUser;
@@ -37,12 +48,23 @@ public class UserServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private PasswordHashingExecutor passwordHashingExecutor;
+
+	@Mock
+	private SignupAvailabilityFilter signupAvailabilityFilter;
+
+	@Mock
+	private TaskExecutor applicationTaskExecutor;
+
 	@InjectMocks
 	private UserService userService;
 
 	@BeforeEach
 	void setUp() {
 		MockitoAnnotations.openMocks(this);
+		when(passwordHashingExecutor.submit(any())).thenAnswer(invocation ->
+				CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
 	}
 
 	@Test
@@ -57,11 +79,10 @@ public class UserServiceTest {
 		request.setPhoneNumber("010-1234-5678");
 		request.setUserType(UserType.VISITER);
 		
-		when(userRepository.existsByUserId("testUser")).thenReturn(false);
-		when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
-		when(userRepository.existsByPhoneNumber("010-1234-5678")).thenReturn(false);
+		when(userRepository.findByUserIdOrEmailOrPhoneNumber("testUser", "test@example.com", "010-1234-5678"))
+				.thenReturn(List.of());
 		when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
-		when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// when
 		User savedUser = userService.createUser(request);
@@ -69,6 +90,38 @@ public class UserServiceTest {
 		// then
 		assertThat(savedUser.getUserId()).isEqualTo("testUser");
 		assertThat(savedUser.getPassword()).isEqualTo("encodedPassword");
+		verify(signupAvailabilityFilter).add("testUser", "test@example.com", "010-1234-5678");
+	}
+
+	@Test
+	@DisplayName("중복 확인 - 필터에 없는 값은 DB 조회 없이 사용 가능")
+	void checkAvailability_filterNegativeSkipsDatabase() {
+		when(signupAvailabilityFilter.mightContainUserId("newUser")).thenReturn(false);
+		when(signupAvailabilityFilter.mightContainEmail("new@example.com")).thenReturn(false);
+
+		CheckAvailability.Response response = userService.checkAvailability("newUser", "new@example.com", null);
+
+		assertThat(response.getUserIdAvailable()).isTrue();
+		assertThat(response.getEmailAvailable()).isTrue();
+		assertThat(response.getPhoneNumberAvailable()).isNull();
+		verify(userRepository, never()).existsByUserId(any());
+		verify(userRepository, never()).existsByEmail(any());
+		verify(userRepository, never()).existsByPhoneNumber(any());
+	}
+
+	@Test
+	@DisplayName("중복 확인 - 필터에 있을 수도 있는 값은 DB로 확인")
+	void checkAvailability_filterPositiveChecksDatabase() {
+		when(signupAvailabilityFilter.mightContainEmail("taken@example.com")).thenReturn(true);
+		when(signupAvailabilityFilter.mightContainPhoneNumber("010-9999-9999")).thenReturn(true);
+		when(userRepository.existsByEmail("taken@example.com")).thenReturn(true);
+		when(userRepository.existsByPhoneNumber("010-9999-9999")).thenReturn(false);
+
+		CheckAvailability.Response response = userService.checkAvailability(null, "taken@example.com", "010-9999-9999");
+
+		assertThat(response.getUserIdAvailable()).isNull();
+		assertThat(response.getEmailAvailable()).isFalse();
+		assertThat(response.getPhoneNumberAvailable()).isTrue();
 	}
 
 	@Test
@@ -77,7 +130,8 @@ public class UserServiceTest {
 		CreateUser.Request request = new CreateUser.Request();
 		request.setUserId("testUser");
 
-		when(userRepository.existsByUserId("testUser")).thenReturn(true);
+		when(userRepository.findByUserIdOrEmailOrPhoneNumber("testUser", null, null))
+				.thenReturn(List.of(uniqueFields("testUser", "other@example.com", "010-0000-0000")));
 
 		UserException exception = assertThrows(UserException.class, () -> userService.createUser(request));
 		assertThat(exception.getErrorCode()).isEqualTo(USERID_ALREADY_IN_USE);
@@ -90,8 +144,8 @@ public class UserServiceTest {
 		request.setUserId("newUser");
 		request.setEmail("test@example.com");
 
-		when(userRepository.existsByUserId("newUser")).thenReturn(false);
-		when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+		when(userRepository.findByUserIdOrEmailOrPhoneNumber("newUser", "test@example.com", null))
+				.thenReturn(List.of(uniqueFields("otherUser", "test@example.com", "010-0000-0000")));
 
 		UserException exception = assertThrows(UserException.class, () -> userService.createUser(request));
 		assertThat(exception.getErrorCode()).isEqualTo(EMAIL_ALREADY_IN_USE);
@@ -105,9 +159,8 @@ public class UserServiceTest {
 		request.setEmail("test@example.com");
 		request.setPhoneNumber("010-1111-1111");
 
-		when(userRepository.existsByUserId("newUser")).thenReturn(false);
-		when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
-		when(userRepository.existsByPhoneNumber("010-1111-1111")).thenReturn(true);
+		when(userRepository.findByUserIdOrEmailOrPhoneNumber("newUser", "test@example.com", "010-1111-1111"))
+				.thenReturn(List.of(uniqueFields("otherUser", "other@example.com", "010-1111-1111")));
 
 		UserException exception = assertThrows(UserException.class, () -> userService.createUser(request));
 		assertThat(exception.getErrorCode()).isEqualTo(PHONE_NUMBER_ALREADY_IN_USE);
@@ -122,12 +175,49 @@ public class UserServiceTest {
 		request.setPhoneNumber("010-1111-1111");
 		request.setUserType(UserType.ADMIN);
 
-		when(userRepository.existsByUserId("adminUser")).thenReturn(false);
-		when(userRepository.existsByEmail("admin@example.com")).thenReturn(false);
-		when(userRepository.existsByPhoneNumber("010-1111-1111")).thenReturn(false);
-
 		UserException exception = assertThrows(UserException.class, () -> userService.createUser(request));
 		assertThat(exception.getErrorCode()).isEqualTo(CANNOT_CREATE_ADMIN);
+		verify(userRepository, never()).findByUserIdOrEmailOrPhoneNumber(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("조회 후 동시 가입으로 유니크 제약 위반 시 중복 오류로 변환")
+	void createUser_concurrentDuplicate() {
+		CreateUser.Request request = new CreateUser.Request();
+		request.setUserId("newUser");
+		request.setEmail("race@example.com");
+		request.setPassword("password123");
+		request.setPhoneNumber("010-2222-2222");
+		request.setUserType(UserType.VISITER);
+
+		when(userRepository.findByUserIdOrEmailOrPhoneNumber("newUser", "race@example.com", "010-2222-2222"))
+				.thenReturn(List.of());
+		when(passwordEncoder.encode("password123")).thenReturn("encodedPassword");
+		when(userRepository.saveAndFlush(any(User.class))).thenThrow(new DataIntegrityViolationException("duplicate",
+				new ConstraintViolationException("Duplicate entry", new SQLException("Duplicate entry"),
+						"users." + User.UK_EMAIL)));
+
+		UserException exception = assertThrows(UserException.class, () -> userService.createUser(request));
+		assertThat(exception.getErrorCode()).isEqualTo(EMAIL_ALREADY_IN_USE);
+	}
+
+	private UserRepository.UniqueFields uniqueFields(String userId, String email, String phoneNumber) {
+		return new UserRepository.UniqueFields() {
+			@Override
+			public String getUserId() {
+				return userId;
+			}
+
+			@Override
+			public String getEmail() {
+				return email;
+			}
+
+			@Override
+			public String getPhoneNumber() {
+				return phoneNumber;
+			}
+		};
 	}
 
 	// deleteUser() 단위 테스트
@@ -223,7 +313,7 @@ public class UserServiceTest {
 	    when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
 	    when(passwordEncoder.matches(rawPassword, "encodedPassword")).thenReturn(true);
 
-	    User result = userService.validateUser(email, rawPassword);
+	    User result = userService.validateUser(email, rawPassword).join();
 
 	    assertThat(result.getEmail()).isEqualTo(email);
 	}
@@ -241,8 +331,54 @@ public class UserServiceTest {
 	    when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
 	    when(passwordEncoder.matches("wrongPassword", "encodedPassword")).thenReturn(false);
 
-	    assertThrows(UserException.class, () -> userService.validateUser(email, "wrongPassword"));
+	    CompletionException exception = assertThrows(CompletionException.class,
+	            () -> userService.validateUser(email, "wrongPassword").join());
+	    assertThat(exception.getCause()).isInstanceOf(UserException.class);
+	}
+
+	@Test
+	@DisplayName("저장된 해시가 현재 설정과 다르면 로그인 후 백그라운드 재해시")
+	void validateUser_rehashesOutdatedHash() {
+	    String email = "test@example.com";
+
+	    User user = User.builder()
+	            .id(1L)
+	            .email(email)
+	            .password("oldHash")
+	            .build();
+
+	    when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+	    when(passwordEncoder.matches("password123", "oldHash")).thenReturn(true);
+	    when(passwordEncoder.upgradeEncoding("oldHash")).thenReturn(true);
+	    when(passwordEncoder.encode("password123")).thenReturn("newHash");
+	    when(passwordHashingExecutor.submitBackground(any())).thenAnswer(invocation ->
+	            CompletableFuture.completedFuture(invocation.<Supplier<?>>getArgument(0).get()));
+	    doAnswer(invocation -> {
+	        invocation.<Runnable>getArgument(0).run();
+	        return null;
+	    }).when(applicationTaskExecutor).execute(any());
+
+	    userService.validateUser(email, "password123").join();
+
+	    verify(userRepository).updatePasswordIfUnchanged(1L, "oldHash", "newHash");
 	}
 
+	@Test
+	@DisplayName("저장된 해시가 현재 설정과 같으면 재해시하지 않음")
+	void validateUser_skipsRehashForCurrentHash() {
+	    String email = "test@example.com";
+
+	    User user = User.builder()
+	            .email(email)
+	            .password("encodedPassword")
+	            .build();
+
+	    when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+	    when(passwordEncoder.matches("password123", "encodedPassword")).thenReturn(true);
+	    when(passwordEncoder.upgradeEncoding("encodedPassword")).thenReturn(false);
+
+	    userService.validateUser(email, "password123").join();
 
+	    verify(passwordHashingExecutor, never()).submitBackground(any());
+	}
 }